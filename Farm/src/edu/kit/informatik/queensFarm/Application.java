@@ -1,10 +1,60 @@
 package edu.kit.informatik.queensFarm;
 
+import edu.kit.informatik.queensFarm.benchmark.BenchmarkResult;
+import edu.kit.informatik.queensFarm.benchmark.BenchmarkRunner;
+import edu.kit.informatik.queensFarm.benchmark.EngineBenchmark;
 import edu.kit.informatik.queensFarm.module.Farm;
 import edu.kit.informatik.queensFarm.module.FarmUI;
+import edu.kit.informatik.queensFarm.module.bot.BotStrategy;
+import edu.kit.informatik.queensFarm.module.bot.StrategyType;
+import edu.kit.informatik.queensFarm.module.event.FarmEventPublisher;
+import edu.kit.informatik.queensFarm.module.event.FarmingStatistics;
+import edu.kit.informatik.queensFarm.module.input.LineSource;
+import edu.kit.informatik.queensFarm.module.input.MappedFileLineSource;
+import edu.kit.informatik.queensFarm.module.output.BufferedOutputSink;
+import edu.kit.informatik.queensFarm.module.output.OutputSink;
+import edu.kit.informatik.queensFarm.module.persistence.GroupCommitter;
+import edu.kit.informatik.queensFarm.module.persistence.JournalReader;
+import edu.kit.informatik.queensFarm.module.persistence.JournalWriter;
+import edu.kit.informatik.queensFarm.server.BlockingGameServer;
+import edu.kit.informatik.queensFarm.server.GameServer;
+import edu.kit.informatik.queensFarm.server.LoadGenerator;
+import edu.kit.informatik.queensFarm.simulation.BatchResult;
+import edu.kit.informatik.queensFarm.simulation.BatchSimulator;
+import edu.kit.informatik.queensFarm.simulation.EloRatings;
+import edu.kit.informatik.queensFarm.simulation.GameRecord;
+import edu.kit.informatik.queensFarm.simulation.RandomCommandSource;
+import edu.kit.informatik.queensFarm.simulation.SimulationConfig;
+import edu.kit.informatik.queensFarm.simulation.Tournament;
+import edu.kit.informatik.queensFarm.simulation.TournamentConfig;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Entry point of this application. It creates the needed instances and runs the interactive command session.
+ * With the arguments "simulate games players startCapital winningCapital seed" it runs a batch of headless games
+ * driven by random commands instead. With the arguments "replay file" it reads all user input from the given
+ * command file and reports the number of commands per second at the end. With the arguments "journal file" every
+ * accepted action is recorded in the given command journal, and a game that was interrupted is continued from it.
+ * With the arguments "bots strategy..." the last players of the interactive session are played by bots, one bot
+ * with the given strategy per argument. With the arguments "benchmark name..." the microbenchmarks of the engine
+ * with the given names are run and their time and allocated memory per operation are printed, all of them if no
+ * name is given. With the arguments "server port" a TCP game server is started, on which every client plays a
+ * session of its own. With the arguments "server port threads" each session runs on a thread of its own instead of
+ * a single event loop serving all of them, on a virtual thread if the runtime supports it. With the arguments
+ * "load port clients commands seed" that many clients play random games on the game server on the given local port
+ * at the same time. With the arguments "tournament playersPerGame seeds firstSeed strategy..." the given bots play a
+ * round-robin tournament on the given number of consecutive seeds, and their ratings are reported. With the
+ * argument "events" the interactive session publishes the events of the game, and a summary of the farming of each
+ * player built from them is printed at the end.
  *
  * @author uyjad
  * @version 1.0
@@ -20,6 +70,97 @@ public final class Application {
      */
     public static final String UTILITY_CLASS_INSTANTIATION = "Utility class cannot be instantiated.";
 
+    /**
+     * Error message that the arguments of the simulation mode are invalid.
+     */
+    public static final String ERROR_ILLEGAL_SIMULATION_ARGUMENTS = "Error: expected arguments "
+            + "\"simulate games players startCapital winningCapital seed\" with integer values.";
+
+    /**
+     * Error message that the command file cannot be read. Expects one format argument: the reason.
+     */
+    public static final String ERROR_COMMAND_FILE = "Error: cannot read the command file: %s";
+
+    /**
+     * Error message that the command journal cannot be used. Expects one format argument: the reason.
+     */
+    public static final String ERROR_JOURNAL_FILE = "Error: cannot use the command journal: %s";
+
+    /**
+     * Error message that the arguments of the bot mode are invalid.
+     */
+    public static final String ERROR_ILLEGAL_BOT_ARGUMENTS = "Error: expected arguments \"bots strategy...\" "
+            + "with the strategies greedy or lookahead.";
+
+    /**
+     * Error message that a benchmark does not exist. Expects one format argument: the name of the benchmark.
+     */
+    public static final String ERROR_UNKNOWN_BENCHMARK = "Error: there is no benchmark named %s.";
+
+    /**
+     * Error message that the arguments of the server mode are invalid.
+     */
+    public static final String ERROR_ILLEGAL_SERVER_ARGUMENTS = "Error: expected arguments "
+            + "\"server port [threads]\" with a port between 0 and 65535.";
+
+    /**
+     * Error message that the arguments of the load mode are invalid.
+     */
+    public static final String ERROR_ILLEGAL_LOAD_ARGUMENTS = "Error: expected arguments "
+            + "\"load port clients commands seed\" with integer values.";
+
+    /**
+     * Error message that the game server cannot be used. Expects one format argument: the reason.
+     */
+    public static final String ERROR_SERVER = "Error: cannot use the game server: %s";
+
+    /**
+     * Error message that the arguments of the tournament mode are invalid.
+     */
+    public static final String ERROR_ILLEGAL_TOURNAMENT_ARGUMENTS = "Error: expected arguments "
+            + "\"tournament playersPerGame seeds firstSeed strategy...\" with at least playersPerGame strategies.";
+
+    private static final String MODE_SIMULATE = "simulate";
+    private static final String MODE_REPLAY = "replay";
+    private static final String MODE_JOURNAL = "journal";
+    private static final String MODE_BOTS = "bots";
+    private static final String MODE_BENCHMARK = "benchmark";
+    private static final String MODE_SERVER = "server";
+    private static final String MODE_LOAD = "load";
+    private static final String MODE_TOURNAMENT = "tournament";
+    private static final String MODE_EVENTS = "events";
+    private static final String SERVER_OPTION_THREADS = "threads";
+    private static final String MESSAGE_SERVER_STARTED = "Game server listens on port %d.";
+    private static final String MESSAGE_THREAD_SERVER_STARTED = "Game server listens on port %d "
+            + "with a %s thread per session.";
+    private static final String THREAD_KIND_VIRTUAL = "virtual";
+    private static final String THREAD_KIND_PLATFORM = "platform";
+    private static final String MESSAGE_LOAD_SUMMARY = "%d of %d sessions completed in %.3f seconds, "
+            + "%d bytes received (%.0f commands per second).";
+    private static final int NUMBER_OF_SERVER_ARGUMENTS = 2;
+    private static final int NUMBER_OF_THREAD_SERVER_ARGUMENTS = 3;
+    private static final int NUMBER_OF_LOAD_ARGUMENTS = 5;
+    private static final int MAXIMUM_PORT = 65535;
+    private static final int BENCHMARK_WARM_UP_ITERATIONS = 3;
+    private static final int BENCHMARK_MEASUREMENT_ITERATIONS = 5;
+    private static final long BENCHMARK_ITERATION_MILLIS = 500;
+    private static final int NUMBER_OF_REPLAY_ARGUMENTS = 2;
+    private static final int NUMBER_OF_JOURNAL_ARGUMENTS = 2;
+    private static final long JOURNAL_COMMIT_INTERVAL_MILLIS = 50;
+    private static final double NANOSECONDS_PER_SECOND = 1_000_000_000.0;
+    private static final String MESSAGE_REPLAY_SUMMARY = "Replayed %d commands in %.3f seconds "
+            + "(%.0f commands per second).";
+    private static final int NUMBER_OF_SIMULATION_ARGUMENTS = 6;
+    private static final int MAXIMUM_COMMANDS_PER_SIMULATED_GAME = 10_000;
+    private static final int FIRST_TOURNAMENT_STRATEGY_ARGUMENT = 4;
+    private static final int TOURNAMENT_START_CAPITAL = 20;
+    private static final int TOURNAMENT_WINNING_CAPITAL = 200;
+    private static final int MAXIMUM_TURNS_PER_TOURNAMENT_GAME = 2_000;
+    private static final int NUMBER_OF_TOURNAMENT_PROGRESS_REPORTS = 10;
+    private static final String MESSAGE_TOURNAMENT_PROGRESS = "%d of %d games played, leader %s.";
+    private static final String MESSAGE_TOURNAMENT_SUMMARY = "Played %d games in %.3f seconds "
+            + "(%.1f games per second).";
+
     /**
      * Private constructor to avoid object generation.
      */
@@ -29,17 +170,369 @@ public final class Application {
 
     /**
      * The main entry point of the application. Starts the interactive command line session.
-     * Expects no arguments. If there is arguments, error messages will be printed.
+     * Expects no arguments, except for the simulation mode. If there are other arguments, error messages
+     * will be printed.
      *
      * @param args the command line arguments
      */
     public static void main(String[] args) {
+        if (args.length != 0 && args[0].equals(MODE_SIMULATE)) {
+            simulate(args);
+            return;
+        }
+        if (args.length == NUMBER_OF_REPLAY_ARGUMENTS && args[0].equals(MODE_REPLAY)) {
+            replay(Path.of(args[1]));
+            return;
+        }
+        if (args.length == NUMBER_OF_JOURNAL_ARGUMENTS && args[0].equals(MODE_JOURNAL)) {
+            playWithJournal(Path.of(args[1]));
+            return;
+        }
+        if (args.length != 0 && args[0].equals(MODE_BOTS)) {
+            playWithBots(args);
+            return;
+        }
+        if (args.length != 0 && args[0].equals(MODE_BENCHMARK)) {
+            runBenchmarks(args);
+            return;
+        }
+        if (args.length != 0 && args[0].equals(MODE_SERVER)) {
+            serve(args);
+            return;
+        }
+        if (args.length != 0 && args[0].equals(MODE_LOAD)) {
+            generateLoad(args);
+            return;
+        }
+        if (args.length != 0 && args[0].equals(MODE_TOURNAMENT)) {
+            playTournament(args);
+            return;
+        }
+        if (args.length == 1 && args[0].equals(MODE_EVENTS)) {
+            playWithEventStatistics();
+            return;
+        }
         if (args.length != 0) {
             System.out.println(ERROR_ARGUMENTS_NOT_ALLOWED);
             return;
         }
-        Farm farm = new Farm();
+        Farm farm = new Farm(new BufferedOutputSink(System.out));
         FarmUI farmUI = new FarmUI(farm);
         farmUI.interactive();
     }
-}
\ No newline at end of file
+
+    /**
+     * Runs an interactive session whose events are summed up by a subscriber, and prints the summary at the end.
+     */
+    private static void playWithEventStatistics() {
+        FarmingStatistics statistics = new FarmingStatistics();
+        try (FarmEventPublisher events = new FarmEventPublisher()) {
+            events.subscribe(statistics);
+            Farm farm = new Farm(new BufferedOutputSink(System.out));
+            farm.attachEvents(events);
+            new FarmUI(farm).interactive();
+        }
+        try {
+            for (String line : statistics.awaitReport()) {
+                System.out.println(line);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs an interactive session in which the last players are played by bots.
+     *
+     * @param args the command line arguments of the bot mode
+     */
+    private static void playWithBots(String[] args) {
+        List<BotStrategy> bots = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            StrategyType type = StrategyType.getStrategyTypeFromString(args[i]);
+            if (type == null) {
+                System.out.println(ERROR_ILLEGAL_BOT_ARGUMENTS);
+                return;
+            }
+            bots.add(type.createStrategy());
+        }
+        if (bots.isEmpty()) {
+            System.out.println(ERROR_ILLEGAL_BOT_ARGUMENTS);
+            return;
+        }
+        Farm farm = new Farm(new BufferedOutputSink(System.out));
+        farm.seatBots(bots);
+        new FarmUI(farm).interactive();
+    }
+
+    /**
+     * Runs the game server until the process is ended. By default, a single event loop serves all clients.
+     *
+     * @param args the command line arguments of the server mode
+     */
+    private static void serve(String[] args) {
+        boolean hasThreadPerSession = args.length == NUMBER_OF_THREAD_SERVER_ARGUMENTS
+                && args[2].equals(SERVER_OPTION_THREADS);
+        int port;
+        try {
+            port = args.length == NUMBER_OF_SERVER_ARGUMENTS || hasThreadPerSession ? Integer.parseInt(args[1]) : -1;
+        } catch (NumberFormatException e) {
+            port = -1;
+        }
+        if (port < 0 || port > MAXIMUM_PORT) {
+            System.out.println(ERROR_ILLEGAL_SERVER_ARGUMENTS);
+            return;
+        }
+        if (hasThreadPerSession) {
+            serveWithThreads(port);
+            return;
+        }
+        try (GameServer server = new GameServer(port)) {
+            System.out.println(String.format(MESSAGE_SERVER_STARTED, server.getPort()));
+            server.run();
+        } catch (IOException e) {
+            System.out.println(String.format(ERROR_SERVER, e.getMessage()));
+        }
+    }
+
+    /**
+     * Runs the game server with a thread per session until the process is ended.
+     *
+     * @param port the port to listen on
+     */
+    private static void serveWithThreads(int port) {
+        try (BlockingGameServer server = new BlockingGameServer(port)) {
+            System.out.println(String.format(MESSAGE_THREAD_SERVER_STARTED, server.getPort(),
+                    server.isVirtual() ? THREAD_KIND_VIRTUAL : THREAD_KIND_PLATFORM));
+            server.run();
+        } catch (IOException e) {
+            System.out.println(String.format(ERROR_SERVER, e.getMessage()));
+        }
+    }
+
+    /**
+     * Lets many clients play random games on a local game server at the same time and prints the throughput.
+     *
+     * @param args the command line arguments of the load mode
+     */
+    private static void generateLoad(String[] args) {
+        if (args.length != NUMBER_OF_LOAD_ARGUMENTS) {
+            System.out.println(ERROR_ILLEGAL_LOAD_ARGUMENTS);
+            return;
+        }
+        int port;
+        int numOfClients;
+        int commandsPerClient;
+        long seed;
+        try {
+            port = Integer.parseInt(args[1]);
+            numOfClients = Integer.parseInt(args[2]);
+            commandsPerClient = Integer.parseInt(args[3]);
+            seed = Long.parseLong(args[4]);
+        } catch (NumberFormatException e) {
+            System.out.println(ERROR_ILLEGAL_LOAD_ARGUMENTS);
+            return;
+        }
+        if (port < 1 || port > MAXIMUM_PORT || numOfClients < 0 || commandsPerClient < 0) {
+            System.out.println(ERROR_ILLEGAL_LOAD_ARGUMENTS);
+            return;
+        }
+        LoadGenerator generator = new LoadGenerator(new InetSocketAddress(InetAddress.getLoopbackAddress(), port),
+                numOfClients, commandsPerClient, seed);
+        long startTime = System.nanoTime();
+        try {
+            generator.run();
+        } catch (IOException e) {
+            System.out.println(String.format(ERROR_SERVER, e.getMessage()));
+            return;
+        }
+        double elapsedSeconds = (System.nanoTime() - startTime) / NANOSECONDS_PER_SECOND;
+        long numOfCommands = (long) generator.getNumOfCompletedSessions() * commandsPerClient;
+        System.out.println(String.format(MESSAGE_LOAD_SUMMARY, generator.getNumOfCompletedSessions(), numOfClients,
+                elapsedSeconds, generator.getNumOfBytesReceived(),
+                numOfCommands / Math.max(elapsedSeconds, Double.MIN_NORMAL)));
+    }
+
+    /**
+     * Runs a round-robin tournament of bots on all available processors. The progress is printed while the games
+     * are rated, the table of the ratings and the throughput at the end.
+     *
+     * @param args the command line arguments of the tournament mode
+     */
+    private static void playTournament(String[] args) {
+        if (args.length < FIRST_TOURNAMENT_STRATEGY_ARGUMENT) {
+            System.out.println(ERROR_ILLEGAL_TOURNAMENT_ARGUMENTS);
+            return;
+        }
+        TournamentConfig config;
+        try {
+            config = new TournamentConfig(Integer.parseInt(args[1]), TOURNAMENT_START_CAPITAL,
+                    TOURNAMENT_WINNING_CAPITAL, Long.parseLong(args[3]), Integer.parseInt(args[2]),
+                    MAXIMUM_TURNS_PER_TOURNAMENT_GAME);
+        } catch (NumberFormatException e) {
+            System.out.println(ERROR_ILLEGAL_TOURNAMENT_ARGUMENTS);
+            return;
+        }
+        List<StrategyType> entrants = new ArrayList<>();
+        for (int i = FIRST_TOURNAMENT_STRATEGY_ARGUMENT; i < args.length; i++) {
+            StrategyType type = StrategyType.getStrategyTypeFromString(args[i]);
+            if (type == null) {
+                System.out.println(ERROR_ILLEGAL_TOURNAMENT_ARGUMENTS);
+                return;
+            }
+            entrants.add(type);
+        }
+        if (config.getPlayersPerGame() < 1 || config.getNumOfSeeds() < 0
+                || entrants.size() < config.getPlayersPerGame()) {
+            System.out.println(ERROR_ILLEGAL_TOURNAMENT_ARGUMENTS);
+            return;
+        }
+
+        Tournament tournament = new Tournament(entrants, config, Runtime.getRuntime().availableProcessors());
+        EloRatings ratings = tournament.getRatings();
+        int numOfGames = tournament.createSchedule().size();
+        int reportInterval = Math.max(1, numOfGames / NUMBER_OF_TOURNAMENT_PROGRESS_REPORTS);
+        int[] numOfGamesPlayed = new int[1];
+        long startTime = System.nanoTime();
+        try {
+            tournament.run((GameRecord game) -> {
+                numOfGamesPlayed[0]++;
+                if (numOfGamesPlayed[0] % reportInterval == 0 && numOfGamesPlayed[0] < numOfGames) {
+                    System.out.println(String.format(MESSAGE_TOURNAMENT_PROGRESS, numOfGamesPlayed[0], numOfGames,
+                            ratings.getName(ratings.getRanking().get(0))));
+                }
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException e) {
+            System.out.println(e.getCause());
+            return;
+        }
+        double elapsedSeconds = (System.nanoTime() - startTime) / NANOSECONDS_PER_SECOND;
+        for (String line : ratings.report()) {
+            System.out.println(line);
+        }
+        System.out.println(String.format(MESSAGE_TOURNAMENT_SUMMARY, numOfGames, elapsedSeconds,
+                numOfGames / Math.max(elapsedSeconds, Double.MIN_NORMAL)));
+    }
+
+    /**
+     * Runs the microbenchmarks of the engine one after another and prints a table of their results.
+     *
+     * @param args the command line arguments of the benchmark mode
+     */
+    private static void runBenchmarks(String[] args) {
+        List<EngineBenchmark> benchmarks = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            EngineBenchmark benchmark = EngineBenchmark.getBenchmarkFromString(args[i]);
+            if (benchmark == null) {
+                System.out.println(String.format(ERROR_UNKNOWN_BENCHMARK, args[i]));
+                return;
+            }
+            benchmarks.add(benchmark);
+        }
+        if (benchmarks.isEmpty()) {
+            benchmarks.addAll(List.of(EngineBenchmark.values()));
+        }
+        BenchmarkRunner runner = new BenchmarkRunner(BENCHMARK_WARM_UP_ITERATIONS, BENCHMARK_MEASUREMENT_ITERATIONS,
+                BENCHMARK_ITERATION_MILLIS);
+        System.out.println(BenchmarkResult.TABLE_HEADER);
+        for (EngineBenchmark benchmark : benchmarks) {
+            System.out.println(runner.run(benchmark));
+        }
+    }
+
+    /**
+     * Runs a batch of headless games with consecutive seeds and prints the throughput.
+     *
+     * @param args the command line arguments of the simulation mode
+     */
+    private static void simulate(String[] args) {
+        if (args.length != NUMBER_OF_SIMULATION_ARGUMENTS) {
+            System.out.println(ERROR_ILLEGAL_SIMULATION_ARGUMENTS);
+            return;
+        }
+        int numOfGames;
+        SimulationConfig config;
+        try {
+            numOfGames = Integer.parseInt(args[1]);
+            config = new SimulationConfig(Integer.parseInt(args[2]), Integer.parseInt(args[3]),
+                    Integer.parseInt(args[4]), Long.parseLong(args[5]), MAXIMUM_COMMANDS_PER_SIMULATED_GAME);
+        } catch (NumberFormatException e) {
+            System.out.println(ERROR_ILLEGAL_SIMULATION_ARGUMENTS);
+            return;
+        }
+        if (numOfGames < 0 || config.getNumOfPlayers() < 1) {
+            System.out.println(ERROR_ILLEGAL_SIMULATION_ARGUMENTS);
+            return;
+        }
+        List<SimulationConfig> configs = new ArrayList<>();
+        for (int i = 0; i < numOfGames; i++) {
+            configs.add(config.withSeed(config.getSeed() + i));
+        }
+        try {
+            BatchResult result = new BatchSimulator().run(configs,
+                    gameConfig -> new RandomCommandSource(gameConfig.getSeed()));
+            System.out.println(result);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            System.out.println(e.getCause());
+        }
+    }
+
+    /**
+     * Runs an interactive session whose user input is read from a command file. The game output is written to the
+     * console, the throughput is reported on the error stream, so it does not mix with the game output.
+     *
+     * @param commandFile the file that contains one line of user input per line
+     */
+    private static void replay(Path commandFile) {
+        try (LineSource commands = new MappedFileLineSource(commandFile)) {
+            long startTime = System.nanoTime();
+            Farm farm = new Farm(new BufferedOutputSink(System.out));
+            FarmUI farmUI = new FarmUI(farm, commands);
+            farmUI.interactive();
+            double elapsedSeconds = (System.nanoTime() - startTime) / NANOSECONDS_PER_SECOND;
+            System.err.println(String.format(MESSAGE_REPLAY_SUMMARY, commands.getLinesRead(), elapsedSeconds,
+                    commands.getLinesRead() / Math.max(elapsedSeconds, Double.MIN_NORMAL)));
+        } catch (IOException e) {
+            System.out.println(String.format(ERROR_COMMAND_FILE, e.getMessage()));
+        }
+    }
+
+    /**
+     * Runs an interactive session that records every accepted action in a command journal. If the journal already
+     * contains a game, the game is restored silently and continued at the turn where it was interrupted.
+     *
+     * @param journalFile the journal file
+     */
+    private static void playWithJournal(Path journalFile) {
+        OutputSink output = new BufferedOutputSink(System.out);
+        try (GroupCommitter committer = new GroupCommitter(JOURNAL_COMMIT_INTERVAL_MILLIS)) {
+            Farm farm = null;
+            long validLength = 0;
+            if (Files.exists(journalFile) && Files.size(journalFile) > 0) {
+                JournalReader reader = new JournalReader(journalFile);
+                farm = reader.restore(output);
+                validLength = reader.getValidLength();
+            }
+            try (JournalWriter journal = new JournalWriter(journalFile, committer, validLength)) {
+                if (farm == null) {
+                    farm = new Farm(output);
+                    farm.attachJournal(journal);
+                    new FarmUI(farm).interactive();
+                } else {
+                    farm.attachJournal(journal);
+                    new FarmUI(farm).resume();
+                }
+            }
+        } catch (IOException e) {
+            System.out.println(String.format(ERROR_JOURNAL_FILE, e.getMessage()));
+        } catch (UncheckedIOException e) {
+            output.flush();
+            System.out.println(String.format(ERROR_JOURNAL_FILE, e.getCause().getMessage()));
+        }
+    }
+}
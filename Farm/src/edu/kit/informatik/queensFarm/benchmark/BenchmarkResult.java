@@ -0,0 +1,95 @@
+package edu.kit.informatik.queensFarm.benchmark;
+
+/**
+ * This class describes the measurement of one benchmark: the average time and the allocated memory per operation.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class BenchmarkResult {
+    /**
+     * The header of the table that the results are printed in.
+     */
+    public static final String TABLE_HEADER = String.format("%-40s %12s %10s %12s %14s", "Benchmark", "ns/op",
+            "error", "B/op", "ops");
+    private static final String TABLE_ROW = "%-40s %12.1f %10.1f %12s %14d";
+    private static final String ALLOCATION_UNSUPPORTED = "n/a";
+    private static final String ALLOCATION_FORMAT = "%.1f";
+    private final String name;
+    private final long numOfOperations;
+    private final double nanosPerOperation;
+    private final double nanosError;
+    private final double bytesPerOperation;
+
+    /**
+     * Constructs a benchmark result.
+     *
+     * @param name name of the benchmark
+     * @param numOfOperations number of measured operations
+     * @param nanosPerOperation average time per operation in nanoseconds
+     * @param nanosError standard deviation of the average time of the measurement iterations
+     * @param bytesPerOperation average allocated bytes per operation, or a negative number if the JVM cannot count
+     *                          allocated bytes
+     */
+    public BenchmarkResult(String name, long numOfOperations, double nanosPerOperation, double nanosError,
+                           double bytesPerOperation) {
+        this.name = name;
+        this.numOfOperations = numOfOperations;
+        this.nanosPerOperation = nanosPerOperation;
+        this.nanosError = nanosError;
+        this.bytesPerOperation = bytesPerOperation;
+    }
+
+    /**
+     * Gets the name of the benchmark.
+     *
+     * @return name of the benchmark
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of measured operations.
+     *
+     * @return number of measured operations
+     */
+    public long getNumOfOperations() {
+        return numOfOperations;
+    }
+
+    /**
+     * Gets the average time per operation.
+     *
+     * @return average time per operation in nanoseconds
+     */
+    public double getNanosPerOperation() {
+        return nanosPerOperation;
+    }
+
+    /**
+     * Gets the standard deviation of the average time of the measurement iterations.
+     *
+     * @return the standard deviation in nanoseconds
+     */
+    public double getNanosError() {
+        return nanosError;
+    }
+
+    /**
+     * Gets the average allocated bytes per operation.
+     *
+     * @return average allocated bytes per operation, or a negative number if the JVM cannot count allocated bytes
+     */
+    public double getBytesPerOperation() {
+        return bytesPerOperation;
+    }
+
+    @Override
+    public String toString() {
+        String bytes = this.bytesPerOperation < 0 ? ALLOCATION_UNSUPPORTED
+                : String.format(ALLOCATION_FORMAT, this.bytesPerOperation);
+        return String.format(TABLE_ROW, this.name, this.nanosPerOperation, this.nanosError, bytes,
+                this.numOfOperations);
+    }
+}
@@ -0,0 +1,183 @@
+package edu.kit.informatik.queensFarm.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.function.IntSupplier;
+
+/**
+ * This class measures benchmarks on the current thread. Each benchmark runs some warm-up iterations, so the JIT
+ * compiler has optimized the operation, and then some measurement iterations of about the same duration.
+ * An iteration calls the operation in batches, so reading the clock does not distort short operations.
+ * Besides the time, the runner counts the bytes allocated by the current thread, like the GC profiler of JMH does
+ * with its normalized allocation rate. The results of the operations are consumed, so the JIT compiler cannot
+ * remove the measured work.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class BenchmarkRunner {
+    private static final long CALIBRATION_NANOS = 1_000_000;
+    private static final int UNSUPPORTED = -1;
+    private final int warmUpIterations;
+    private final int measurementIterations;
+    private final long iterationNanos;
+    private final com.sun.management.ThreadMXBean allocationCounter;
+    private int consumedResults;
+
+    /**
+     * Constructs a benchmark runner.
+     *
+     * @param warmUpIterations number of iterations before the measurement
+     * @param measurementIterations number of measured iterations
+     * @param iterationMillis duration of each iteration in milliseconds
+     */
+    public BenchmarkRunner(int warmUpIterations, int measurementIterations, long iterationMillis) {
+        this.warmUpIterations = warmUpIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationNanos = iterationMillis * 1_000_000;
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (threadBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported()) {
+            this.allocationCounter = (com.sun.management.ThreadMXBean) threadBean;
+            this.allocationCounter.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            this.allocationCounter = null;
+        }
+    }
+
+    /**
+     * Runs a benchmark on a fresh state.
+     *
+     * @param benchmark the benchmark to run
+     * @return the measurement of the benchmark
+     */
+    public BenchmarkResult run(EngineBenchmark benchmark) {
+        IntSupplier operation = benchmark.createOperation();
+        int batchSize = calibrate(operation);
+        for (int i = 0; i < this.warmUpIterations; i++) {
+            runIteration(operation, batchSize);
+        }
+
+        double[] nanosPerIteration = new double[this.measurementIterations];
+        long totalOperations = 0;
+        long totalBytes = 0;
+        for (int i = 0; i < this.measurementIterations; i++) {
+            IterationMeasurement measurement = runIteration(operation, batchSize);
+            nanosPerIteration[i] = (double) measurement.elapsedNanos / measurement.numOfOperations;
+            totalOperations += measurement.numOfOperations;
+            totalBytes += measurement.allocatedBytes;
+        }
+
+        double sumOfNanos = 0;
+        for (double nanos : nanosPerIteration) {
+            sumOfNanos += nanos;
+        }
+        double meanNanos = sumOfNanos / this.measurementIterations;
+        double sumOfSquaredDeviations = 0;
+        for (double nanos : nanosPerIteration) {
+            sumOfSquaredDeviations += (nanos - meanNanos) * (nanos - meanNanos);
+        }
+        double nanosError = this.measurementIterations < 2 ? 0
+                : Math.sqrt(sumOfSquaredDeviations / (this.measurementIterations - 1));
+        double bytesPerOperation = this.allocationCounter == null ? UNSUPPORTED
+                : (double) totalBytes / totalOperations;
+        return new BenchmarkResult(benchmark.getName(), totalOperations, meanNanos, nanosError, bytesPerOperation);
+    }
+
+    /**
+     * Finds the number of operations per batch, so that one batch takes about a millisecond.
+     *
+     * @param operation the measured operation
+     * @return the number of operations per batch
+     */
+    private int calibrate(IntSupplier operation) {
+        int batchSize = 1;
+        while (batchSize < Integer.MAX_VALUE / 2) {
+            long startTime = System.nanoTime();
+            runBatch(operation, batchSize);
+            if (System.nanoTime() - startTime >= CALIBRATION_NANOS) {
+                break;
+            }
+            batchSize *= 2;
+        }
+        return batchSize;
+    }
+
+    /**
+     * Runs batches of the operation until the duration of an iteration has passed.
+     *
+     * @param operation the measured operation
+     * @param batchSize number of operations per batch
+     * @return the measurement of the iteration
+     */
+    private IterationMeasurement runIteration(IntSupplier operation, int batchSize) {
+        long numOfOperations = 0;
+        long startBytes = getAllocatedBytes();
+        long startTime = System.nanoTime();
+        long elapsedNanos;
+        do {
+            runBatch(operation, batchSize);
+            numOfOperations += batchSize;
+            elapsedNanos = System.nanoTime() - startTime;
+        } while (elapsedNanos < this.iterationNanos);
+        long allocatedBytes = getAllocatedBytes() - startBytes;
+        return new IterationMeasurement(numOfOperations, elapsedNanos, allocatedBytes);
+    }
+
+    /**
+     * Calls the operation the given number of times and consumes the results.
+     *
+     * @param operation the measured operation
+     * @param batchSize number of calls
+     */
+    private void runBatch(IntSupplier operation, int batchSize) {
+        int result = 0;
+        for (int i = 0; i < batchSize; i++) {
+            result += operation.getAsInt();
+        }
+        this.consumedResults += result;
+    }
+
+    /**
+     * Gets the number of bytes the current thread has allocated so far.
+     *
+     * @return the allocated bytes, or zero if the JVM cannot count allocated bytes
+     */
+    private long getAllocatedBytes() {
+        if (this.allocationCounter == null) {
+            return 0;
+        }
+        return this.allocationCounter.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Gets the sum of all consumed results. It only exists so the results of the operations are used.
+     *
+     * @return the sum of all consumed results
+     */
+    public int getConsumedResults() {
+        return consumedResults;
+    }
+
+    /**
+     * This class describes the measurement of one iteration.
+     */
+    private static final class IterationMeasurement {
+        private final long numOfOperations;
+        private final long elapsedNanos;
+        private final long allocatedBytes;
+
+        /**
+         * Constructs the measurement of an iteration.
+         *
+         * @param numOfOperations number of operations called
+         * @param elapsedNanos elapsed nanoseconds
+         * @param allocatedBytes bytes allocated by the current thread, or zero if the JVM cannot count them
+         */
+        private IterationMeasurement(long numOfOperations, long elapsedNanos, long allocatedBytes) {
+            this.numOfOperations = numOfOperations;
+            this.elapsedNanos = elapsedNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+    }
+}
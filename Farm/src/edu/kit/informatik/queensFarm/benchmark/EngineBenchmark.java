@@ -0,0 +1,296 @@
+package edu.kit.informatik.queensFarm.benchmark;
+
+import edu.kit.informatik.queensFarm.module.Farm;
+import edu.kit.informatik.queensFarm.module.FarmException;
+import edu.kit.informatik.queensFarm.module.FarmUI;
+import edu.kit.informatik.queensFarm.module.event.DiscardingEventSink;
+import edu.kit.informatik.queensFarm.module.event.FarmEventSink;
+import edu.kit.informatik.queensFarm.module.game.Board;
+import edu.kit.informatik.queensFarm.module.game.Player;
+import edu.kit.informatik.queensFarm.module.game.Printer;
+import edu.kit.informatik.queensFarm.module.game.TurnScheduler;
+import edu.kit.informatik.queensFarm.module.game.Vector2D;
+import edu.kit.informatik.queensFarm.module.game.VegetableSet;
+import edu.kit.informatik.queensFarm.module.game.VegetableType;
+import edu.kit.informatik.queensFarm.module.game.land.ArableLand;
+import edu.kit.informatik.queensFarm.module.game.land.ArableLandType;
+import edu.kit.informatik.queensFarm.module.game.land.Barn;
+import edu.kit.informatik.queensFarm.module.game.market.Market;
+import edu.kit.informatik.queensFarm.module.jfr.GameEvent;
+import edu.kit.informatik.queensFarm.module.output.DiscardingOutputSink;
+import edu.kit.informatik.queensFarm.simulation.GameSimulation;
+import edu.kit.informatik.queensFarm.simulation.RandomCommandSource;
+import edu.kit.informatik.queensFarm.simulation.SimulationConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * This enum describes the microbenchmarks of the hot paths of the game engine. Each benchmark sets up its own state
+ * and creates an operation, which the benchmark runner calls again and again. An operation leaves its state as it
+ * found it, or cycles through a fixed set of states, so every call does the same work.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public enum EngineBenchmark {
+    /**
+     * Parses and executes commands with {@link FarmUI#parseInput(CharSequence)}: actions with coordinates, amounts
+     * and vegetables over two turns, mixed with show commands. Each cycle of the commands is played on a new fork of
+     * the same game, so every cycle finds the same state. The fork and the copies of the players it changes are part
+     * of the measured work.
+     */
+    PARSE_INPUT("parseInput") {
+        @Override
+        public IntSupplier createOperation() {
+            Farm game = createGame();
+            FarmUI[] farmUI = new FarmUI[1];
+            int[] next = new int[1];
+            return () -> {
+                if (next[0] == 0) {
+                    farmUI[0] = new FarmUI(game.fork(DiscardingOutputSink.INSTANCE));
+                }
+                String command = PARSED_COMMANDS[next[0]];
+                next[0] = (next[0] + 1) % PARSED_COMMANDS.length;
+                try {
+                    farmUI[0].parseInput(command);
+                } catch (FarmException e) {
+                    throw new IllegalStateException(e);
+                }
+                return command.length();
+            };
+        }
+    },
+
+    /**
+     * Shows a board with six lands, whose barn is emptied and filled again before each call, so the board is
+     * rendered every time.
+     */
+    SHOWN_BOARD("shownBoard") {
+        @Override
+        public IntSupplier createOperation() {
+            Board board = createBoard();
+            Barn emptyBarn = createBarn(false);
+            emptyBarn.clearBarn();
+            List<List<String>> barnDetails = List.of(createBarn(false).printBarnInBoard(),
+                    emptyBarn.printBarnInBoard());
+            int[] next = new int[1];
+            return () -> {
+                next[0] ^= 1;
+                return board.shownBoard(barnDetails.get(next[0])).length();
+            };
+        }
+    },
+
+    /**
+     * Formats the rows of a board with six lands with {@link Board#printArray(String[][], List, int)}.
+     */
+    PRINT_ARRAY("printArray") {
+        @Override
+        public IntSupplier createOperation() {
+            Board board = createBoard();
+            List<String> barnDetails = createBarn(false).printBarnInBoard();
+            String[][] rows = new String[3 * (BOARD_GREATEST_Y + 1)][BOARD_GREATEST_X - BOARD_SMALLEST_X + 1];
+            for (Vector2D coordinate : board.getLandCoordinates()) {
+                List<String> landDetails = board.getLand(coordinate.getX(), coordinate.getY()).printLandInBoard();
+                for (int k = 0; k < 3; k++) {
+                    rows[3 * (BOARD_GREATEST_Y - coordinate.getY()) + k][coordinate.getX() - BOARD_SMALLEST_X]
+                            = landDetails.get(k);
+                }
+            }
+            return () -> board.printArray(rows, barnDetails, BOARD_SMALLEST_X).length();
+        }
+    },
+
+    /**
+     * Checks the tiles around a board with six lands with {@link Board#isLocationValid(Vector2D)}.
+     */
+    IS_LOCATION_VALID("isLocationValid") {
+        @Override
+        public IntSupplier createOperation() {
+            Board board = createBoard();
+            List<Vector2D> coordinates = new ArrayList<>();
+            for (int y = -1; y <= BOARD_GREATEST_Y + 1; y++) {
+                for (int x = BOARD_SMALLEST_X - 1; x <= BOARD_GREATEST_X + 1; x++) {
+                    coordinates.add(new Vector2D(x, y));
+                }
+            }
+            int[] next = new int[1];
+            return () -> {
+                next[0] = (next[0] + 1) % coordinates.size();
+                return board.isLocationValid(coordinates.get(next[0])) ? 1 : 0;
+            };
+        }
+    },
+
+    /**
+     * Adds vegetables to a barn with {@link Barn#addVegetable(VegetableType, int)} and sells them again with
+     * {@link Barn#sell(List)}.
+     */
+    BARN_ADD_AND_SELL("addVegetable/sell") {
+        @Override
+        public IntSupplier createOperation() {
+            Barn barn = createBarn(true);
+            List<VegetableSet> sales = List.of(new VegetableSet(VegetableType.TOMATO, 2),
+                    new VegetableSet(VegetableType.SALAD, 1));
+            return () -> {
+                barn.addVegetable(VegetableType.TOMATO, 2);
+                barn.addVegetable(VegetableType.SALAD, 1);
+                return barn.sell(sales) ? 1 : 0;
+            };
+        }
+    },
+
+    /**
+     * Records a sale, calculates its gold with {@link Market#calculateGoldFromSale(List)} and updates the prices
+     * with {@link Market#updatePriceIndex(long, int, FarmEventSink)}. Mushrooms and carrots are sold in turns, so the
+     * prices move.
+     */
+    MARKET_SALE("calculateGoldFromSale/updatePriceIndex") {
+        @Override
+        public IntSupplier createOperation() {
+            Market market = new Market(DiscardingOutputSink.INSTANCE);
+            List<List<VegetableSet>> sales = List.of(List.of(new VegetableSet(VegetableType.MUSHROOM, 4)),
+                    List.of(new VegetableSet(VegetableType.CARROT, 4)));
+            int[] next = new int[1];
+            return () -> {
+                next[0] ^= 1;
+                market.recordSales(sales.get(next[0]));
+                int gold = market.calculateGoldFromSale(sales.get(next[0]));
+                market.updatePriceIndex(GameEvent.UNRECORDED_GAME_ID, 0, DiscardingEventSink.INSTANCE);
+                return gold;
+            };
+        }
+    },
+
+    /**
+     * Formats a barn with all vegetable types with {@link Printer#showBarn(int, String)}, like command "show barn".
+     */
+    SHOW_BARN("showBarn") {
+        @Override
+        public IntSupplier createOperation() {
+            Barn barn = createBarn(true);
+            return () -> new Printer(barn).showBarn(SIMULATED_START_CAPITAL, barn.getBarnDetails()).length();
+        }
+    },
+
+    /**
+     * Plays a whole headless game of two players with random commands.
+     */
+    SIMULATED_GAME("simulatedGame") {
+        @Override
+        public IntSupplier createOperation() {
+            SimulationConfig config = new SimulationConfig(SIMULATED_PLAYERS, SIMULATED_START_CAPITAL,
+                    SIMULATED_WINNING_CAPITAL, SIMULATED_SEED, SIMULATED_MAXIMUM_COMMANDS);
+            return () -> new GameSimulation(config, new RandomCommandSource(config.getSeed())).run()
+                    .getCommandsExecuted();
+        }
+    };
+
+    private static final int BOARD_SMALLEST_X = -2;
+    private static final int BOARD_GREATEST_X = 2;
+    private static final int BOARD_GREATEST_Y = 2;
+    private static final String[] PLAYER_NAMES = {"Alice", "Bob"};
+    /**
+     * The commands of benchmark {@link #PARSE_INPUT}. Each of them succeeds on the game of {@link #createGame()}.
+     */
+    private static final String[] PARSED_COMMANDS = {"plant -1 0 carrot", "show barn", "buy vegetable salad",
+        "sell carrot mushroom", "show board", "buy land 1 1", "harvest -1 0 1", "show market", "sell carrot salad"};
+    private static final int SIMULATED_PLAYERS = 2;
+    private static final int SIMULATED_START_CAPITAL = 20;
+    private static final int SIMULATED_WINNING_CAPITAL = 300;
+    private static final long SIMULATED_SEED = 1;
+    private static final int SIMULATED_MAXIMUM_COMMANDS = 10_000;
+    private final String name;
+
+    /**
+     * Constructs a benchmark.
+     *
+     * @param name name of the benchmarked methods
+     */
+    EngineBenchmark(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Sets up a fresh state and creates the operation that is measured on it.
+     *
+     * @return the measured operation, whose result is consumed by the runner
+     */
+    public abstract IntSupplier createOperation();
+
+    /**
+     * Gets the name of the benchmarked methods.
+     *
+     * @return name of the benchmarked methods
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the benchmark by its name, ignoring case.
+     *
+     * @param name the name of the benchmark or the name of the enum constant
+     * @return the benchmark, or null if there is no benchmark with this name
+     */
+    public static EngineBenchmark getBenchmarkFromString(String name) {
+        for (EngineBenchmark benchmark : values()) {
+            if (benchmark.name.equalsIgnoreCase(name) || benchmark.name().equalsIgnoreCase(name)) {
+                return benchmark;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Creates a game of two players, whose output is discarded.
+     *
+     * @return the game
+     */
+    private static Farm createGame() {
+        Farm farm = new Farm(DiscardingOutputSink.INSTANCE);
+        List<Player> players = new ArrayList<>();
+        for (String name : PLAYER_NAMES) {
+            players.add(new Player(name, players.size() + 1, DiscardingOutputSink.INSTANCE));
+        }
+        farm.initiateGame(players, SIMULATED_START_CAPITAL, SIMULATED_WINNING_CAPITAL, PLAYER_NAMES.length,
+                SIMULATED_SEED);
+        return farm;
+    }
+
+    /**
+     * Creates a board with three bought lands in addition to the initial ones, one of them planted.
+     *
+     * @return the board
+     */
+    private static Board createBoard() {
+        Board board = new Board(DiscardingOutputSink.INSTANCE, new TurnScheduler());
+        try {
+            board.buyNewLand(new Vector2D(BOARD_SMALLEST_X, 0), new ArableLand(ArableLandType.FOREST));
+            board.buyNewLand(new Vector2D(BOARD_GREATEST_X, 0), new ArableLand(ArableLandType.LARGE_FIELD));
+            board.buyNewLand(new Vector2D(0, BOARD_GREATEST_Y), new ArableLand(ArableLandType.FIELD));
+            board.plantVegetable(new Vector2D(0, 1), VegetableType.SALAD);
+        } catch (FarmException e) {
+            throw new IllegalStateException(e);
+        }
+        return board;
+    }
+
+    /**
+     * Creates a barn with the vegetables given at the start of a game.
+     *
+     * @param isStocked whether more vegetables are added to the barn
+     * @return the barn
+     */
+    private static Barn createBarn(boolean isStocked) {
+        Barn barn = new Barn(DiscardingOutputSink.INSTANCE, new TurnScheduler());
+        if (isStocked) {
+            for (VegetableType type : VegetableType.values()) {
+                barn.addVegetable(type, type.ordinal() + 1);
+            }
+        }
+        return barn;
+    }
+}
@@ -0,0 +1,219 @@
+package edu.kit.informatik.queensFarm.module;
+
+import edu.kit.informatik.queensFarm.module.game.VegetableType;
+import edu.kit.informatik.queensFarm.resource.ErrorMessage;
+
+/**
+ * This class reads a command from left to right in a single pass. Keywords, integers and vegetable names are
+ * recognized in place, so reading a command does not create any objects unless the command contains an integer
+ * that is out of range.
+ * One tokenizer is reused for all commands of a session.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class CommandTokenizer {
+    private static final char SEPARATOR_SPACE = ' ';
+    private static final char MINUS_SIGN = '-';
+    private static final char FIRST_DIGIT = '0';
+    private static final char LAST_DIGIT = '9';
+    private static final int RADIX = 10;
+    private static final VegetableType[] VEGETABLE_TYPES = VegetableType.values();
+    private CharSequence input;
+    private int position;
+    private int lastInteger;
+    private int overflowStart;
+    private int overflowEnd;
+
+    /**
+     * Starts reading a new command.
+     *
+     * @param command the command to read
+     */
+    public void reset(CharSequence command) {
+        this.input = command;
+        this.position = 0;
+        this.overflowStart = -1;
+        this.overflowEnd = -1;
+    }
+
+    /**
+     * Gets the character at the current position without consuming it.
+     *
+     * @return the current character, or the null character if the whole command has been read
+     */
+    public char peek() {
+        if (isAtEnd()) {
+            return '\0';
+        }
+        return this.input.charAt(this.position);
+    }
+
+    /**
+     * Checks whether the whole command has been read.
+     *
+     * @return true if the whole command has been read, otherwise false
+     */
+    public boolean isAtEnd() {
+        return this.position >= this.input.length();
+    }
+
+    /**
+     * Consumes the given literal if the command continues with it.
+     *
+     * @param literal the text expected at the current position
+     * @return true if the literal was consumed, otherwise false
+     */
+    public boolean consume(String literal) {
+        int length = literal.length();
+        if (this.input.length() - this.position < length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (this.input.charAt(this.position + i) != literal.charAt(i)) {
+                return false;
+            }
+        }
+        this.position += length;
+        return true;
+    }
+
+    /**
+     * Consumes the given literal if it is exactly the rest of the command.
+     *
+     * @param literal the text expected as the rest of the command
+     * @return true if the literal is the rest of the command, otherwise false
+     */
+    public boolean consumeRest(String literal) {
+        int start = this.position;
+        if (consume(literal) && isAtEnd()) {
+            return true;
+        }
+        this.position = start;
+        return false;
+    }
+
+    /**
+     * Consumes a single space.
+     *
+     * @return true if a space was consumed, otherwise false
+     */
+    public boolean consumeSpace() {
+        if (peek() == SEPARATOR_SPACE) {
+            this.position++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Reads an integer made of digits with an optional leading minus sign. The value can be fetched by
+     * {@link #getLastInteger()}. If the integer is out of range, the tokenizer remembers it, so the error can be
+     * reported by {@link #checkIntegers()} once the whole command is known to be valid.
+     *
+     * @param allowSign whether a leading minus sign is allowed
+     * @return true if an integer was read, otherwise false
+     */
+    public boolean readInteger(boolean allowSign) {
+        int start = this.position;
+        boolean isNegative = allowSign && peek() == MINUS_SIGN;
+        if (isNegative) {
+            this.position++;
+        }
+        int digitsStart = this.position;
+        // The value is accumulated as a negative number, because the range of negative integers is larger.
+        long value = 0;
+        boolean isOverflow = false;
+        while (!isAtEnd() && isDigit(peek())) {
+            if (!isOverflow) {
+                value = value * RADIX - (peek() - FIRST_DIGIT);
+                isOverflow = value < (isNegative ? Integer.MIN_VALUE : -(long) Integer.MAX_VALUE);
+            }
+            this.position++;
+        }
+        if (this.position == digitsStart) {
+            this.position = start;
+            return false;
+        }
+        if (isOverflow && this.overflowStart < 0) {
+            this.overflowStart = start;
+            this.overflowEnd = this.position;
+        }
+        this.lastInteger = isNegative ? (int) value : (int) -value;
+        return true;
+    }
+
+    /**
+     * Reads the name of a vegetable.
+     *
+     * @return the type of the vegetable, or null if the command does not continue with the name of a vegetable
+     */
+    public VegetableType readVegetable() {
+        for (VegetableType type : VEGETABLE_TYPES) {
+            if (consume(type.getName())) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads a vegetable name that is followed by a space or the end of the command.
+     *
+     * @return the type of the vegetable, or null if the next word is not the name of a vegetable
+     */
+    public VegetableType readVegetableWord() {
+        int start = this.position;
+        VegetableType type = readVegetable();
+        if (type != null && (isAtEnd() || peek() == SEPARATOR_SPACE)) {
+            return type;
+        }
+        this.position = start;
+        return null;
+    }
+
+    /**
+     * Checks whether the rest of the command contains a digit.
+     *
+     * @return true if the rest of the command contains a digit, otherwise false
+     */
+    public boolean restContainsDigit() {
+        for (int i = this.position; i < this.input.length(); i++) {
+            if (isDigit(this.input.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks that all integers read from the current command were in range.
+     *
+     * @throws FarmException if an integer was out of range
+     */
+    public void checkIntegers() throws FarmException {
+        if (this.overflowStart >= 0) {
+            throw new FarmException(ErrorMessage.ILLEGAL_INTEGER.format(
+                    this.input.subSequence(this.overflowStart, this.overflowEnd).toString()));
+        }
+    }
+
+    /**
+     * Gets the value of the last integer read.
+     *
+     * @return the value of the last integer read
+     */
+    public int getLastInteger() {
+        return this.lastInteger;
+    }
+
+    /**
+     * Checks whether the character is one of the digits 0 to 9.
+     *
+     * @param character character to check
+     * @return true if the character is a digit, otherwise false
+     */
+    private static boolean isDigit(char character) {
+        return character >= FIRST_DIGIT && character <= LAST_DIGIT;
+    }
+}
@@ -1,19 +1,42 @@
 package edu.kit.informatik.queensFarm.module;
 
+import edu.kit.informatik.queensFarm.module.bot.BotStrategy;
+import edu.kit.informatik.queensFarm.module.bot.GameAction;
+import edu.kit.informatik.queensFarm.module.event.DiscardingEventSink;
+import edu.kit.informatik.queensFarm.module.event.FarmEventSink;
+import edu.kit.informatik.queensFarm.module.event.GameOverEvent;
+import edu.kit.informatik.queensFarm.module.event.LandPurchasedEvent;
+import edu.kit.informatik.queensFarm.module.event.TurnChangedEvent;
+import edu.kit.informatik.queensFarm.module.event.VegetableBoughtEvent;
+import edu.kit.informatik.queensFarm.module.event.VegetablePlantedEvent;
+import edu.kit.informatik.queensFarm.module.event.VegetablesHarvestedEvent;
+import edu.kit.informatik.queensFarm.module.event.VegetablesSoldEvent;
 import edu.kit.informatik.queensFarm.module.game.GameOver;
 import edu.kit.informatik.queensFarm.module.game.Vector2D;
 import edu.kit.informatik.queensFarm.module.game.VegetableSet;
 import edu.kit.informatik.queensFarm.module.game.VegetableType;
 import edu.kit.informatik.queensFarm.module.game.land.ArableLand;
+import edu.kit.informatik.queensFarm.module.game.land.ArableLandType;
 import edu.kit.informatik.queensFarm.module.game.market.Market;
 import edu.kit.informatik.queensFarm.module.game.Player;
+import edu.kit.informatik.queensFarm.module.game.land.LandDeck;
 import edu.kit.informatik.queensFarm.module.game.land.LandManager;
+import edu.kit.informatik.queensFarm.module.jfr.ActionEvent;
+import edu.kit.informatik.queensFarm.module.jfr.GameEvent;
+import edu.kit.informatik.queensFarm.module.jfr.TurnEvent;
+import edu.kit.informatik.queensFarm.module.output.OutputSink;
+import edu.kit.informatik.queensFarm.module.persistence.JournalRecordType;
+import edu.kit.informatik.queensFarm.module.persistence.JournalWriter;
+import edu.kit.informatik.queensFarm.module.stats.CommandType;
 import edu.kit.informatik.queensFarm.resource.ErrorMessage;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This class represents the game queen's Farm.
@@ -21,29 +44,82 @@ import java.util.Random;
  * @version 1.0
  */
 public class Farm {
-    private static final List<String> NAMES = List.of("tomato", "mushroom", "salad", "carrot");
     private static final String MESSAGE_WHOSE_TURN = "It is %s's turn!";
     private static final String MESSAGE_ZERO_ITEM_SOLD = "You have sold 0 vegetables for 0 gold.";
+    private static final String MESSAGE_BOT_ACTION = "> %s";
+    private static final AtomicLong LAST_GAME_ID = new AtomicLong(GameEvent.UNRECORDED_GAME_ID);
+    /**
+     * The id of the game in the flight recorder events. Forks have no id, so the positions a bot searches are not
+     * recorded.
+     */
+    private long gameId = GameEvent.UNRECORDED_GAME_ID;
     private int winningCapital;
+    private long seed;
     private int countInFirstRound = 0;
     private final Market market;
     private List<Player> listOfPlayers;
-    private List<ArableLand> availableArableLands;
+    /**
+     * The lands for sale in the order they are sold. Forks of the game share the types of the lands.
+     */
+    private LandDeck landDeck;
+    /**
+     * Whether the player with the same index is shared with a fork of the game. A shared player is copied before
+     * it is changed.
+     */
+    private boolean[] isPlayerShared;
     private int currentPlayerIndex = 0;
     private int numOfPlayers;
     private int countOfActionsDone = 0;
     private boolean isGameOver;
     private boolean isNotFirstRound;
+    private final OutputSink output;
+    private JournalWriter journal;
+    /**
+     * The receiver of the events of this game. Forks do not publish events, so the positions a bot searches are
+     * not seen by the subscribers.
+     */
+    private FarmEventSink events = DiscardingEventSink.INSTANCE;
+    private List<BotStrategy> botStrategies = new ArrayList<>();
+    /**
+     * The bot on the seat of each player, indexed by the index of the player. Seats of human players are null.
+     */
+    private BotStrategy[] bots;
+    private int numOfTurnsPlayed;
 
     /**
      * Constructs an instance of Farm.
+     * @param output the sink that all messages of this game are written to
      */
-    public Farm() {
-        this.market = new Market();
+    public Farm(OutputSink output) {
+        this.output = output;
+        this.market = new Market(output);
         this.isGameOver = false;
         this.isNotFirstRound = false;
     }
 
+    /**
+     * Constructs a fork of the given game. The fork shares the players and the lands for sale with the game, and
+     * only copies the market, which is small.
+     * @param original the game to fork
+     * @param output the sink that all messages of the fork are written to
+     */
+    private Farm(Farm original, OutputSink output) {
+        this.output = output;
+        this.market = original.market.copy(output);
+        this.winningCapital = original.winningCapital;
+        this.seed = original.seed;
+        this.countInFirstRound = original.countInFirstRound;
+        this.listOfPlayers = new ArrayList<>(original.listOfPlayers);
+        this.landDeck = original.landDeck.copy();
+        this.currentPlayerIndex = original.currentPlayerIndex;
+        this.numOfPlayers = original.numOfPlayers;
+        this.countOfActionsDone = original.countOfActionsDone;
+        this.isGameOver = original.isGameOver;
+        this.isNotFirstRound = original.isNotFirstRound;
+        this.isPlayerShared = new boolean[this.numOfPlayers];
+        Arrays.fill(this.isPlayerShared, true);
+    }
+
     /**
      * Initiates the farm by setting up the player list, available shuffled lands and winning capital.
      * @param players the list of players
@@ -53,12 +129,39 @@ public class Farm {
      * @param seed seed
      */
     public void initiateGame(List<Player> players, int startCapital, int winningCapital, int numOfPlayers, long seed) {
+        this.gameId = LAST_GAME_ID.incrementAndGet();
         this.winningCapital = winningCapital;
+        this.seed = seed;
         this.numOfPlayers = numOfPlayers;
         this.listOfPlayers = players;
+        this.isPlayerShared = new boolean[numOfPlayers];
         initiatePlayers(startCapital);
+        initiateBots();
         initiateAvailableLands();
         shuffleLand(seed);
+        if (this.journal != null) {
+            List<String> names = new ArrayList<>();
+            for (Player player : players) {
+                names.add(player.getName());
+            }
+            this.journal.writeSetUp(names, startCapital, winningCapital, seed);
+        }
+    }
+
+    /**
+     * Attaches a command journal to this game. Every accepted action is recorded in it from now on.
+     * @param journal the journal to record the actions in
+     */
+    public void attachJournal(JournalWriter journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Attaches a receiver of the events of this game. Every change of the game is published to it from now on.
+     * @param events the receiver of the events
+     */
+    public void attachEvents(FarmEventSink events) {
+        this.events = events;
     }
 
     /**
@@ -71,12 +174,97 @@ public class Farm {
         }
     }
 
+    /**
+     * Lets bots take the seats of the last players of the next game. The first bot takes the seat of the player
+     * that is the given number of bots before the last player, the last bot takes the seat of the last player.
+     * Surplus bots are left out, if there are more bots than players.
+     * @param strategies the strategies of the bots
+     */
+    public void seatBots(List<BotStrategy> strategies) {
+        this.botStrategies = strategies;
+    }
+
+    /**
+     * Assigns the bots to the seats of the last players.
+     */
+    private void initiateBots() {
+        this.bots = new BotStrategy[this.numOfPlayers];
+        int firstSeat = this.numOfPlayers - this.botStrategies.size();
+        for (int i = Math.max(0, -firstSeat); i < this.botStrategies.size(); i++) {
+            this.bots[firstSeat + i] = this.botStrategies.get(i);
+        }
+    }
+
+    /**
+     * Checks whether the current player is a bot and the game is still running.
+     * @return true if a bot has to play the current turn, otherwise false
+     */
+    public boolean isBotTurn() {
+        return !this.isGameOver && this.bots != null && this.bots[this.currentPlayerIndex] != null;
+    }
+
+    /**
+     * Lets the bot on the seat of the current player play the whole turn. The bot picks its actions directly
+     * through the engine, and each action is printed like the command of a human player.
+     * An action that the game rejects ends the turn, so a bot cannot stall the game.
+     */
+    public void playBotTurn() {
+        BotStrategy bot = this.bots[this.currentPlayerIndex];
+        int turn = this.numOfTurnsPlayed;
+        while (!this.isGameOver && turn == this.numOfTurnsPlayed) {
+            GameAction action = bot.chooseAction(this);
+            this.output.println(String.format(MESSAGE_BOT_ACTION, action));
+            if (!action.execute(this)) {
+                changeTurn();
+            }
+        }
+    }
+
     /**
      * Initiates the list of available lands.
      */
     public void initiateAvailableLands() {
         LandManager landManager = new LandManager(this.numOfPlayers);
-        this.availableArableLands = landManager.initiateAvailableLands();
+        this.landDeck = landManager.createLandDeck();
+    }
+
+    /**
+     * Forks the game. The fork continues independently of this game: actions on one of them never change the
+     * other one. Both games share all players until they change them, and then each game changes its own copy of
+     * the player. A copy of a player is complete, with all lands and the barn, so the unit that is shared is the
+     * player and not the single land an action changes. The fork has no journal and no bots.
+     * Forking marks all players of this game as shared, so it must not run concurrently with any other use of this
+     * game. Forks of the same game may be played by different threads at the same time, because a game never
+     * changes a shared player: it copies the player first. Reading a shared player from several threads is safe as
+     * long as nobody prints it, since printing fills the render caches of its board and lands.
+     * @param forkOutput the sink that all messages of the fork are written to
+     * @return the fork
+     */
+    public Farm fork(OutputSink forkOutput) {
+        Arrays.fill(this.isPlayerShared, true);
+        return new Farm(this, forkOutput);
+    }
+
+    /**
+     * Gets the player with the given index in order to change it. If the player is shared with a fork, it is
+     * copied first.
+     * @param index the index of the player
+     * @return the player, which is not shared
+     */
+    private Player getPlayerForUpdate(int index) {
+        if (this.isPlayerShared[index]) {
+            this.listOfPlayers.set(index, this.listOfPlayers.get(index).copy(this.output));
+            this.isPlayerShared[index] = false;
+        }
+        return this.listOfPlayers.get(index);
+    }
+
+    /**
+     * Gets the current player in order to change it. If the player is shared with a fork, it is copied first.
+     * @return the current player, which is not shared
+     */
+    private Player getCurrentPlayerForUpdate() {
+        return getPlayerForUpdate(this.currentPlayerIndex);
     }
 
     /**
@@ -87,7 +275,7 @@ public class Farm {
         this.countOfActionsDone++;
         if (this.countOfActionsDone == 2) {
             this.countOfActionsDone = 0;
-            changeTurn();
+            moveToNextTurn();
         }
     }
 
@@ -105,11 +293,25 @@ public class Farm {
     }
 
     /**
-     * Changes player's turn. If it was the last player in the round, check if we have winners.
+     * Ends the turn of the current player on request.
      */
     public void changeTurn() {
-        this.market.updatePriceIndex();
+        if (this.journal != null) {
+            this.journal.writeAction(JournalRecordType.END_TURN);
+        }
+        moveToNextTurn();
+    }
+
+    /**
+     * Changes player's turn. If it was the last player in the round, check if we have winners.
+     */
+    private void moveToNextTurn() {
+        TurnEvent event = new TurnEvent(this.gameId, getCurrentPlayer().getId());
+        event.begin();
+        int previousPlayerId = getCurrentPlayer().getId();
+        this.market.updatePriceIndex(this.gameId, previousPlayerId, this.events);
         this.countOfActionsDone = 0;
+        this.numOfTurnsPlayed++;
         if (this.currentPlayerIndex == this.numOfPlayers - 1) {
             this.currentPlayerIndex = 0;
             //situation
@@ -120,18 +322,51 @@ public class Farm {
             this.currentPlayerIndex++;
             printTurnWithName();
         }
+        if (!this.isGameOver && this.events.isActive()) {
+            this.events.publish(new TurnChangedEvent(previousPlayerId, getCurrentPlayer().getId(),
+                    this.numOfTurnsPlayed));
+        }
         checkFirstRound();
         if (this.isNotFirstRound && !this.isGameOver) {
-            getCurrentPlayer().checkRound();
+            getCurrentPlayerForUpdate().checkRound(this.gameId, this.events);
+        }
+        if (event.isRecorded()) {
+            event.setNextPlayerId(getCurrentPlayer().getId());
+            event.commit();
+        }
+    }
+
+    /**
+     * Starts the flight recorder event of an action of the current player.
+     * @return the started event
+     */
+    private ActionEvent beginAction() {
+        ActionEvent event = new ActionEvent(this.gameId, getCurrentPlayer().getId());
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the flight recorder event of an action and commits it, if the game is recorded.
+     * @param event the event started by {@link #beginAction()}
+     * @param type the type of the action
+     * @param isAccepted whether the action was executed
+     * @return whether the action was executed
+     */
+    private boolean commitAction(ActionEvent event, CommandType type, boolean isAccepted) {
+        if (event.isRecorded()) {
+            event.setOutcome(type.getName(), isAccepted);
+            event.commit();
         }
+        return isAccepted;
     }
 
     /**
      * Prints the sentence that shows whose turn it is.
      */
     public void printTurnWithName() {
-        System.out.println();
-        System.out.println(String.format(MESSAGE_WHOSE_TURN, getCurrentPlayer().getName()));
+        this.output.println();
+        this.output.println(String.format(MESSAGE_WHOSE_TURN, getCurrentPlayer().getName()));
     }
 
     /**
@@ -139,8 +374,7 @@ public class Farm {
      * @param seed seed
      */
     public void shuffleLand(long seed) {
-        Random random = new Random(seed);
-        Collections.shuffle(this.availableArableLands, random);
+        this.landDeck.shuffle(seed);
     }
 
     /**
@@ -148,9 +382,11 @@ public class Farm {
      * @return true if at least one player has more than winning capital, otherwise false
      */
     public boolean endGame() {
-        GameOver gameOver = new GameOver(this.listOfPlayers, this.winningCapital);
+        GameOver gameOver = new GameOver(this.listOfPlayers, this.winningCapital, this.output);
         if (gameOver.printWinnerByWinningCapital()) {
             this.isGameOver = true;
+            // the game can only end after the last player of a round
+            publishGameOver(gameOver, this.listOfPlayers.get(this.numOfPlayers - 1).getId(), false);
             return true;
         }
         return false;
@@ -160,136 +396,224 @@ public class Farm {
      * Ends game triggered by command "quit".
      */
     public void endGameByQuit() {
-        GameOver gameOver = new GameOver(this.listOfPlayers, this.winningCapital);
+        if (this.journal != null) {
+            this.journal.writeAction(JournalRecordType.QUIT);
+        }
+        GameOver gameOver = new GameOver(this.listOfPlayers, this.winningCapital, this.output);
         if (gameOver.printWinnerByMaximumGold()) {
             this.isGameOver = true;
+            publishGameOver(gameOver, getCurrentPlayer().getId(), true);
+        }
+    }
+
+    /**
+     * Publishes the end of the game with its winners.
+     * @param gameOver the check that has found the winners
+     * @param playerId the id of the player whose turn has ended the game
+     * @param isQuit whether the game was ended by command "quit"
+     */
+    private void publishGameOver(GameOver gameOver, int playerId, boolean isQuit) {
+        if (this.events.isActive()) {
+            List<Integer> winnerIds = new ArrayList<>();
+            for (Player winner : gameOver.getWinners()) {
+                winnerIds.add(winner.getId());
+            }
+            this.events.publish(new GameOverEvent(playerId, winnerIds, isQuit));
         }
     }
 
     /**
      * Sells all vegetables in the barn.
+     * @return true, since selling all vegetables is always possible
      */
-    public void sellAll() {
-        List<VegetableSet> allVegetables = getCurrentPlayer().getAllVegetables();
+    public boolean sellAll() {
+        Player player = getCurrentPlayerForUpdate();
+        List<VegetableSet> allVegetables = player.getAllVegetables();
         if (allVegetables == null) {
-            sellZeroVegetable();
+            return sellZeroVegetable();
         } else {
+            ActionEvent event = beginAction();
             this.market.recordSales(allVegetables);
-            getCurrentPlayer().earnGoldFromSale(this.market.calculateGoldFromSale(allVegetables));
-            getCurrentPlayer().clearBarn();
+            int gold = this.market.calculateGoldFromSale(allVegetables);
+            player.earnGoldFromSale(gold);
+            player.clearBarn();
+            if (this.events.isActive()) {
+                this.events.publish(new VegetablesSoldEvent(player.getId(), allVegetables, gold));
+            }
+            if (this.journal != null) {
+                this.journal.writeAction(JournalRecordType.SELL_ALL);
+            }
             autoChangeTurn();
+            return commitAction(event, CommandType.SELL, true);
         }
     }
 
     /**
      * Sells zero vegetable and prints the message.
+     * @return true, since selling zero vegetables is always possible
      */
-    public void sellZeroVegetable() {
-        System.out.println(MESSAGE_ZERO_ITEM_SOLD);
+    public boolean sellZeroVegetable() {
+        ActionEvent event = beginAction();
+        this.output.println(MESSAGE_ZERO_ITEM_SOLD);
+        if (this.events.isActive()) {
+            this.events.publish(new VegetablesSoldEvent(getCurrentPlayer().getId(), List.of(), 0));
+        }
+        if (this.journal != null) {
+            this.journal.writeAction(JournalRecordType.SELL_NOTHING);
+        }
         autoChangeTurn();
+        return commitAction(event, CommandType.SELL, true);
     }
 
     /**
-     * Converts the given string list of vegetables into list of VegetableSet. Then sells the list of vegetables.
-     * @param saleArray array of vegetables to sell
-     * @throws FarmException if the name of saleArray is not valid
+     * Converts the given amounts of vegetables into list of VegetableSet. Then sells the list of vegetables.
+     * @param amountsToSell amount of each vegetable type to sell, indexed by the ordinal of the vegetable type
+     * @return true if the vegetables are sold, otherwise false
      */
-    public void sellMultiple(String[] saleArray) throws FarmException {
+    public boolean sellMultiple(int[] amountsToSell) {
         List<VegetableSet> vegetableSets = new ArrayList<>();
-        for (String name : saleArray) {
-            if (!NAMES.contains(name)) {
-                throw new FarmException(ErrorMessage.ILLEGAL_VEGETABLE_NAME.toString());
-
-            }
-        }
         for (VegetableType type : VegetableType.values()) {
-            int count = 0;
-            for (String itemName : saleArray) {
-                if (type.getName().equals(itemName)) {
-                    count++;
-                }
-            }
+            int count = amountsToSell[type.ordinal()];
             if (count != 0) {
                 vegetableSets.add(new VegetableSet(type, count));
             }
         }
-        sellVegetables(vegetableSets);
+        return sellVegetables(vegetableSets);
     }
 
     /**
      * Sells the given list of vegetables.
      * @param vegetables list of vegetables to sell
+     * @return true if the vegetables are sold, otherwise false
      */
-    public void sellVegetables(List<VegetableSet> vegetables) {
-        if (getCurrentPlayer().sellMultiple(vegetables)) {
+    public boolean sellVegetables(List<VegetableSet> vegetables) {
+        ActionEvent event = beginAction();
+        Player player = getCurrentPlayerForUpdate();
+        if (player.sellMultiple(vegetables)) {
             this.market.recordSales(vegetables);
-            getCurrentPlayer().earnGoldFromSale(this.market.calculateGoldFromSale(vegetables));
+            int gold = this.market.calculateGoldFromSale(vegetables);
+            player.earnGoldFromSale(gold);
+            if (this.events.isActive()) {
+                this.events.publish(new VegetablesSoldEvent(player.getId(), vegetables, gold));
+            }
+            if (this.journal != null) {
+                this.journal.writeSellMultiple(vegetables);
+            }
             autoChangeTurn();
+            return commitAction(event, CommandType.SELL, true);
         }
+        return commitAction(event, CommandType.SELL, false);
     }
 
     /**
      * Plants the requested vegetable on a given location.
      * @param vegetableToPlant vegetable to plant
      * @param coordinate coordinate of the land to plant
+     * @return true if the vegetable is planted, otherwise false
      */
-    public void plant(Vector2D coordinate, String vegetableToPlant) {
-        if (getCurrentPlayer().plant(coordinate, vegetableToPlant)) {
+    public boolean plant(Vector2D coordinate, VegetableType vegetableToPlant) {
+        ActionEvent event = beginAction();
+        if (getCurrentPlayerForUpdate().plant(coordinate, vegetableToPlant)) {
+            if (this.events.isActive()) {
+                this.events.publish(new VegetablePlantedEvent(getCurrentPlayer().getId(), coordinate,
+                        vegetableToPlant));
+            }
+            if (this.journal != null) {
+                this.journal.writePlant(coordinate.getX(), coordinate.getY(), vegetableToPlant);
+            }
             autoChangeTurn();
+            return commitAction(event, CommandType.PLANT, true);
         }
+        return commitAction(event, CommandType.PLANT, false);
     }
 
     /**
      * Harvests the vegetable on a given location.
      * @param amountToRemove amount to harvest
      * @param coordinate coordinate of the land to harvest
+     * @return true if the vegetables are harvested, otherwise false
      */
-    public void harvest(Vector2D coordinate, int amountToRemove) {
-        if (getCurrentPlayer().harvest(coordinate, amountToRemove)) {
+    public boolean harvest(Vector2D coordinate, int amountToRemove) {
+        ActionEvent event = beginAction();
+        ArableLand land = getCurrentPlayer().getBoard().getLand(coordinate.getX(), coordinate.getY());
+        VegetableType harvestedType = land == null ? null : land.getVegetableType();
+        if (getCurrentPlayerForUpdate().harvest(coordinate, amountToRemove)) {
+            if (this.events.isActive()) {
+                this.events.publish(new VegetablesHarvestedEvent(getCurrentPlayer().getId(), coordinate,
+                        harvestedType, amountToRemove));
+            }
+            if (this.journal != null) {
+                this.journal.writeHarvest(coordinate.getX(), coordinate.getY(), amountToRemove);
+            }
             autoChangeTurn();
+            return commitAction(event, CommandType.HARVEST, true);
         }
+        return commitAction(event, CommandType.HARVEST, false);
     }
 
     /**
      * Purchases a vegetable.
-     * @param vegetableName name of vegetable to buy
+     * @param vegetableToBuy vegetable to buy
+     * @return true if the vegetable is bought, otherwise false
      */
-    public void buyVegetable(String vegetableName) {
-        int priceOfVegetable = this.market.getCurrentPrice(vegetableName);
-        if (getCurrentPlayer().buyVegetable(vegetableName, priceOfVegetable)) {
+    public boolean buyVegetable(VegetableType vegetableToBuy) {
+        ActionEvent event = beginAction();
+        int priceOfVegetable = this.market.getPrice(vegetableToBuy);
+        if (getCurrentPlayerForUpdate().buyVegetable(vegetableToBuy, priceOfVegetable)) {
+            if (this.events.isActive()) {
+                this.events.publish(new VegetableBoughtEvent(getCurrentPlayer().getId(), vegetableToBuy,
+                        priceOfVegetable));
+            }
+            if (this.journal != null) {
+                this.journal.writeBuyVegetable(vegetableToBuy);
+            }
             autoChangeTurn();
+            return commitAction(event, CommandType.BUY_VEGETABLE, true);
         }
+        return commitAction(event, CommandType.BUY_VEGETABLE, false);
     }
 
     /**
      * Purchases a new land from the list of available lands.
      * @param xCoordinate coordinate x given by user
      * @param yCoordinate coordinate y given by user
+     * @return true if the land is bought, otherwise false
      */
-    public void buyLand(int xCoordinate, int yCoordinate) {
-        if (this.availableArableLands.isEmpty()) {
-            System.out.println(ErrorMessage.LAND_SOLD_OUT.toString());
-            return;
+    public boolean buyLand(int xCoordinate, int yCoordinate) {
+        ActionEvent event = beginAction();
+        ArableLandType nextLandType = getNextLandType();
+        if (nextLandType == null) {
+            this.output.println(ErrorMessage.LAND_SOLD_OUT.toString());
+            return commitAction(event, CommandType.BUY_LAND, false);
         }
-        if (this.getCurrentPlayer().buyLand(new Vector2D(xCoordinate, yCoordinate),
-                this.availableArableLands.get(0))) {
-            this.availableArableLands.remove(0);
+        Vector2D coordinate = new Vector2D(xCoordinate, yCoordinate);
+        if (getCurrentPlayerForUpdate().buyLand(coordinate, new ArableLand(nextLandType))) {
+            this.landDeck.draw();
+            if (this.events.isActive()) {
+                this.events.publish(new LandPurchasedEvent(getCurrentPlayer().getId(), coordinate, nextLandType,
+                        getCurrentPlayer().getBoard().calculateLandPrice(coordinate)));
+            }
+            if (this.journal != null) {
+                this.journal.writeBuyLand(xCoordinate, yCoordinate);
+            }
             autoChangeTurn();
+            return commitAction(event, CommandType.BUY_LAND, true);
         }
+        return commitAction(event, CommandType.BUY_LAND, false);
     }
 
     /**
      * Prints barn.
      */
     public void shownBarn() {
-        System.out.println(getCurrentPlayer().shownBarn());
+        this.output.println(getCurrentPlayer().shownBarn());
     }
 
     /**
      * Prints board.
      */
     public void shownBoard() {
-        System.out.println(getCurrentPlayer().shownBoard());
+        this.output.println(getCurrentPlayer().shownBoard());
     }
 
     /**
@@ -299,6 +623,59 @@ public class Farm {
         this.market.printMarket();
     }
 
+    /**
+     * Writes the complete state of the game: the turn cursor, the market, every player and the remaining lands.
+     * @param output the snapshot to write to
+     * @throws IOException if the snapshot cannot be written
+     */
+    public void writeState(DataOutput output) throws IOException {
+        output.writeInt(this.winningCapital);
+        output.writeLong(this.seed);
+        output.writeInt(this.numOfPlayers);
+        output.writeInt(this.currentPlayerIndex);
+        output.writeInt(this.countInFirstRound);
+        output.writeByte(this.countOfActionsDone);
+        output.writeBoolean(this.isNotFirstRound);
+        output.writeBoolean(this.isGameOver);
+        this.market.writeState(output);
+        for (Player player : this.listOfPlayers) {
+            output.writeUTF(player.getName());
+            output.writeInt(player.getId());
+            player.writeState(output);
+        }
+        // Lands in the deck have never been used, so their type is all there is to know about them.
+        this.landDeck.writeState(output);
+    }
+
+    /**
+     * Replaces the state of this game with the state written by {@link #writeState(DataOutput)}.
+     * The game must not have been initiated before.
+     * @param input the snapshot to read from
+     * @throws IOException if the snapshot cannot be read
+     */
+    public void readState(DataInput input) throws IOException {
+        this.gameId = LAST_GAME_ID.incrementAndGet();
+        this.winningCapital = input.readInt();
+        this.seed = input.readLong();
+        this.numOfPlayers = input.readInt();
+        this.currentPlayerIndex = input.readInt();
+        this.countInFirstRound = input.readInt();
+        this.countOfActionsDone = input.readUnsignedByte();
+        this.isNotFirstRound = input.readBoolean();
+        this.isGameOver = input.readBoolean();
+        this.market.readState(input);
+        // Bots are not part of the state of a game. A restored game is played by humans only.
+        this.bots = null;
+        this.listOfPlayers = new ArrayList<>();
+        this.isPlayerShared = new boolean[this.numOfPlayers];
+        for (int i = 0; i < this.numOfPlayers; i++) {
+            Player player = new Player(input.readUTF(), input.readInt(), this.output);
+            player.readState(input);
+            this.listOfPlayers.add(player);
+        }
+        this.landDeck = LandDeck.readState(input);
+    }
+
     /**
      * shows whether game is over.
      * @return true if game is over, otherwise false
@@ -307,6 +684,14 @@ public class Farm {
         return isGameOver;
     }
 
+    /**
+     * Gets the sink that all messages of this game are written to.
+     * @return the sink of this game
+     */
+    public OutputSink getOutput() {
+        return this.output;
+    }
+
     /**
      * Gets the current player.
      * @return the current player
@@ -315,4 +700,61 @@ public class Farm {
         return this.listOfPlayers.get(currentPlayerIndex);
     }
 
+    /**
+     * Gets the index of the current player in the order of turns.
+     * @return the index of the current player
+     */
+    public int getCurrentPlayerIndex() {
+        return this.currentPlayerIndex;
+    }
+
+    /**
+     * Gets the player with the given index in the order of turns.
+     * @param index the index of the player
+     * @return the player with the given index
+     */
+    public Player getPlayer(int index) {
+        return this.listOfPlayers.get(index);
+    }
+
+    /**
+     * Gets the number of turns that have ended since the game was created, forked or restored.
+     * @return the number of ended turns
+     */
+    public int getNumOfTurnsPlayed() {
+        return this.numOfTurnsPlayed;
+    }
+
+    /**
+     * Gets the market of the game.
+     * @return the market of the game
+     */
+    public Market getMarket() {
+        return this.market;
+    }
+
+    /**
+     * Gets the type of the land that the next purchase of a land will get.
+     * @return the type of the next available land, or null if all lands are sold out
+     */
+    public ArableLandType getNextLandType() {
+        return this.landDeck.peek();
+    }
+
+    /**
+     * Gets the seed the lands of the game were shuffled with.
+     * @return the seed of the game
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Gets the amount of gold a player needs to win.
+     * @return the winning capital
+     */
+    public int getWinningCapital() {
+        return this.winningCapital;
+    }
+
 }
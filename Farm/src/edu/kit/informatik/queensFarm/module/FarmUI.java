@@ -2,13 +2,20 @@ package edu.kit.informatik.queensFarm.module;
 
 import edu.kit.informatik.queensFarm.module.game.Player;
 import edu.kit.informatik.queensFarm.module.game.Vector2D;
+import edu.kit.informatik.queensFarm.module.game.VegetableType;
+import edu.kit.informatik.queensFarm.module.input.LineSource;
+import edu.kit.informatik.queensFarm.module.input.ReaderLineSource;
+import edu.kit.informatik.queensFarm.module.output.OutputSink;
+import edu.kit.informatik.queensFarm.module.stats.CommandOutcome;
+import edu.kit.informatik.queensFarm.module.stats.CommandStatistics;
+import edu.kit.informatik.queensFarm.module.stats.CommandType;
 import edu.kit.informatik.queensFarm.resource.ErrorMessage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.Scanner;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Set;
 
 /**
  * This class describes a session for interactive command execution.
@@ -18,7 +25,18 @@ import java.util.regex.Pattern;
 public class FarmUI {
     private static final String MESSAGE_REQUEST_NUMBER_OF_PLAYERS = "How many players?";
     private static final String COMMAND_END_TURN = "end turn";
-    private static final String SEPARATOR_SPACE = " ";
+    private static final String KEYWORD_PLANT = "plant";
+    private static final String KEYWORD_HARVEST = "harvest";
+    private static final String KEYWORD_BUY = "buy ";
+    private static final String KEYWORD_LAND = "land";
+    private static final String KEYWORD_VEGETABLE = "vegetable ";
+    private static final String KEYWORD_SELL = "sell";
+    private static final String KEYWORD_SHOW = "show ";
+    private static final String ITEM_BOARD = "board";
+    private static final String ITEM_MARKET = "market";
+    private static final String ITEM_BARN = "barn";
+    private static final String ITEM_STATS = "stats";
+    private static final String ITEM_ALL = "all";
     private static final List<String> WELCOME_PICTURE = List.of(
             "                           _.-^-._    .--.    "
                     , "                        .-'   _   '-. |__|    "
@@ -33,214 +51,408 @@ public class FarmUI {
                     , "^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^"
     );
     private static final String REGEX_COMMAND_QUIT = "quit";
-    private static final String KEY_COORDINATE_X = "coordinateX";
-    private static final String KEY_COORDINATE_Y = "coordinateY";
-    private static final String KEY_VEGETABLE_NAME = "vegetableName";
-    private static final String KEY_AMOUNT_TO_HARVEST = "amountToHarvest";
-    private static final String KEY_SALE_DETAILS = "saleDetails";
-    private static final String REGEX_COMMAND_SHOW_BOARD = "show board";
-    private static final String REGEX_COMMAND_SHOW_MARKET = "show market";
-    private static final String REGEX_COMMAND_SHOW_BARN = "show barn";
-    private static final String REGEX_COMMAND_SELL_ALL = "all";
-    private static final Pattern COMMAND_PLANT = Pattern.compile("plant (?<" + KEY_COORDINATE_X
-                + ">-?\\d+) (?<" + KEY_COORDINATE_Y + ">-?\\d+) (?<" + KEY_VEGETABLE_NAME
-                + ">mushroom|carrot|tomato|salad)");
-    private static final Pattern COMMAND_HARVEST = Pattern.compile("harvest (?<" + KEY_COORDINATE_X
-                + ">-?\\d+) (?<" + KEY_COORDINATE_Y + ">-?\\d+) (?<" + KEY_AMOUNT_TO_HARVEST + ">\\d+)");
-    private static final Pattern COMMAND_BUY_LAND = Pattern.compile("buy land (?<" + KEY_COORDINATE_X
-                + ">-?\\d+) (?<" + KEY_COORDINATE_Y + ">-?\\d+)");
-    private static final Pattern COMMAND_BUY_VEGETABLE = Pattern.compile("buy vegetable (?<" + KEY_VEGETABLE_NAME
-                + ">mushroom|carrot|tomato|salad)");
-    private static final Pattern COMMAND_SELL = Pattern.compile("sell( (?<" + KEY_SALE_DETAILS + ">\\D+))?");
+    private final CommandTokenizer tokenizer = new CommandTokenizer();
+    private final int[] amountsToSell = new int[VegetableType.values().length];
+    private final CommandStatistics statistics = new CommandStatistics();
+    private CommandType commandType;
+    private CommandOutcome commandOutcome;
+    private int xCoordinate;
+    private int yCoordinate;
     private boolean isRunning;
-    private final Scanner scanner = new Scanner(System.in);
+    private final LineSource input;
     private final Farm farm;
+    private final OutputSink output;
     private List<Player> players = new ArrayList<>();
+    private final List<String> playerNames = new ArrayList<>();
     private int numOfPlayers;
     private int startCapital;
     private int winningCapital;
     private int seed;
     private SetUpStage setUpStage;
+    private final Set<SetUpStage> requestedStages = EnumSet.noneOf(SetUpStage.class);
+    private boolean isSetUpCompleted;
+
+    /**
+     * Constructs a new session that reads user input from the console.
+     * @param farm the farm that session is applied on.
+     */
+    public FarmUI(Farm farm) {
+        this(farm, new ReaderLineSource(System.in));
+    }
 
     /**
      * Constructs a new session. Initiates the set-up stage: Set the first stage as the current set-up stage,
      * which is the request of the number of total players.
      * @param farm the farm that session is applied on.
+     * @param input the source of the user input
      */
-    public FarmUI(Farm farm) {
+    public FarmUI(Farm farm, LineSource input) {
         this.farm = farm;
+        this.input = input;
+        this.output = farm.getOutput();
         this.isRunning = true;
         this.setUpStage = SetUpStage.TOTAL_PLAYERS_REQUEST;
     }
 
     /**
-     * Creates a list of players with individual names.
-     * @param names the list of names to be assigned.
+     * Adds the name of the next player.
+     * @param name the name of the next player
+     * @return the number of names given so far
      */
-    public void createPlayerList(List<String> names) {
+    public int addPlayerName(String name) {
+        this.playerNames.add(name);
+        return this.playerNames.size();
+    }
+
+    /**
+     * Creates a list of players with the names given in the set-up stage.
+     */
+    public void createPlayerList() {
         List<Player> playerList = new ArrayList<>();
         for (int i = 0; i < numOfPlayers; i++) {
-            playerList.add(new Player(names.get(i)));
+            playerList.add(new Player(this.playerNames.get(i), i + 1, this.output));
         }
         this.players = playerList;
     }
 
     /**
      * Starts the interactive session by requesting information from user. Then starts the game and executes commands.
+     * All output that is still buffered when the session ends is flushed.
      */
     public void interactive() {
+        try {
+            executeSession();
+        } finally {
+            this.output.flush();
+        }
+    }
+
+    /**
+     * Executes the set-up stage and then the game until the session is stopped or the game is over.
+     */
+    public void executeSession() {
+        start();
+        executeLines();
+    }
+
+    /**
+     * Starts the session by printing the welcome picture and the request of the number of players. The answers
+     * and then the commands are handed over one line at a time with {@link #handleLine(CharSequence)}.
+     */
+    public void start() {
         printWelcome();
-        System.out.println(MESSAGE_REQUEST_NUMBER_OF_PLAYERS);
+        this.output.println(MESSAGE_REQUEST_NUMBER_OF_PLAYERS);
+    }
 
-        while ((!this.setUpStage.isAllCompleted()) && this.isRunning) {
-            String input = scanner.nextLine();
-            if (input.equals(REGEX_COMMAND_QUIT)) {
-                stop();
-                return;
-            }
-            try {
-                this.setUpStage.execute(input, this);
-            } catch (FarmException e) {
-                System.out.println(e.getMessage());
-            }
-            if (this.setUpStage.isAllCompleted()) {
-                this.farm.initiateGame(this.players, this.startCapital, this.winningCapital,
-                        this.numOfPlayers, this.seed);
+    /**
+     * Continues a game that was restored from its command journal. Prints whose turn it is and executes commands
+     * until the session is stopped or the game is over.
+     * All output that is still buffered when the session ends is flushed.
+     */
+    public void resume() {
+        try {
+            completeSetUp();
+            if (!this.farm.isGameOver()) {
                 this.farm.printTurnWithName();
+                executeLines();
             }
+        } finally {
+            this.output.flush();
         }
-        //Game starts.
-        while (this.isRunning && !this.farm.isGameOver()) {
-            String commandInput = scanner.nextLine();
-            if (commandInput.equals(REGEX_COMMAND_QUIT)) {
-                this.farm.endGameByQuit();
-                if (this.farm.isGameOver()) {
-                    stop();
-                    return;
-                }
-            }
-            try {
-                parseInput(commandInput);
-            } catch (FarmException e) {
-                System.out.println(e.getMessage());
+    }
+
+    /**
+     * Reads the lines of user input and handles them until the session is over or the input has ended.
+     */
+    private void executeLines() {
+        while (!isSessionOver()) {
+            CharSequence line = readCommand();
+            if (line == null) {
+                stop();
+                return;
             }
+            handleLine(line);
         }
-        this.scanner.close();
     }
 
     /**
-     * Parses the string input which will be formed as a command to execute.
-     * @param input string input given by user
-     * @throws FarmException if we cannot execute the command derived from the string input
+     * Handles one line of user input: an answer of the set-up stage or a command of the game. Turns of bots that
+     * follow are played by the game itself right away, so afterwards the session waits for the next human player.
+     * Lines that arrive after the session is over are ignored.
+     * @param line the line of user input, which is only read during this call
      */
-    public void parseInput(String input) throws FarmException {
-        Matcher plantMatcher = COMMAND_PLANT.matcher(input);
-        if (plantMatcher.matches()) {
-            int xCoordinate = parseInteger(plantMatcher.group(KEY_COORDINATE_X));
-            int yCoordinate = parseInteger(plantMatcher.group(KEY_COORDINATE_Y));
-            String vegetableToPlant = plantMatcher.group(KEY_VEGETABLE_NAME);
-            this.farm.plant(new Vector2D(xCoordinate, yCoordinate), vegetableToPlant);
+    public void handleLine(CharSequence line) {
+        if (isSessionOver()) {
             return;
         }
+        if (this.isSetUpCompleted) {
+            handleCommand(line);
+        } else {
+            handleSetUpAnswer(line.toString());
+        }
+        while (this.farm.isBotTurn()) {
+            this.farm.playBotTurn();
+        }
+    }
 
-        Matcher harvestMatcher = COMMAND_HARVEST.matcher(input);
-        if (harvestMatcher.matches()) {
-            int xCoordinate = parseInteger(harvestMatcher.group(KEY_COORDINATE_X));
-            int yCoordinate = parseInteger(harvestMatcher.group(KEY_COORDINATE_Y));
-            int amountToHarvest = parseInteger(harvestMatcher.group(KEY_AMOUNT_TO_HARVEST));
-            this.farm.harvest(new Vector2D(xCoordinate, yCoordinate), amountToHarvest);
+    /**
+     * Handles an answer of the set-up stage. After the last answer, the game is initiated.
+     * @param userAnswer the answer of the user
+     */
+    private void handleSetUpAnswer(String userAnswer) {
+        if (this.setUpStage != SetUpStage.FURTHER_PLAYER_NAME_REQUEST && userAnswer.equals(REGEX_COMMAND_QUIT)) {
+            stop();
             return;
         }
+        try {
+            this.setUpStage.execute(userAnswer, this);
+        } catch (FarmException e) {
+            this.output.println(e.getMessage());
+        }
+        if (this.isSetUpCompleted) {
+            this.farm.initiateGame(this.players, this.startCapital, this.winningCapital,
+                    this.numOfPlayers, this.seed);
+            this.farm.printTurnWithName();
+        }
+    }
 
-        Matcher buyLandMatcher = COMMAND_BUY_LAND.matcher(input);
-        if (buyLandMatcher.matches()) {
-            int xCoordinate = parseInteger(buyLandMatcher.group(KEY_COORDINATE_X));
-            int yCoordinate = parseInteger(buyLandMatcher.group(KEY_COORDINATE_Y));
-            this.farm.buyLand(xCoordinate, yCoordinate);
-            return;
+    /**
+     * Handles a command of the game. Command "quit" ends the game.
+     * @param commandInput the command
+     */
+    private void handleCommand(CharSequence commandInput) {
+        if (CharSequence.compare(commandInput, REGEX_COMMAND_QUIT) == 0) {
+            this.farm.endGameByQuit();
+            if (this.farm.isGameOver()) {
+                stop();
+                return;
+            }
+        }
+        try {
+            parseInput(commandInput);
+        } catch (FarmException e) {
+            this.output.println(e.getMessage());
         }
+    }
 
-        Matcher buyVegetableMatcher = COMMAND_BUY_VEGETABLE.matcher(input);
-        if (buyVegetableMatcher.matches()) {
-            String vegetableToBuy = buyVegetableMatcher.group(KEY_VEGETABLE_NAME);
-            this.farm.buyVegetable(vegetableToBuy);
-            return;
+    /**
+     * Checks whether the session is over, because it was stopped or its game is over.
+     * @return true if the session does not handle any more lines, otherwise false
+     */
+    public boolean isSessionOver() {
+        return !this.isRunning || (this.isSetUpCompleted && this.farm.isGameOver());
+    }
+
+    /**
+     * Parses the string input which will be formed as a command to execute.
+     * The time the command takes is recorded in the statistics of the session, together with its type and whether
+     * the game accepted it, rejected it or it could not be parsed.
+     * @param input string input given by user
+     * @throws FarmException if we cannot execute the command derived from the string input
+     */
+    public void parseInput(CharSequence input) throws FarmException {
+        long startTime = System.nanoTime();
+        this.commandType = CommandType.UNKNOWN;
+        this.commandOutcome = CommandOutcome.ERROR;
+        try {
+            executeCommand(input);
+        } finally {
+            this.statistics.record(this.commandType, this.commandOutcome, System.nanoTime() - startTime);
         }
-        if (input.equals(COMMAND_END_TURN)) {
-            this.farm.changeTurn();
-            return;
+    }
+
+    /**
+     * Executes the command of the input. The first keyword is read once and decides which command handler reads the
+     * rest of the input. A handler that recognizes its command sets the type and the outcome of the command.
+     * @param input string input given by user
+     * @throws FarmException if we cannot execute the command derived from the string input
+     */
+    private void executeCommand(CharSequence input) throws FarmException {
+        this.tokenizer.reset(input);
+        boolean isHandled;
+        switch (this.tokenizer.peek()) {
+            case 'p':
+                isHandled = this.tokenizer.consume(KEYWORD_PLANT) && handlePlantCommand();
+                break;
+            case 'h':
+                isHandled = this.tokenizer.consume(KEYWORD_HARVEST) && handleHarvestCommand();
+                break;
+            case 'b':
+                isHandled = this.tokenizer.consume(KEYWORD_BUY) && handleBuyCommand();
+                break;
+            case 'e':
+                isHandled = this.tokenizer.consumeRest(COMMAND_END_TURN);
+                if (isHandled) {
+                    this.commandType = CommandType.END_TURN;
+                    this.farm.changeTurn();
+                    this.commandOutcome = CommandOutcome.ACCEPTED;
+                }
+                break;
+            case 's':
+                if (this.tokenizer.consume(KEYWORD_SELL)) {
+                    isHandled = handleSellCommand();
+                } else {
+                    isHandled = this.tokenizer.consume(KEYWORD_SHOW) && handleShowCommand();
+                }
+                break;
+            default:
+                isHandled = false;
+        }
+        if (!isHandled) {
+            this.output.println(ErrorMessage.ILLEGAL_COMMAND.toString());
         }
+    }
 
-        if (!(handleSellCommand(input) || handleShowCommand(input))) {
-            System.out.println(ErrorMessage.ILLEGAL_COMMAND);
+    /**
+     * Reads the two coordinates of a command, each one preceded by a space, and keeps them for the command handler.
+     * @return true if two coordinates were read, otherwise false
+     */
+    private boolean readCoordinates() {
+        if (!(this.tokenizer.consumeSpace() && this.tokenizer.readInteger(true))) {
+            return false;
+        }
+        this.xCoordinate = this.tokenizer.getLastInteger();
+        if (!(this.tokenizer.consumeSpace() && this.tokenizer.readInteger(true))) {
+            return false;
         }
+        this.yCoordinate = this.tokenizer.getLastInteger();
+        return true;
     }
 
     /**
-     * Parses the string input into integer.
-     * @param inputToParse string input to parse
-     * @return integer if parsing is successful, otherwise throw exception
-     * @throws FarmException if the string input cannot be parsed into an integer
+     * Reads the rest of command "plant x y vegetable" and executes it.
+     * @return true if the input is a valid plant command, otherwise false
+     * @throws FarmException if a coordinate cannot be parsed into an integer
      */
-    public int parseInteger(String inputToParse) throws FarmException {
-        int result;
-        try {
-            result = Integer.parseInt(inputToParse);
-        } catch (NumberFormatException e) {
-            throw new FarmException(ErrorMessage.ILLEGAL_INTEGER.format(inputToParse));
+    private boolean handlePlantCommand() throws FarmException {
+        if (!(readCoordinates() && this.tokenizer.consumeSpace())) {
+            return false;
+        }
+        VegetableType vegetableToPlant = this.tokenizer.readVegetable();
+        if (vegetableToPlant == null || !this.tokenizer.isAtEnd()) {
+            return false;
+        }
+        this.commandType = CommandType.PLANT;
+        this.tokenizer.checkIntegers();
+        setOutcome(this.farm.plant(new Vector2D(this.xCoordinate, this.yCoordinate), vegetableToPlant));
+        return true;
+    }
 
+    /**
+     * Reads the rest of command "harvest x y amount" and executes it.
+     * @return true if the input is a valid harvest command, otherwise false
+     * @throws FarmException if a coordinate or the amount cannot be parsed into an integer
+     */
+    private boolean handleHarvestCommand() throws FarmException {
+        if (!(readCoordinates() && this.tokenizer.consumeSpace() && this.tokenizer.readInteger(false)
+                && this.tokenizer.isAtEnd())) {
+            return false;
         }
-        return result;
+        this.commandType = CommandType.HARVEST;
+        this.tokenizer.checkIntegers();
+        setOutcome(this.farm.harvest(new Vector2D(this.xCoordinate, this.yCoordinate),
+                this.tokenizer.getLastInteger()));
+        return true;
     }
 
     /**
-     * Checks if the input matches "show board", "show market" and "show barn" these three commands.
-     * If yes, return true and execute the command, otherwise return false.
-     * @param input line of input given by user
-     * @return true if the input matches "show board", "show market" and "show barn", otherwise return false
+     * Reads the rest of commands "buy land x y" and "buy vegetable name" and executes them.
+     * @return true if the input is a valid buy command, otherwise false
+     * @throws FarmException if a coordinate cannot be parsed into an integer
      */
-    public boolean handleShowCommand(String input) {
-        if (input.equals(REGEX_COMMAND_SHOW_BARN)) {
-            this.farm.shownBarn();
+    private boolean handleBuyCommand() throws FarmException {
+        if (this.tokenizer.consume(KEYWORD_LAND)) {
+            if (!(readCoordinates() && this.tokenizer.isAtEnd())) {
+                return false;
+            }
+            this.commandType = CommandType.BUY_LAND;
+            this.tokenizer.checkIntegers();
+            setOutcome(this.farm.buyLand(this.xCoordinate, this.yCoordinate));
             return true;
         }
-        if (input.equals(REGEX_COMMAND_SHOW_BOARD)) {
-            this.farm.shownBoard();
+        if (this.tokenizer.consume(KEYWORD_VEGETABLE)) {
+            VegetableType vegetableToBuy = this.tokenizer.readVegetable();
+            if (vegetableToBuy == null || !this.tokenizer.isAtEnd()) {
+                return false;
+            }
+            this.commandType = CommandType.BUY_VEGETABLE;
+            setOutcome(this.farm.buyVegetable(vegetableToBuy));
             return true;
         }
-        if (input.equals(REGEX_COMMAND_SHOW_MARKET)) {
+        return false;
+    }
+
+    /**
+     * Checks if the rest of the input after "show " matches "show board", "show market", "show barn" and
+     * "show stats" these four commands.
+     * If yes, return true and execute the command, otherwise return false.
+     * @return true if the input matches "show board", "show market", "show barn" and "show stats", otherwise
+     *         return false
+     */
+    private boolean handleShowCommand() {
+        if (this.tokenizer.consumeRest(ITEM_BARN)) {
+            this.farm.shownBarn();
+        } else if (this.tokenizer.consumeRest(ITEM_BOARD)) {
+            this.farm.shownBoard();
+        } else if (this.tokenizer.consumeRest(ITEM_MARKET)) {
             this.farm.showMarket();
-            return true;
+        } else if (this.tokenizer.consumeRest(ITEM_STATS)) {
+            this.output.println(this.statistics.showStatistics());
+        } else {
+            return false;
         }
-        return false;
+        this.commandType = CommandType.SHOW;
+        this.commandOutcome = CommandOutcome.ACCEPTED;
+        return true;
     }
 
     /**
-     * Checks whether it is valid format of sell command. If yes, execute the command.
-     * @param input line of input given by user
+     * Checks whether the rest of the input after "sell" is valid format of sell command. If yes, execute the command.
+     * The sale details are a list of vegetable names separated by single spaces and must not contain digits.
      * @return true if it is valid format of sell command, otherwise return false
      */
-    public boolean handleSellCommand(String input) {
-        Matcher sellMatcher = COMMAND_SELL.matcher(input);
-        if (sellMatcher.matches()) {
-            String saleDetails = sellMatcher.group(KEY_SALE_DETAILS);
-            if (saleDetails == null) {
-                this.farm.sellZeroVegetable();
-                return true;
+    private boolean handleSellCommand() {
+        if (this.tokenizer.isAtEnd()) {
+            this.commandType = CommandType.SELL;
+            setOutcome(this.farm.sellZeroVegetable());
+            return true;
+        }
+        if (!this.tokenizer.consumeSpace() || this.tokenizer.isAtEnd() || this.tokenizer.restContainsDigit()) {
+            return false;
+        }
+        this.commandType = CommandType.SELL;
+        if (this.tokenizer.consumeRest(ITEM_ALL)) {
+            setOutcome(this.farm.sellAll());
+            return true;
+        }
+        Arrays.fill(this.amountsToSell, 0);
+        // Empty names between two spaces are only accepted at the end of the sale details.
+        boolean hasEmptyName = false;
+        while (!this.tokenizer.isAtEnd()) {
+            if (this.tokenizer.consumeSpace()) {
+                hasEmptyName = true;
+                continue;
             }
-            if (saleDetails.matches(REGEX_COMMAND_SELL_ALL)) {
-                this.farm.sellAll();
+            VegetableType vegetableToSell = this.tokenizer.readVegetableWord();
+            if (vegetableToSell == null || hasEmptyName) {
+                this.output.println(ErrorMessage.ILLEGAL_VEGETABLE_NAME.toString());
                 return true;
             }
-            String[] salesArray = saleDetails.split(SEPARATOR_SPACE);
-            try {
-                this.farm.sellMultiple(salesArray);
-            } catch (FarmException e) {
-                System.out.println(e.getMessage());
+            this.amountsToSell[vegetableToSell.ordinal()]++;
+            if (!this.tokenizer.consumeSpace()) {
+                break;
             }
-            return true;
         }
-        return false;
+        setOutcome(this.farm.sellMultiple(this.amountsToSell));
+        return true;
+    }
+
+    /**
+     * Sets the outcome of a well-formed command.
+     * @param isAccepted whether the game has executed the command
+     */
+    private void setOutcome(boolean isAccepted) {
+        this.commandOutcome = isAccepted ? CommandOutcome.ACCEPTED : CommandOutcome.REJECTED;
     }
 
     /**
@@ -251,12 +463,28 @@ public class FarmUI {
         this.setUpStage = nextStage;
     }
 
+    /**
+     * Marks the whole set-up stage of this session as completed.
+     */
+    public void completeSetUp() {
+        this.isSetUpCompleted = true;
+    }
+
+    /**
+     * Marks the request of the given stage as sent in this session.
+     * @param stage the stage whose request is sent
+     * @return true if the request of the stage was not sent before, otherwise false
+     */
+    public boolean markAsRequested(SetUpStage stage) {
+        return this.requestedStages.add(stage);
+    }
+
     /**
      * Prints the welcome information with a farm picture made by lines of strings.
      */
     public void printWelcome() {
         for (String sentence : WELCOME_PICTURE) {
-            System.out.println(sentence);
+            this.output.println(sentence);
         }
     }
 
@@ -308,10 +536,28 @@ public class FarmUI {
     }
 
     /**
-     * Gets the scanner.
-     * @return scanner
+     * Reads the next command without copying it. All pending output is flushed first, so the user sees every
+     * response. The command is only valid until the next line is read.
+     * @return the next command, or null if the input has ended
+     */
+    public CharSequence readCommand() {
+        this.output.flush();
+        return this.input.readLine();
+    }
+
+    /**
+     * Gets the latency and outcome statistics of the commands of this session.
+     * @return the statistics of this session
+     */
+    public CommandStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    /**
+     * Gets the sink that all messages of this session are written to.
+     * @return the sink of this session
      */
-    public Scanner getScanner() {
-        return this.scanner;
+    public OutputSink getOutput() {
+        return this.output;
     }
 }
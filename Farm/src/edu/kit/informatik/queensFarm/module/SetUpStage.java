@@ -2,9 +2,6 @@ package edu.kit.informatik.queensFarm.module;
 
 import edu.kit.informatik.queensFarm.resource.ErrorMessage;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * This class handles user input(Information for initialization of game) based on the current stage of the program.
  * On current stage, the according request will be printed and the user's input will also be processed accordingly.
@@ -34,46 +31,25 @@ public enum SetUpStage {
                 throw new FarmException(ErrorMessage.ILLEGAL_VALUE_OF_INTEGER.format(MINIMUM_NUMBER_OF_PLAYERS));
             }
             farmUI.setNumOfPlayers(numOfPlayers);
-            sendRequest();
+            sendRequest(farmUI);
             farmUI.changeSetUpStage(PLAYER_NAME_REQUEST);
         }
     },
 
     /**
-     * This is the second stage. It handles names of players.
+     * This is the second stage. It handles the name of the first player.
      * Exception will be thrown, if the user answer is not in the valid format
      */
     PLAYER_NAME_REQUEST("With how much gold should each player start?") {
         @Override
         public void execute(String userAnswer, FarmUI farmUI) throws FarmException {
-            int numOfPlayers = farmUI.getNumOfPlayers();
-            List<String> names = new ArrayList<>();
-            names.add(getPlayerNames(userAnswer));
-
-            if (numOfPlayers > MINIMUM_NUMBER_OF_PLAYERS) {
-                System.out.println(MESSAGE_REQUEST_NAME_OF_SECOND_PLAYER);
-                int remainingPlayers = numOfPlayers - 1;
-                for (int i = 0; i < numOfPlayers - 1; i++) {
-                    boolean pass = false;
-                    do {
-                        String userInput = farmUI.getScanner().nextLine();
-                        try {
-                            pass = checkPlayerName(userInput);
-                            names.add(userInput);
-                        } catch (InputException e) {
-                            System.out.println(e.getMessage());
-                        }
-                    } while (!pass);
-
-                    remainingPlayers--;
-                    if (remainingPlayers != 0) {
-                        System.out.println(String.format(MESSAGE_REQUEST_NAME, i + REQUEST_NAME_INDEX_DIFFERENCE));
-                    }
-                }
-            }
-            farmUI.createPlayerList(names);
-            sendRequest();
-            farmUI.changeSetUpStage(START_CAPITAL_REQUEST);
+            farmUI.addPlayerName(getPlayerNames(userAnswer));
+            if (farmUI.getNumOfPlayers() > MINIMUM_NUMBER_OF_PLAYERS) {
+                farmUI.getOutput().println(MESSAGE_REQUEST_NAME_OF_SECOND_PLAYER);
+                farmUI.changeSetUpStage(FURTHER_PLAYER_NAME_REQUEST);
+            } else {
+                completePlayerNames(farmUI);
+            }
         }
 
         /**
@@ -89,6 +65,28 @@ public enum SetUpStage {
             }
             return userAnswer;
         }
+    },
+
+    /**
+     * This stage handles the names of the other players, one answer at a time, until every player has a name.
+     * An invalid name is reported and requested again. Unlike in the other stages, "quit" is a valid name here.
+     */
+    FURTHER_PLAYER_NAME_REQUEST("With how much gold should each player start?") {
+        @Override
+        public void execute(String userAnswer, FarmUI farmUI) {
+            try {
+                checkPlayerName(userAnswer);
+            } catch (InputException e) {
+                farmUI.getOutput().println(e.getMessage());
+                return;
+            }
+            int numOfNames = farmUI.addPlayerName(userAnswer);
+            if (numOfNames < farmUI.getNumOfPlayers()) {
+                farmUI.getOutput().println(String.format(MESSAGE_REQUEST_NAME, numOfNames + 1));
+            } else {
+                completePlayerNames(farmUI);
+            }
+        }
 
         /**
          * Checks whether the input is valid.
@@ -104,6 +102,7 @@ public enum SetUpStage {
             return true;
         }
     },
+
     /**
      * This is the third stage. User will be asked about the start capital. Exception with error message
      * will be thrown, if the user answer is not in the valid format or less than the required amount.
@@ -124,7 +123,7 @@ public enum SetUpStage {
                 throw new FarmException(ErrorMessage.ILLEGAL_VALUE_OF_INTEGER.format(MINIMUM_VALUE_OF_START_CAPITAL));
             }
             farmUI.setStartCapital(startCapital);
-            sendRequest();
+            sendRequest(farmUI);
             farmUI.changeSetUpStage(WINNING_CAPITAL_REQUEST);
         }
     },
@@ -149,7 +148,7 @@ public enum SetUpStage {
                 throw new FarmException(ErrorMessage.ILLEGAL_VALUE_OF_INTEGER.format(MINIMUM_VALUE_OF_WINNING_CAPITAL));
             }
             farmUI.setWinningCapital(winningCapital);
-            sendRequest();
+            sendRequest(farmUI);
             farmUI.changeSetUpStage(SEED_REQUEST);
         }
     },
@@ -171,7 +170,7 @@ public enum SetUpStage {
                 throw new FarmException(ErrorMessage.ILLEGAL_INTEGER.format(userAnswer));
             }
             farmUI.setSeed(seed);
-            setAsAllCompleted();
+            farmUI.completeSetUp();
         }
     };
 
@@ -182,10 +181,7 @@ public enum SetUpStage {
     private static final String REGEX_NAME = "[A-Za-z]+";
     private static final String MESSAGE_REQUEST_NAME_OF_SECOND_PLAYER = "Enter the name of player 2:";
     private static final String MESSAGE_REQUEST_NAME = "Enter the name of player %d:";
-    private static final int REQUEST_NAME_INDEX_DIFFERENCE = 3;
     private final String requestMessage;
-    private boolean isAlreadyRequested;
-    private boolean isAllCompleted;
 
     /**
      * Constructs the stage with request message.
@@ -194,34 +190,29 @@ public enum SetUpStage {
      */
     SetUpStage(String requestMessage) {
         this.requestMessage = requestMessage;
-        this.isAlreadyRequested = false;
-        this.isAllCompleted = false;
-    }
-
-    /**
-     * Sets the status of stage as completely finished.
-     */
-    public void setAsAllCompleted() {
-        this.isAllCompleted = true;
     }
 
     /**
-     * Checks if the whole set-up stage is all completed.
+     * Prints request only once per session. After printing, the stage will be marked as "already requested"
+     * in the given session.
      *
-     * @return true if the whole set-up stage is all completed, otherwise false
+     * @param farmUI the user interface of game, which keeps the set-up progress of its session
      */
-    public boolean isAllCompleted() {
-        return isAllCompleted;
+    public void sendRequest(FarmUI farmUI) {
+        if (farmUI.markAsRequested(this)) {
+            farmUI.getOutput().println(this.requestMessage);
+        }
     }
 
     /**
-     * Prints request only once. After printing, the status will be set as "already requested".
+     * Creates the players once every player has a name, and moves on to the request of the start capital.
+     *
+     * @param farmUI the user interface of game, which keeps the names of its session
      */
-    public void sendRequest() {
-        if (!this.isAlreadyRequested) {
-            System.out.println(this.requestMessage);
-            this.isAlreadyRequested = true;
-        }
+    void completePlayerNames(FarmUI farmUI) {
+        farmUI.createPlayerList();
+        sendRequest(farmUI);
+        farmUI.changeSetUpStage(START_CAPITAL_REQUEST);
     }
 
     /**
@@ -0,0 +1,110 @@
+package edu.kit.informatik.queensFarm.module.bot;
+
+/**
+ * This class describes the outcome of the rollouts of one action: the expected gold of the player at the end of
+ * the game and the probability that the player wins, each with its 95 % confidence interval.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class ActionEstimate {
+    private static final String FORMAT_ESTIMATE = "%s: gold %.1f +- %.1f, win %.3f [%.3f, %.3f] (%d rollouts)";
+    private final GameAction action;
+    private final int numOfRollouts;
+    private final double expectedGold;
+    private final double goldMargin;
+    private final double winProbability;
+    private final double winLowerBound;
+    private final double winUpperBound;
+
+    /**
+     * Constructs an estimate.
+     *
+     * @param action the evaluated action
+     * @param numOfRollouts number of rollouts the estimate is based on
+     * @param expectedGold mean gold of the player at the end of the rollouts
+     * @param goldMargin half of the width of the confidence interval of the expected gold
+     * @param winProbability share of the rollouts the player has won
+     * @param winLowerBound lower bound of the confidence interval of the win probability
+     * @param winUpperBound upper bound of the confidence interval of the win probability
+     */
+    public ActionEstimate(GameAction action, int numOfRollouts, double expectedGold, double goldMargin,
+                          double winProbability, double winLowerBound, double winUpperBound) {
+        this.action = action;
+        this.numOfRollouts = numOfRollouts;
+        this.expectedGold = expectedGold;
+        this.goldMargin = goldMargin;
+        this.winProbability = winProbability;
+        this.winLowerBound = winLowerBound;
+        this.winUpperBound = winUpperBound;
+    }
+
+    /**
+     * Gets the evaluated action.
+     *
+     * @return the evaluated action
+     */
+    public GameAction getAction() {
+        return action;
+    }
+
+    /**
+     * Gets the number of rollouts the estimate is based on.
+     *
+     * @return the number of rollouts
+     */
+    public int getNumOfRollouts() {
+        return numOfRollouts;
+    }
+
+    /**
+     * Gets the expected gold of the player at the end of the game.
+     *
+     * @return the mean gold of the player at the end of the rollouts
+     */
+    public double getExpectedGold() {
+        return expectedGold;
+    }
+
+    /**
+     * Gets half of the width of the confidence interval of the expected gold.
+     *
+     * @return the margin of the expected gold
+     */
+    public double getGoldMargin() {
+        return goldMargin;
+    }
+
+    /**
+     * Gets the probability that the player wins.
+     *
+     * @return the share of the rollouts the player has won
+     */
+    public double getWinProbability() {
+        return winProbability;
+    }
+
+    /**
+     * Gets the lower bound of the confidence interval of the win probability.
+     *
+     * @return the lower bound of the win probability
+     */
+    public double getWinLowerBound() {
+        return winLowerBound;
+    }
+
+    /**
+     * Gets the upper bound of the confidence interval of the win probability.
+     *
+     * @return the upper bound of the win probability
+     */
+    public double getWinUpperBound() {
+        return winUpperBound;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(FORMAT_ESTIMATE, this.action, this.expectedGold, this.goldMargin, this.winProbability,
+                this.winLowerBound, this.winUpperBound, this.numOfRollouts);
+    }
+}
@@ -0,0 +1,101 @@
+package edu.kit.informatik.queensFarm.module.bot;
+
+import edu.kit.informatik.queensFarm.module.Farm;
+import edu.kit.informatik.queensFarm.module.game.Board;
+import edu.kit.informatik.queensFarm.module.game.Player;
+import edu.kit.informatik.queensFarm.module.game.Vector2D;
+import edu.kit.informatik.queensFarm.module.game.VegetableType;
+import edu.kit.informatik.queensFarm.module.game.land.ArableLand;
+import edu.kit.informatik.queensFarm.module.game.land.Barn;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * This class lists the actions a bot considers for the current player. Only actions the game accepts are listed,
+ * and actions that cannot improve the position are left out: vegetables are only bought when they can be planted,
+ * and only full lands are harvested, completely.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class ActionGenerator {
+    private static final VegetableType[] VEGETABLE_TYPES = VegetableType.values();
+
+    /**
+     * Lists the actions of the current player. Ending the turn is always possible and comes last.
+     *
+     * @param farm the game
+     * @return the actions of the current player
+     */
+    public List<GameAction> generateActions(Farm farm) {
+        List<GameAction> actions = new ArrayList<>();
+        Player player = farm.getCurrentPlayer();
+        Board board = player.getBoard();
+        Barn barn = player.getBarn();
+        List<Vector2D> coordinates = board.getLandCoordinates();
+        // The vegetable types that can be planted on at least one empty land, one bit per ordinal.
+        int plantableTypeMask = 0;
+        for (Vector2D coordinate : coordinates) {
+            ArableLand land = board.getLand(coordinate.getX(), coordinate.getY());
+            if (land.isLandFull()) {
+                actions.add(GameAction.harvest(coordinate, land.getVegetableAmount()));
+            }
+            if (!land.isLandEmpty()) {
+                continue;
+            }
+            for (VegetableType type : VEGETABLE_TYPES) {
+                if (land.isTypeAllowed(type)) {
+                    plantableTypeMask |= 1 << type.ordinal();
+                    if (barn.getAmount(type) > 0) {
+                        actions.add(GameAction.plant(coordinate, type));
+                    }
+                }
+            }
+        }
+        int gold = player.getTotalGold();
+        for (VegetableType type : VEGETABLE_TYPES) {
+            if ((plantableTypeMask & 1 << type.ordinal()) != 0 && barn.getAmount(type) == 0
+                    && farm.getMarket().getPrice(type) <= gold) {
+                actions.add(GameAction.buyVegetable(type));
+            }
+        }
+        if (farm.getNextLandType() != null) {
+            for (Vector2D location : findLocationsForNewLand(board, coordinates)) {
+                if (board.calculateLandPrice(location) <= gold) {
+                    actions.add(GameAction.buyLand(location));
+                }
+            }
+        }
+        if (!barn.isBarnEmpty()) {
+            actions.add(GameAction.SELL_ALL);
+        }
+        actions.add(GameAction.END_TURN);
+        return actions;
+    }
+
+    /**
+     * Finds the locations where a new land can be placed. They lie next to an owned land on the left or on the
+     * right, or directly above an owned land.
+     *
+     * @param board the board of the player
+     * @param coordinates the coordinates of all lands on the board
+     * @return the valid locations for a new land
+     */
+    private Set<Vector2D> findLocationsForNewLand(Board board, List<Vector2D> coordinates) {
+        Set<Vector2D> locations = new LinkedHashSet<>();
+        for (Vector2D coordinate : coordinates) {
+            int x = coordinate.getX();
+            int y = coordinate.getY();
+            for (Vector2D location : List.of(new Vector2D(x - 1, y), new Vector2D(x + 1, y),
+                    new Vector2D(x, y + 1))) {
+                if (board.isLocationValid(location)) {
+                    locations.add(location);
+                }
+            }
+        }
+        return locations;
+    }
+}
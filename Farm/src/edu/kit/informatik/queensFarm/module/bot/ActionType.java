@@ -0,0 +1,129 @@
+package edu.kit.informatik.queensFarm.module.bot;
+
+import edu.kit.informatik.queensFarm.module.Farm;
+
+/**
+ * This enum describes the types of actions a bot can execute. Each type executes its action through the engine
+ * and describes it in the format of the command a human player would type.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public enum ActionType {
+    /**
+     * Plants a vegetable on a land.
+     */
+    PLANT {
+        @Override
+        public boolean execute(GameAction action, Farm farm) {
+            return farm.plant(action.getCoordinate(), action.getVegetable());
+        }
+
+        @Override
+        public String toCommand(GameAction action) {
+            return String.format(FORMAT_PLANT, action.getCoordinate().getX(), action.getCoordinate().getY(),
+                    action.getVegetable().getName());
+        }
+    },
+
+    /**
+     * Harvests vegetables from a land.
+     */
+    HARVEST {
+        @Override
+        public boolean execute(GameAction action, Farm farm) {
+            return farm.harvest(action.getCoordinate(), action.getAmount());
+        }
+
+        @Override
+        public String toCommand(GameAction action) {
+            return String.format(FORMAT_HARVEST, action.getCoordinate().getX(), action.getCoordinate().getY(),
+                    action.getAmount());
+        }
+    },
+
+    /**
+     * Buys a vegetable at the market.
+     */
+    BUY_VEGETABLE {
+        @Override
+        public boolean execute(GameAction action, Farm farm) {
+            return farm.buyVegetable(action.getVegetable());
+        }
+
+        @Override
+        public String toCommand(GameAction action) {
+            return String.format(FORMAT_BUY_VEGETABLE, action.getVegetable().getName());
+        }
+    },
+
+    /**
+     * Buys the next available land.
+     */
+    BUY_LAND {
+        @Override
+        public boolean execute(GameAction action, Farm farm) {
+            return farm.buyLand(action.getCoordinate().getX(), action.getCoordinate().getY());
+        }
+
+        @Override
+        public String toCommand(GameAction action) {
+            return String.format(FORMAT_BUY_LAND, action.getCoordinate().getX(), action.getCoordinate().getY());
+        }
+    },
+
+    /**
+     * Sells all vegetables in the barn.
+     */
+    SELL_ALL {
+        @Override
+        public boolean execute(GameAction action, Farm farm) {
+            return farm.sellAll();
+        }
+
+        @Override
+        public String toCommand(GameAction action) {
+            return COMMAND_SELL_ALL;
+        }
+    },
+
+    /**
+     * Ends the turn.
+     */
+    END_TURN {
+        @Override
+        public boolean execute(GameAction action, Farm farm) {
+            farm.changeTurn();
+            return true;
+        }
+
+        @Override
+        public String toCommand(GameAction action) {
+            return COMMAND_END_TURN;
+        }
+    };
+
+    private static final String FORMAT_PLANT = "plant %d %d %s";
+    private static final String FORMAT_HARVEST = "harvest %d %d %d";
+    private static final String FORMAT_BUY_VEGETABLE = "buy vegetable %s";
+    private static final String FORMAT_BUY_LAND = "buy land %d %d";
+    private static final String COMMAND_SELL_ALL = "sell all";
+    private static final String COMMAND_END_TURN = "end turn";
+
+    /**
+     * Executes the action for the current player of the game.
+     *
+     * @param action the action to execute
+     * @param farm the game to execute the action in
+     * @return true if the game accepted the action, otherwise false
+     */
+    public abstract boolean execute(GameAction action, Farm farm);
+
+    /**
+     * Describes the action as the command a human player would type.
+     *
+     * @param action the action to describe
+     * @return the command of the action
+     */
+    public abstract String toCommand(GameAction action);
+}
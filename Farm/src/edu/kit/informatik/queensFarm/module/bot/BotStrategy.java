@@ -0,0 +1,21 @@
+package edu.kit.informatik.queensFarm.module.bot;
+
+import edu.kit.informatik.queensFarm.module.Farm;
+
+/**
+ * This interface describes the strategy of a computer-controlled player. A strategy picks the actions of its player
+ * directly through the engine, so no command text is produced or parsed.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public interface BotStrategy {
+    /**
+     * Chooses the next action of the current player. The strategy must not change the given game and must decide
+     * within its time budget per move.
+     *
+     * @param farm the game in which the current player is controlled by this strategy
+     * @return the chosen action
+     */
+    GameAction chooseAction(Farm farm);
+}
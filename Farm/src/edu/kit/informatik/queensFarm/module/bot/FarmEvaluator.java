@@ -0,0 +1,110 @@
+package edu.kit.informatik.queensFarm.module.bot;
+
+import edu.kit.informatik.queensFarm.module.Farm;
+import edu.kit.informatik.queensFarm.module.game.Board;
+import edu.kit.informatik.queensFarm.module.game.Player;
+import edu.kit.informatik.queensFarm.module.game.Vector2D;
+import edu.kit.informatik.queensFarm.module.game.VegetableType;
+import edu.kit.informatik.queensFarm.module.game.land.ArableLand;
+import edu.kit.informatik.queensFarm.module.game.land.Barn;
+import edu.kit.informatik.queensFarm.module.game.market.Market;
+
+/**
+ * This class rates the position of a player in gold. Vegetables count with their current price, weighted by
+ * how soon they can be sold and whether they still grow. Owned lands count with their capacity.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class FarmEvaluator {
+    /**
+     * Weight of vegetables in the barn. They are slightly worth less than gold, since they spoil.
+     */
+    private static final double BARN_WEIGHT = 0.95;
+
+    /**
+     * Weight of vegetables on a land that still grows. They are worth more than harvested ones, since they double.
+     */
+    private static final double GROWING_WEIGHT = 1.5;
+
+    /**
+     * Weight of vegetables on a full land. They are worth less than harvested ones, since they do not grow anymore.
+     */
+    private static final double FULL_WEIGHT = 0.9;
+
+    /**
+     * Value of each unit of capacity of an owned land.
+     */
+    private static final double VALUE_PER_CAPACITY = 3;
+
+    /**
+     * Bonus for reaching the winning capital, which outweighs every other part of the rating.
+     */
+    private static final double WINNING_BONUS = 1_000_000;
+    private static final VegetableType[] VEGETABLE_TYPES = VegetableType.values();
+
+    /**
+     * Rates the position of a player.
+     *
+     * @param farm the game
+     * @param playerIndex the index of the player in the order of turns
+     * @return the rating of the position in gold
+     */
+    public double evaluate(Farm farm, int playerIndex) {
+        Player player = farm.getPlayer(playerIndex);
+        Market market = farm.getMarket();
+        double rating = player.getTotalGold();
+        if (player.getTotalGold() >= farm.getWinningCapital()) {
+            rating += WINNING_BONUS;
+        }
+        Barn barn = player.getBarn();
+        for (VegetableType type : VEGETABLE_TYPES) {
+            rating += barn.getAmount(type) * market.getPrice(type) * BARN_WEIGHT;
+        }
+        Board board = player.getBoard();
+        for (Vector2D coordinate : board.getLandCoordinates()) {
+            ArableLand land = board.getLand(coordinate.getX(), coordinate.getY());
+            rating += land.getCapacity() * VALUE_PER_CAPACITY;
+            if (!land.isLandEmpty()) {
+                rating += land.getVegetableAmount() * market.getPrice(land.getVegetableType())
+                        * (land.isLandFull() ? FULL_WEIGHT : GROWING_WEIGHT);
+            }
+        }
+        return rating;
+    }
+
+    /**
+     * Estimates how much an action of the current player changes the rating of their position, without executing
+     * the action. Buying a vegetable is rated together with planting it later.
+     *
+     * @param farm the game
+     * @param action an action the game accepts
+     * @return the estimated change of the rating in gold
+     */
+    public double estimateGain(Farm farm, GameAction action) {
+        Player player = farm.getCurrentPlayer();
+        Market market = farm.getMarket();
+        switch (action.getType()) {
+            case PLANT:
+                return market.getPrice(action.getVegetable()) * (GROWING_WEIGHT - BARN_WEIGHT);
+            case HARVEST:
+                ArableLand land = player.getBoard().getLand(action.getCoordinate().getX(),
+                        action.getCoordinate().getY());
+                return action.getAmount() * market.getPrice(land.getVegetableType())
+                        * (BARN_WEIGHT - (land.isLandFull() ? FULL_WEIGHT : GROWING_WEIGHT));
+            case BUY_VEGETABLE:
+                return market.getPrice(action.getVegetable()) * (GROWING_WEIGHT - 1);
+            case BUY_LAND:
+                return farm.getNextLandType().getCapacity() * VALUE_PER_CAPACITY
+                        - player.getBoard().calculateLandPrice(action.getCoordinate());
+            case SELL_ALL:
+                double barnValue = 0;
+                for (VegetableType type : VEGETABLE_TYPES) {
+                    barnValue += player.getBarn().getAmount(type) * market.getPrice(type);
+                }
+                return barnValue * (1 - BARN_WEIGHT);
+            default:
+                return 0;
+        }
+    }
+}
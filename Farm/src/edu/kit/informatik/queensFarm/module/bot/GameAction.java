@@ -0,0 +1,137 @@
+package edu.kit.informatik.queensFarm.module.bot;
+
+import edu.kit.informatik.queensFarm.module.Farm;
+import edu.kit.informatik.queensFarm.module.game.Vector2D;
+import edu.kit.informatik.queensFarm.module.game.VegetableType;
+
+/**
+ * This class describes one action of a player, as chosen by a bot. Actions are immutable, so they can be
+ * executed on any number of copies of a game.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public final class GameAction {
+    /**
+     * The action that sells all vegetables in the barn.
+     */
+    public static final GameAction SELL_ALL = new GameAction(ActionType.SELL_ALL, null, null, 0);
+
+    /**
+     * The action that ends the turn.
+     */
+    public static final GameAction END_TURN = new GameAction(ActionType.END_TURN, null, null, 0);
+
+    private final ActionType type;
+    private final Vector2D coordinate;
+    private final VegetableType vegetable;
+    private final int amount;
+
+    /**
+     * Constructs an action.
+     *
+     * @param type type of the action
+     * @param coordinate coordinate of the land the action applies to, or null
+     * @param vegetable vegetable type the action applies to, or null
+     * @param amount amount of vegetables the action applies to
+     */
+    private GameAction(ActionType type, Vector2D coordinate, VegetableType vegetable, int amount) {
+        this.type = type;
+        this.coordinate = coordinate;
+        this.vegetable = vegetable;
+        this.amount = amount;
+    }
+
+    /**
+     * Creates the action that plants a vegetable on a land.
+     *
+     * @param coordinate coordinate of the land
+     * @param vegetable vegetable type to plant
+     * @return the action
+     */
+    public static GameAction plant(Vector2D coordinate, VegetableType vegetable) {
+        return new GameAction(ActionType.PLANT, coordinate, vegetable, 1);
+    }
+
+    /**
+     * Creates the action that harvests vegetables from a land.
+     *
+     * @param coordinate coordinate of the land
+     * @param amount amount to harvest
+     * @return the action
+     */
+    public static GameAction harvest(Vector2D coordinate, int amount) {
+        return new GameAction(ActionType.HARVEST, coordinate, null, amount);
+    }
+
+    /**
+     * Creates the action that buys a vegetable.
+     *
+     * @param vegetable vegetable type to buy
+     * @return the action
+     */
+    public static GameAction buyVegetable(VegetableType vegetable) {
+        return new GameAction(ActionType.BUY_VEGETABLE, null, vegetable, 1);
+    }
+
+    /**
+     * Creates the action that buys the next available land.
+     *
+     * @param coordinate coordinate to place the land at
+     * @return the action
+     */
+    public static GameAction buyLand(Vector2D coordinate) {
+        return new GameAction(ActionType.BUY_LAND, coordinate, null, 0);
+    }
+
+    /**
+     * Executes the action for the current player of the game.
+     *
+     * @param farm the game to execute the action in
+     * @return true if the game accepted the action, otherwise false
+     */
+    public boolean execute(Farm farm) {
+        return this.type.execute(this, farm);
+    }
+
+    /**
+     * Gets the type of the action.
+     *
+     * @return the type of the action
+     */
+    public ActionType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the coordinate of the land the action applies to.
+     *
+     * @return the coordinate, or null if the action does not apply to a land
+     */
+    public Vector2D getCoordinate() {
+        return coordinate;
+    }
+
+    /**
+     * Gets the vegetable type the action applies to.
+     *
+     * @return the vegetable type, or null if the action does not apply to a vegetable type
+     */
+    public VegetableType getVegetable() {
+        return vegetable;
+    }
+
+    /**
+     * Gets the amount of vegetables the action applies to.
+     *
+     * @return the amount of vegetables
+     */
+    public int getAmount() {
+        return amount;
+    }
+
+    @Override
+    public String toString() {
+        return this.type.toCommand(this);
+    }
+}
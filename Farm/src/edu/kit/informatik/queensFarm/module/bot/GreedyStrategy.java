@@ -0,0 +1,43 @@
+package edu.kit.informatik.queensFarm.module.bot;
+
+import edu.kit.informatik.queensFarm.module.Farm;
+
+/**
+ * This class describes a strategy that picks the action with the highest estimated gain, without looking ahead.
+ * It does not copy the game, so it decides in a few microseconds. If no action gains anything, it ends the turn.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class GreedyStrategy implements BotStrategy {
+    private final ActionGenerator generator = new ActionGenerator();
+    private final FarmEvaluator evaluator = new FarmEvaluator();
+    private final long moveBudgetNanos;
+
+    /**
+     * Constructs a greedy strategy.
+     *
+     * @param moveBudgetNanos the time budget per move in nanoseconds
+     */
+    public GreedyStrategy(long moveBudgetNanos) {
+        this.moveBudgetNanos = moveBudgetNanos;
+    }
+
+    @Override
+    public GameAction chooseAction(Farm farm) {
+        long deadline = System.nanoTime() + this.moveBudgetNanos;
+        GameAction bestAction = GameAction.END_TURN;
+        double bestGain = 0;
+        for (GameAction action : this.generator.generateActions(farm)) {
+            double gain = this.evaluator.estimateGain(farm, action);
+            if (gain > bestGain) {
+                bestAction = action;
+                bestGain = gain;
+            }
+            if (System.nanoTime() - deadline > 0) {
+                break;
+            }
+        }
+        return bestAction;
+    }
+}
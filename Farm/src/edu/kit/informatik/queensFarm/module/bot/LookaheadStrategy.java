@@ -0,0 +1,121 @@
+package edu.kit.informatik.queensFarm.module.bot;
+
+import edu.kit.informatik.queensFarm.module.Farm;
+import edu.kit.informatik.queensFarm.module.output.DiscardingOutputSink;
+
+import java.util.List;
+
+/**
+ * This class describes a strategy that searches the actions of its player up to a bounded number of turns.
+ * Each action is tried on a fork of the game, which writes no output and only copies the players it changes. The other
+ * players are assumed to end their turns without acting. Positions are only rated at the start of a turn of the
+ * player, after the vegetables have grown, so all rated positions are compared at the same point of time.
+ * The search deepens one turn at a time until the time budget per move is spent, and the best action of the
+ * deepest completed search is chosen. If not even the first search completes, the greedy choice is taken.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class LookaheadStrategy implements BotStrategy {
+    private final ActionGenerator generator = new ActionGenerator();
+    private final FarmEvaluator evaluator = new FarmEvaluator();
+    private final GreedyStrategy fallback;
+    private final long moveBudgetNanos;
+    private final int maximumTurns;
+    private long deadline;
+    private boolean isTimedOut;
+
+    /**
+     * Constructs a lookahead strategy.
+     *
+     * @param moveBudgetNanos the time budget per move in nanoseconds
+     * @param maximumTurns the maximum number of own turns to look ahead, including the current one
+     */
+    public LookaheadStrategy(long moveBudgetNanos, int maximumTurns) {
+        this.moveBudgetNanos = moveBudgetNanos;
+        this.maximumTurns = maximumTurns;
+        this.fallback = new GreedyStrategy(moveBudgetNanos);
+    }
+
+    @Override
+    public GameAction chooseAction(Farm farm) {
+        this.deadline = System.nanoTime() + this.moveBudgetNanos;
+        this.isTimedOut = false;
+        int playerIndex = farm.getCurrentPlayerIndex();
+        List<GameAction> actions = this.generator.generateActions(farm);
+        GameAction bestAction = null;
+        for (int turns = 1; turns <= this.maximumTurns && !this.isTimedOut; turns++) {
+            GameAction bestActionAtDepth = null;
+            double bestRating = Double.NEGATIVE_INFINITY;
+            for (GameAction action : actions) {
+                Farm fork = farm.fork(DiscardingOutputSink.INSTANCE);
+                if (!action.execute(fork)) {
+                    continue;
+                }
+                double rating = search(fork, playerIndex, turns);
+                if (this.isTimedOut) {
+                    break;
+                }
+                if (rating > bestRating) {
+                    bestActionAtDepth = action;
+                    bestRating = rating;
+                }
+            }
+            if (!this.isTimedOut) {
+                bestAction = bestActionAtDepth;
+            }
+        }
+        if (bestAction == null) {
+            return this.fallback.chooseAction(farm);
+        }
+        return bestAction;
+    }
+
+    /**
+     * Rates the best position the player can reach at the start of their turn after the given number of turns.
+     *
+     * @param farm a fork of the game that one action was executed on since it was forked, which may be changed
+     * @param playerIndex the index of the player in the order of turns
+     * @param turnsLeft the number of own turns left to search, including the current one
+     * @return the rating of the best reachable position, or any value if the time budget is spent
+     */
+    private double search(Farm farm, int playerIndex, int turnsLeft) {
+        int currentTurnsLeft = turnsLeft;
+        // A fork starts counting the ended turns at zero, so the action has ended the turn if it counted one.
+        if (farm.getNumOfTurnsPlayed() != 0) {
+            skipTurnsOfOtherPlayers(farm, playerIndex);
+            currentTurnsLeft--;
+        }
+        if (currentTurnsLeft == 0 || farm.isGameOver()) {
+            return this.evaluator.evaluate(farm, playerIndex);
+        }
+        if (System.nanoTime() - this.deadline > 0) {
+            this.isTimedOut = true;
+            return 0;
+        }
+        double bestRating = Double.NEGATIVE_INFINITY;
+        for (GameAction action : this.generator.generateActions(farm)) {
+            Farm fork = farm.fork(DiscardingOutputSink.INSTANCE);
+            if (!action.execute(fork)) {
+                continue;
+            }
+            bestRating = Math.max(bestRating, search(fork, playerIndex, currentTurnsLeft));
+            if (this.isTimedOut) {
+                break;
+            }
+        }
+        return bestRating;
+    }
+
+    /**
+     * Ends the turns of the other players, until it is the turn of the given player again or the game is over.
+     *
+     * @param farm a fork of the game, which may be changed
+     * @param playerIndex the index of the player in the order of turns
+     */
+    private void skipTurnsOfOtherPlayers(Farm farm, int playerIndex) {
+        while (!farm.isGameOver() && farm.getCurrentPlayerIndex() != playerIndex) {
+            farm.changeTurn();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package edu.kit.informatik.queensFarm.module.bot;
+
+import edu.kit.informatik.queensFarm.module.Farm;
+import edu.kit.informatik.queensFarm.module.game.GameRandom;
+import edu.kit.informatik.queensFarm.module.output.DiscardingOutputSink;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * This class evaluates the actions of the current player by playing many games to the end from the position after
+ * each action. The rollouts run in parallel on a work-stealing pool, each one on its own fork of the position.
+ * All forks are made by the calling thread before the pool starts, so the workers never fork a game: each worker
+ * only changes its own fork and reads the players it shares with the other forks. Rollouts do not print, so they
+ * never fill the render caches of the shared players.
+ * Each rollout has its own random stream. The streams are derived from the seed of the game in a fixed order before
+ * any rollout starts, and the outcomes are summed up in the order of the rollouts, so the estimates only depend on
+ * the seed and never on the number of threads.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class MonteCarloEvaluator {
+    /**
+     * The quantile of the standard normal distribution for a 95 % confidence interval.
+     */
+    private static final double CONFIDENCE_QUANTILE = 1.96;
+
+    /**
+     * The number of actions after which a rollout is stopped, if no player has reached the winning capital.
+     * A stopped rollout counts as lost.
+     */
+    private static final int MAXIMUM_ACTIONS_PER_ROLLOUT = 5_000;
+    private final ActionGenerator generator = new ActionGenerator();
+    private final FarmEvaluator evaluator = new FarmEvaluator();
+    private final int parallelism;
+    private final int rolloutsPerAction;
+    private final RolloutPolicy policy;
+
+    /**
+     * Constructs a Monte Carlo evaluator.
+     *
+     * @param parallelism number of rollouts that run at the same time
+     * @param rolloutsPerAction number of rollouts per action
+     * @param policy how the players act in the rollouts
+     */
+    public MonteCarloEvaluator(int parallelism, int rolloutsPerAction, RolloutPolicy policy) {
+        this.parallelism = parallelism;
+        this.rolloutsPerAction = rolloutsPerAction;
+        this.policy = policy;
+    }
+
+    /**
+     * Evaluates the given actions of the current player. Actions the game rejects are rated as if the player ended
+     * the turn instead, like a bot whose action is rejected.
+     *
+     * @param farm the game, which is not changed while the evaluation runs
+     * @param actions the actions to evaluate
+     * @return the estimates in the order of the actions
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     * @throws ExecutionException if a rollout fails with an unexpected exception
+     */
+    public List<ActionEstimate> evaluate(Farm farm, List<GameAction> actions)
+            throws InterruptedException, ExecutionException {
+        int playerIndex = farm.getCurrentPlayerIndex();
+        int[][] finalGold = new int[actions.size()][this.rolloutsPerAction];
+        boolean[][] isWon = new boolean[actions.size()][this.rolloutsPerAction];
+        GameRandom random = new GameRandom(farm.getSeed());
+        List<Callable<Void>> rollouts = new ArrayList<>();
+        for (int i = 0; i < actions.size(); i++) {
+            Farm position = farm.fork(DiscardingOutputSink.INSTANCE);
+            if (!actions.get(i).execute(position)) {
+                position.changeTurn();
+            }
+            GameRandom actionRandom = random.child(i);
+            for (int j = 0; j < this.rolloutsPerAction; j++) {
+                int actionIndex = i;
+                int rolloutIndex = j;
+                GameRandom rolloutRandom = actionRandom.child(j);
+                Farm game = position.fork(DiscardingOutputSink.INSTANCE);
+                rollouts.add(() -> {
+                    rollout(game, rolloutRandom);
+                    int gold = game.getPlayer(playerIndex).getTotalGold();
+                    finalGold[actionIndex][rolloutIndex] = gold;
+                    isWon[actionIndex][rolloutIndex] = game.isGameOver() && gold >= game.getWinningCapital();
+                    return null;
+                });
+            }
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+        try {
+            for (Future<Void> future : pool.invokeAll(rollouts)) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        List<ActionEstimate> estimates = new ArrayList<>();
+        for (int i = 0; i < actions.size(); i++) {
+            estimates.add(createEstimate(actions.get(i), finalGold[i], isWon[i]));
+        }
+        return estimates;
+    }
+
+    /**
+     * Plays the private fork of a position until the game is over or the maximum number of actions is reached.
+     *
+     * @param game the fork of the position after the evaluated action, which no other rollout uses
+     * @param random the random stream of the rollout
+     */
+    private void rollout(Farm game, GameRandom random) {
+        for (int i = 0; i < MAXIMUM_ACTIONS_PER_ROLLOUT && !game.isGameOver(); i++) {
+            List<GameAction> actions = this.generator.generateActions(game);
+            if (!this.policy.chooseAction(game, actions, this.evaluator, random).execute(game)) {
+                game.changeTurn();
+            }
+        }
+    }
+
+    /**
+     * Sums up the outcomes of the rollouts of an action in the order of the rollouts.
+     *
+     * @param action the evaluated action
+     * @param finalGold the gold of the player at the end of each rollout
+     * @param isWon whether the player has won each rollout
+     * @return the estimate of the action
+     */
+    private ActionEstimate createEstimate(GameAction action, int[] finalGold, boolean[] isWon) {
+        int numOfRollouts = finalGold.length;
+        double sumOfGold = 0;
+        double sumOfSquaredGold = 0;
+        int numOfWins = 0;
+        for (int i = 0; i < numOfRollouts; i++) {
+            sumOfGold += finalGold[i];
+            sumOfSquaredGold += (double) finalGold[i] * finalGold[i];
+            if (isWon[i]) {
+                numOfWins++;
+            }
+        }
+        double expectedGold = sumOfGold / numOfRollouts;
+        double goldMargin = 0;
+        if (numOfRollouts > 1) {
+            double variance = Math.max(0, (sumOfSquaredGold - numOfRollouts * expectedGold * expectedGold)
+                    / (numOfRollouts - 1));
+            goldMargin = CONFIDENCE_QUANTILE * Math.sqrt(variance / numOfRollouts);
+        }
+        // The Wilson score interval stays within [0, 1] and is reliable for probabilities close to 0 or 1.
+        double winProbability = (double) numOfWins / numOfRollouts;
+        double quantileSquared = CONFIDENCE_QUANTILE * CONFIDENCE_QUANTILE;
+        double denominator = 1 + quantileSquared / numOfRollouts;
+        double center = (winProbability + quantileSquared / (2 * numOfRollouts)) / denominator;
+        double margin = CONFIDENCE_QUANTILE / denominator * Math.sqrt(winProbability * (1 - winProbability)
+                / numOfRollouts + quantileSquared / (4.0 * numOfRollouts * numOfRollouts));
+        return new ActionEstimate(action, numOfRollouts, expectedGold, goldMargin, winProbability,
+                Math.max(0, center - margin), Math.min(1, center + margin));
+    }
+}
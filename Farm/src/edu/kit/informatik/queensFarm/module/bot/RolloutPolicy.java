@@ -0,0 +1,66 @@
+package edu.kit.informatik.queensFarm.module.bot;
+
+import edu.kit.informatik.queensFarm.module.Farm;
+import edu.kit.informatik.queensFarm.module.game.GameRandom;
+
+import java.util.List;
+
+/**
+ * This enum describes how the players act in a rollout, once the evaluated action is executed.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public enum RolloutPolicy {
+    /**
+     * Every player picks one of their actions uniformly at random.
+     */
+    RANDOM {
+        @Override
+        public GameAction chooseAction(Farm farm, List<GameAction> actions, FarmEvaluator evaluator,
+                                       GameRandom random) {
+            return actions.get(random.nextInt(actions.size()));
+        }
+    },
+
+    /**
+     * Every player usually picks the action with the highest estimated gain like the greedy bot, and sometimes
+     * picks one at random, so the rollouts do not all follow the same line of play.
+     */
+    GREEDY {
+        @Override
+        public GameAction chooseAction(Farm farm, List<GameAction> actions, FarmEvaluator evaluator,
+                                       GameRandom random) {
+            if (random.nextInt(EXPLORATION_ODDS) == 0) {
+                return actions.get(random.nextInt(actions.size()));
+            }
+            GameAction bestAction = GameAction.END_TURN;
+            double bestGain = 0;
+            for (GameAction action : actions) {
+                double gain = evaluator.estimateGain(farm, action);
+                if (gain > bestGain) {
+                    bestAction = action;
+                    bestGain = gain;
+                }
+            }
+            return bestAction;
+        }
+    };
+
+    /**
+     * A guided player picks a random action once in this many actions.
+     */
+    private static final int EXPLORATION_ODDS = 4;
+
+    /**
+     * Chooses the next action of the current player of a rollout.
+     *
+     * @param farm the game of the rollout
+     * @param actions the actions of the current player, as listed by the {@link ActionGenerator}
+     * @param evaluator the evaluator that estimates the gain of an action
+     * @param random the random stream of the rollout
+     * @return the chosen action
+     */
+    public abstract GameAction chooseAction(Farm farm, List<GameAction> actions, FarmEvaluator evaluator,
+                                            GameRandom random);
+}
@@ -0,0 +1,94 @@
+package edu.kit.informatik.queensFarm.module.bot;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This enum describes the kinds of bots that can take the seat of a player.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public enum StrategyType {
+    /**
+     * A bot that picks the action with the highest estimated gain.
+     */
+    GREEDY("greedy", 100_000) {
+        @Override
+        public BotStrategy createStrategy(long moveBudgetNanos) {
+            return new GreedyStrategy(moveBudgetNanos);
+        }
+    },
+
+    /**
+     * A bot that searches its next actions up to a bounded number of turns.
+     */
+    LOOKAHEAD("lookahead", 500_000) {
+        @Override
+        public BotStrategy createStrategy(long moveBudgetNanos) {
+            return new LookaheadStrategy(moveBudgetNanos, MAXIMUM_LOOKAHEAD_TURNS);
+        }
+    };
+
+    /**
+     * The number of own turns a lookahead bot looks ahead at most, including the current one.
+     */
+    private static final int MAXIMUM_LOOKAHEAD_TURNS = 2;
+    private static final Map<String, StrategyType> TYPES_BY_NAME = new HashMap<>();
+
+    static {
+        for (StrategyType type : values()) {
+            TYPES_BY_NAME.put(type.name, type);
+        }
+    }
+
+    private final String name;
+    private final long defaultMoveBudgetNanos;
+
+    /**
+     * Constructs a strategy type.
+     *
+     * @param name name of the strategy type
+     * @param defaultMoveBudgetNanos the time budget per move in nanoseconds that bots of this kind get by default
+     */
+    StrategyType(String name, long defaultMoveBudgetNanos) {
+        this.name = name;
+        this.defaultMoveBudgetNanos = defaultMoveBudgetNanos;
+    }
+
+    /**
+     * Creates a new bot of this kind.
+     *
+     * @param moveBudgetNanos the time budget per move in nanoseconds
+     * @return the strategy of the new bot
+     */
+    public abstract BotStrategy createStrategy(long moveBudgetNanos);
+
+    /**
+     * Creates a new bot of this kind with the default time budget per move.
+     *
+     * @return the strategy of the new bot
+     */
+    public BotStrategy createStrategy() {
+        return createStrategy(this.defaultMoveBudgetNanos);
+    }
+
+    /**
+     * Gets the name of the strategy type.
+     *
+     * @return the name of the strategy type
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the strategy type with the given name.
+     *
+     * @param typeName name of the strategy type
+     * @return the strategy type with the given name, or null if there is none
+     */
+    public static StrategyType getStrategyTypeFromString(String typeName) {
+        return TYPES_BY_NAME.get(typeName);
+    }
+}
@@ -0,0 +1,29 @@
+package edu.kit.informatik.queensFarm.module.event;
+
+/**
+ * This class describes an event sink that drops all events. It is used when nobody subscribes to a game.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public final class DiscardingEventSink implements FarmEventSink {
+    /**
+     * The only instance, since the sink has no state.
+     */
+    public static final DiscardingEventSink INSTANCE = new DiscardingEventSink();
+
+    /**
+     * Private constructor to use the shared instance.
+     */
+    private DiscardingEventSink() {
+    }
+
+    @Override
+    public boolean isActive() {
+        return false;
+    }
+
+    @Override
+    public void publish(FarmEvent event) {
+    }
+}
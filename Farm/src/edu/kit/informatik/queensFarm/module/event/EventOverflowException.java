@@ -0,0 +1,19 @@
+package edu.kit.informatik.queensFarm.module.event;
+
+/**
+ * This exception ends the subscription of a subscriber that has missed events, because its buffer was full.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class EventOverflowException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+    private static final String MESSAGE_OVERFLOW = "The subscriber has missed events, because its buffer was full.";
+
+    /**
+     * Constructs the exception.
+     */
+    public EventOverflowException() {
+        super(MESSAGE_OVERFLOW);
+    }
+}
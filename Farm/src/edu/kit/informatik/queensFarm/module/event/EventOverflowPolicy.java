@@ -0,0 +1,21 @@
+package edu.kit.informatik.queensFarm.module.event;
+
+/**
+ * This enum describes what a {@link FarmEventPublisher} does with an event if the buffer of a subscriber is full.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public enum EventOverflowPolicy {
+    /**
+     * The game waits until the subscriber has room for the event, so no subscriber ever misses an event.
+     */
+    BLOCK,
+
+    /**
+     * The game never waits. The event is dropped for the subscriber, and the subscription of that subscriber ends
+     * with an {@link EventOverflowException} instead of its next event, so the subscriber knows that it has missed
+     * events. The events that were still buffered for it are discarded along with them.
+     */
+    FAIL_SUBSCRIBER
+}
@@ -0,0 +1,30 @@
+package edu.kit.informatik.queensFarm.module.event;
+
+/**
+ * This class describes an event of a game that subscribers receive instead of parsing the output of the game.
+ * Events are immutable, so they can be handed to other threads.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public abstract class FarmEvent {
+    private final int playerId;
+
+    /**
+     * Constructs an event.
+     *
+     * @param playerId the id of the player the event belongs to
+     */
+    protected FarmEvent(int playerId) {
+        this.playerId = playerId;
+    }
+
+    /**
+     * Gets the id of the player the event belongs to.
+     *
+     * @return the id of the player, starting with 1
+     */
+    public int getPlayerId() {
+        return this.playerId;
+    }
+}
@@ -0,0 +1,162 @@
+package edu.kit.informatik.queensFarm.module.event;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class describes a publisher of the events of a game to any number of subscribers.
+ * Each subscriber has a bounded buffer and receives events only as far as it has requested them. What happens if
+ * the buffer of a subscriber is full is chosen by the {@link EventOverflowPolicy}: by default the game waits for
+ * the subscriber, otherwise the subscriber is told that it has missed events. A subscriber never misses an event
+ * without being told.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class FarmEventPublisher implements FarmEventSink, Flow.Publisher<FarmEvent>, AutoCloseable {
+    private final SubmissionPublisher<FarmEvent> publisher;
+    private final EventOverflowPolicy overflowPolicy;
+    private final LongAdder numOfDroppedEvents = new LongAdder();
+
+    /**
+     * Constructs a publisher that delivers the events on the default asynchronous executor, with a buffer of
+     * {@link Flow#defaultBufferSize()} events per subscriber. The game waits for subscribers whose buffer is full.
+     */
+    public FarmEventPublisher() {
+        this.publisher = new SubmissionPublisher<>();
+        this.overflowPolicy = EventOverflowPolicy.BLOCK;
+    }
+
+    /**
+     * Constructs a publisher.
+     *
+     * @param executor the executor the events are delivered on
+     * @param bufferCapacity the maximum number of events buffered per subscriber, rounded up to a power of two
+     * @param overflowPolicy what happens to an event if the buffer of a subscriber is full
+     */
+    public FarmEventPublisher(Executor executor, int bufferCapacity, EventOverflowPolicy overflowPolicy) {
+        this.publisher = new SubmissionPublisher<>(executor, bufferCapacity);
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super FarmEvent> subscriber) {
+        if (this.overflowPolicy == EventOverflowPolicy.FAIL_SUBSCRIBER) {
+            this.publisher.subscribe(new OverflowGuard(subscriber));
+        } else {
+            this.publisher.subscribe(subscriber);
+        }
+    }
+
+    @Override
+    public boolean isActive() {
+        return this.publisher.hasSubscribers();
+    }
+
+    @Override
+    public void publish(FarmEvent event) {
+        if (this.overflowPolicy == EventOverflowPolicy.BLOCK) {
+            this.publisher.submit(event);
+            return;
+        }
+        this.publisher.offer(event, (subscriber, droppedEvent) -> {
+            this.numOfDroppedEvents.increment();
+            ((OverflowGuard) subscriber).overflow();
+            return false;
+        });
+    }
+
+    /**
+     * Gets the number of events that were dropped, because the buffer of a subscriber was full. An event dropped
+     * for two subscribers is counted twice. Events are only dropped with {@link EventOverflowPolicy#FAIL_SUBSCRIBER}.
+     *
+     * @return the number of dropped events
+     */
+    public long getNumOfDroppedEvents() {
+        return this.numOfDroppedEvents.sum();
+    }
+
+    /**
+     * Completes the subscriptions after the buffered events are delivered.
+     */
+    @Override
+    public void close() {
+        this.publisher.close();
+    }
+
+    /**
+     * This class describes a subscriber in between the publisher and a subscriber that may miss events. Once an
+     * event has been dropped for it, the subscription is cancelled and the subscriber receives an
+     * {@link EventOverflowException} instead of its next event or instead of the completion.
+     */
+    private static final class OverflowGuard implements Flow.Subscriber<FarmEvent> {
+        private final Flow.Subscriber<? super FarmEvent> subscriber;
+        private volatile boolean hasOverflowed;
+        private Flow.Subscription subscription;
+        private boolean isTerminated;
+
+        /**
+         * Constructs a guard of the given subscriber.
+         *
+         * @param subscriber the subscriber that receives the events
+         */
+        private OverflowGuard(Flow.Subscriber<? super FarmEvent> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        /**
+         * Marks that an event has been dropped for the subscriber. It is called by the publishing thread.
+         */
+        private void overflow() {
+            this.hasOverflowed = true;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            this.subscriber.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(FarmEvent event) {
+            if (this.isTerminated) {
+                return;
+            }
+            if (this.hasOverflowed) {
+                this.subscription.cancel();
+                terminate(new EventOverflowException());
+                return;
+            }
+            this.subscriber.onNext(event);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            terminate(error);
+        }
+
+        @Override
+        public void onComplete() {
+            if (this.hasOverflowed) {
+                terminate(new EventOverflowException());
+            } else if (!this.isTerminated) {
+                this.isTerminated = true;
+                this.subscriber.onComplete();
+            }
+        }
+
+        /**
+         * Ends the subscription of the subscriber with an error, unless it has already ended.
+         *
+         * @param error the error
+         */
+        private void terminate(Throwable error) {
+            if (!this.isTerminated) {
+                this.isTerminated = true;
+                this.subscriber.onError(error);
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package edu.kit.informatik.queensFarm.module.event;
+
+/**
+ * This interface describes the receiver of the events of a game.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public interface FarmEventSink {
+    /**
+     * Checks whether anybody receives the events. The game only creates events if this is the case.
+     *
+     * @return true if the events are received, otherwise false
+     */
+    boolean isActive();
+
+    /**
+     * Publishes an event. It may block the game while a receiver applies backpressure.
+     *
+     * @param event the event to publish
+     */
+    void publish(FarmEvent event);
+}
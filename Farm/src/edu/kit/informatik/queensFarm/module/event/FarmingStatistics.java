@@ -0,0 +1,138 @@
+package edu.kit.informatik.queensFarm.module.event;
+
+import edu.kit.informatik.queensFarm.module.game.VegetableSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+
+/**
+ * This class describes a subscriber that sums up the farming of each player from the events of a game, for example
+ * how many vegetables grew, spoiled and were sold. It requests the events in batches, so it never holds more than a
+ * batch that it has not handled yet. The report is ready once the publisher is closed.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class FarmingStatistics implements Flow.Subscriber<FarmEvent> {
+    private static final int BATCH_SIZE = 64;
+    private static final String REGEX_REPORT_HEADER = "%-8s %5s %9s %6s %7s %9s %6s %7s %5s %9s";
+    private static final String REGEX_REPORT_LINE = "%-8s %5d %9d %6d %7d %9d %6d %7d %5d %9d";
+    private static final String[] REPORT_HEADER = {"Player", "Lands", "Land gold", "Bought", "Planted", "Harvested",
+        "Grown", "Spoiled", "Sold", "Sale gold"};
+    private static final String REGEX_PLAYER = "Player %d";
+    private static final String MESSAGE_INCOMPLETE = "The statistics are incomplete: %s";
+    private final Map<Integer, PlayerStatistics> players = new TreeMap<>();
+    private final CompletableFuture<List<String>> report = new CompletableFuture<>();
+    private Flow.Subscription subscription;
+    private int numOfEventsLeftInBatch;
+    private Throwable error;
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        requestBatch();
+    }
+
+    @Override
+    public void onNext(FarmEvent event) {
+        PlayerStatistics player = this.players.computeIfAbsent(event.getPlayerId(), id -> new PlayerStatistics());
+        if (event instanceof LandPurchasedEvent) {
+            player.numOfLands++;
+            player.landGold += ((LandPurchasedEvent) event).getPrice();
+        } else if (event instanceof VegetableBoughtEvent) {
+            player.numOfVegetablesBought++;
+        } else if (event instanceof VegetablePlantedEvent) {
+            player.numOfVegetablesPlanted++;
+        } else if (event instanceof VegetablesHarvestedEvent) {
+            player.numOfVegetablesHarvested += ((VegetablesHarvestedEvent) event).getAmount();
+        } else if (event instanceof VegetablesGrownEvent) {
+            player.numOfVegetablesGrown += ((VegetablesGrownEvent) event).getAmount();
+        } else if (event instanceof VegetablesSpoiledEvent) {
+            player.numOfVegetablesSpoiled += ((VegetablesSpoiledEvent) event).getAmount();
+        } else if (event instanceof VegetablesSoldEvent) {
+            VegetablesSoldEvent sale = (VegetablesSoldEvent) event;
+            for (VegetableSet vegetables : sale.getVegetables()) {
+                player.numOfVegetablesSold += vegetables.getAmount();
+            }
+            player.saleGold += sale.getGold();
+        }
+        this.numOfEventsLeftInBatch--;
+        if (this.numOfEventsLeftInBatch == 0) {
+            requestBatch();
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        this.error = throwable;
+        this.report.complete(createReport());
+    }
+
+    @Override
+    public void onComplete() {
+        this.report.complete(createReport());
+    }
+
+    /**
+     * Waits until the publisher is closed and gets the table of the farming of all players.
+     *
+     * @return the lines of the table, starting with the header
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public List<String> awaitReport() throws InterruptedException {
+        try {
+            return this.report.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Requests the next batch of events.
+     */
+    private void requestBatch() {
+        this.numOfEventsLeftInBatch = BATCH_SIZE;
+        this.subscription.request(BATCH_SIZE);
+    }
+
+    /**
+     * Creates the table of the farming of all players. If events were missed, the table says so.
+     *
+     * @return the lines of the table, starting with the header
+     */
+    private List<String> createReport() {
+        List<String> lines = new ArrayList<>();
+        if (this.error != null) {
+            lines.add(String.format(MESSAGE_INCOMPLETE, this.error.getMessage()));
+        }
+        lines.add(String.format(REGEX_REPORT_HEADER, (Object[]) REPORT_HEADER));
+        for (Map.Entry<Integer, PlayerStatistics> entry : this.players.entrySet()) {
+            PlayerStatistics player = entry.getValue();
+            lines.add(String.format(REGEX_REPORT_LINE, String.format(REGEX_PLAYER, entry.getKey()), player.numOfLands,
+                    player.landGold, player.numOfVegetablesBought, player.numOfVegetablesPlanted,
+                    player.numOfVegetablesHarvested, player.numOfVegetablesGrown, player.numOfVegetablesSpoiled,
+                    player.numOfVegetablesSold, player.saleGold));
+        }
+        return lines;
+    }
+
+    /**
+     * This class describes the sums of the farming of one player.
+     */
+    private static final class PlayerStatistics {
+        private int numOfLands;
+        private long landGold;
+        private int numOfVegetablesBought;
+        private int numOfVegetablesPlanted;
+        private long numOfVegetablesHarvested;
+        private long numOfVegetablesGrown;
+        private long numOfVegetablesSpoiled;
+        private long numOfVegetablesSold;
+        private long saleGold;
+    }
+}
@@ -0,0 +1,46 @@
+package edu.kit.informatik.queensFarm.module.event;
+
+import java.util.List;
+
+/**
+ * This class describes the event of a game that is over, because a player has reached the winning capital or a
+ * player has quit.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class GameOverEvent extends FarmEvent {
+    private final List<Integer> winnerIds;
+    private final boolean isQuit;
+
+    /**
+     * Constructs the event.
+     *
+     * @param playerId the id of the player whose turn has ended the game
+     * @param winnerIds the ids of the winners in ascending order
+     * @param isQuit whether the game was ended by command "quit"
+     */
+    public GameOverEvent(int playerId, List<Integer> winnerIds, boolean isQuit) {
+        super(playerId);
+        this.winnerIds = List.copyOf(winnerIds);
+        this.isQuit = isQuit;
+    }
+
+    /**
+     * Gets the ids of the winners.
+     *
+     * @return the unmodifiable list of the ids of the winners in ascending order
+     */
+    public List<Integer> getWinnerIds() {
+        return this.winnerIds;
+    }
+
+    /**
+     * Checks whether the game was ended by command "quit".
+     *
+     * @return true if the game was ended by command "quit", otherwise false
+     */
+    public boolean isQuit() {
+        return this.isQuit;
+    }
+}
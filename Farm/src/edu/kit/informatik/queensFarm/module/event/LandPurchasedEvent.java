@@ -0,0 +1,58 @@
+package edu.kit.informatik.queensFarm.module.event;
+
+import edu.kit.informatik.queensFarm.module.game.Vector2D;
+import edu.kit.informatik.queensFarm.module.game.land.ArableLandType;
+
+/**
+ * This class describes the event of a land that a player has bought.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class LandPurchasedEvent extends FarmEvent {
+    private final Vector2D coordinate;
+    private final ArableLandType landType;
+    private final int price;
+
+    /**
+     * Constructs the event.
+     *
+     * @param playerId the id of the player that has bought the land
+     * @param coordinate the coordinates of the land
+     * @param landType the type of the land
+     * @param price the price of the land in gold
+     */
+    public LandPurchasedEvent(int playerId, Vector2D coordinate, ArableLandType landType, int price) {
+        super(playerId);
+        this.coordinate = coordinate;
+        this.landType = landType;
+        this.price = price;
+    }
+
+    /**
+     * Gets the coordinates of the land.
+     *
+     * @return the coordinates of the land
+     */
+    public Vector2D getCoordinate() {
+        return this.coordinate;
+    }
+
+    /**
+     * Gets the type of the land.
+     *
+     * @return the type of the land
+     */
+    public ArableLandType getLandType() {
+        return this.landType;
+    }
+
+    /**
+     * Gets the price of the land in gold.
+     *
+     * @return the price of the land in gold
+     */
+    public int getPrice() {
+        return this.price;
+    }
+}
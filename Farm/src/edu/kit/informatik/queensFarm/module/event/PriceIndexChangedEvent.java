@@ -0,0 +1,57 @@
+package edu.kit.informatik.queensFarm.module.event;
+
+import edu.kit.informatik.queensFarm.module.game.market.PriceDisplay;
+
+/**
+ * This class describes the event of a price indicator of the market that has moved at the end of a turn.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class PriceIndexChangedEvent extends FarmEvent {
+    private final PriceDisplay priceDisplay;
+    private final int previousPriceIndex;
+    private final int priceIndex;
+
+    /**
+     * Constructs the event.
+     *
+     * @param playerId the id of the player whose turn has ended
+     * @param priceDisplay the price display whose indicator has moved
+     * @param previousPriceIndex the index of the indicator before the move
+     * @param priceIndex the index of the indicator after the move
+     */
+    public PriceIndexChangedEvent(int playerId, PriceDisplay priceDisplay, int previousPriceIndex, int priceIndex) {
+        super(playerId);
+        this.priceDisplay = priceDisplay;
+        this.previousPriceIndex = previousPriceIndex;
+        this.priceIndex = priceIndex;
+    }
+
+    /**
+     * Gets the price display whose indicator has moved.
+     *
+     * @return the price display whose indicator has moved
+     */
+    public PriceDisplay getPriceDisplay() {
+        return this.priceDisplay;
+    }
+
+    /**
+     * Gets the index of the indicator before the move.
+     *
+     * @return the index of the indicator before the move
+     */
+    public int getPreviousPriceIndex() {
+        return this.previousPriceIndex;
+    }
+
+    /**
+     * Gets the index of the indicator after the move.
+     *
+     * @return the index of the indicator after the move
+     */
+    public int getPriceIndex() {
+        return this.priceIndex;
+    }
+}
@@ -0,0 +1,43 @@
+package edu.kit.informatik.queensFarm.module.event;
+
+/**
+ * This class describes the event of a turn that has ended.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class TurnChangedEvent extends FarmEvent {
+    private final int nextPlayerId;
+    private final int numOfTurnsPlayed;
+
+    /**
+     * Constructs the event.
+     *
+     * @param playerId the id of the player whose turn has ended
+     * @param nextPlayerId the id of the player whose turn starts
+     * @param numOfTurnsPlayed the number of turns played so far
+     */
+    public TurnChangedEvent(int playerId, int nextPlayerId, int numOfTurnsPlayed) {
+        super(playerId);
+        this.nextPlayerId = nextPlayerId;
+        this.numOfTurnsPlayed = numOfTurnsPlayed;
+    }
+
+    /**
+     * Gets the id of the player whose turn starts.
+     *
+     * @return the id of the player whose turn starts
+     */
+    public int getNextPlayerId() {
+        return this.nextPlayerId;
+    }
+
+    /**
+     * Gets the number of turns played so far.
+     *
+     * @return the number of turns played so far
+     */
+    public int getNumOfTurnsPlayed() {
+        return this.numOfTurnsPlayed;
+    }
+}
@@ -0,0 +1,45 @@
+package edu.kit.informatik.queensFarm.module.event;
+
+import edu.kit.informatik.queensFarm.module.game.VegetableType;
+
+/**
+ * This class describes the event of a vegetable that a player has bought at the market.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class VegetableBoughtEvent extends FarmEvent {
+    private final VegetableType vegetableType;
+    private final int price;
+
+    /**
+     * Constructs the event.
+     *
+     * @param playerId the id of the player that has bought the vegetable
+     * @param vegetableType the type of the bought vegetable
+     * @param price the price of the vegetable in gold
+     */
+    public VegetableBoughtEvent(int playerId, VegetableType vegetableType, int price) {
+        super(playerId);
+        this.vegetableType = vegetableType;
+        this.price = price;
+    }
+
+    /**
+     * Gets the type of the bought vegetable.
+     *
+     * @return the type of the bought vegetable
+     */
+    public VegetableType getVegetableType() {
+        return this.vegetableType;
+    }
+
+    /**
+     * Gets the price of the vegetable in gold.
+     *
+     * @return the price of the vegetable in gold
+     */
+    public int getPrice() {
+        return this.price;
+    }
+}
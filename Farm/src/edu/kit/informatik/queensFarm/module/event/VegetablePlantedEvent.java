@@ -0,0 +1,46 @@
+package edu.kit.informatik.queensFarm.module.event;
+
+import edu.kit.informatik.queensFarm.module.game.Vector2D;
+import edu.kit.informatik.queensFarm.module.game.VegetableType;
+
+/**
+ * This class describes the event of a vegetable that a player has planted.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class VegetablePlantedEvent extends FarmEvent {
+    private final Vector2D coordinate;
+    private final VegetableType vegetableType;
+
+    /**
+     * Constructs the event.
+     *
+     * @param playerId the id of the player that has planted the vegetable
+     * @param coordinate the coordinates of the land the vegetable is planted on
+     * @param vegetableType the type of the planted vegetable
+     */
+    public VegetablePlantedEvent(int playerId, Vector2D coordinate, VegetableType vegetableType) {
+        super(playerId);
+        this.coordinate = coordinate;
+        this.vegetableType = vegetableType;
+    }
+
+    /**
+     * Gets the coordinates of the land the vegetable is planted on.
+     *
+     * @return the coordinates of the land the vegetable is planted on
+     */
+    public Vector2D getCoordinate() {
+        return this.coordinate;
+    }
+
+    /**
+     * Gets the type of the planted vegetable.
+     *
+     * @return the type of the planted vegetable
+     */
+    public VegetableType getVegetableType() {
+        return this.vegetableType;
+    }
+}
@@ -0,0 +1,71 @@
+package edu.kit.informatik.queensFarm.module.event;
+
+import edu.kit.informatik.queensFarm.module.game.Vector2D;
+import edu.kit.informatik.queensFarm.module.game.VegetableType;
+
+/**
+ * This class describes the event of the vegetables of a land that have grown, because the timer of the land is due.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class VegetablesGrownEvent extends FarmEvent {
+    private final Vector2D coordinate;
+    private final VegetableType vegetableType;
+    private final int amount;
+    private final boolean isLandFull;
+
+    /**
+     * Constructs the event.
+     *
+     * @param playerId the id of the player that owns the land
+     * @param coordinate the coordinates of the land
+     * @param vegetableType the type of the vegetables on the land
+     * @param amount the number of grown vegetables
+     * @param isLandFull whether the land has reached its capacity
+     */
+    public VegetablesGrownEvent(int playerId, Vector2D coordinate, VegetableType vegetableType, int amount,
+                                boolean isLandFull) {
+        super(playerId);
+        this.coordinate = coordinate;
+        this.vegetableType = vegetableType;
+        this.amount = amount;
+        this.isLandFull = isLandFull;
+    }
+
+    /**
+     * Gets the coordinates of the land.
+     *
+     * @return the coordinates of the land
+     */
+    public Vector2D getCoordinate() {
+        return this.coordinate;
+    }
+
+    /**
+     * Gets the type of the vegetables on the land.
+     *
+     * @return the type of the vegetables on the land
+     */
+    public VegetableType getVegetableType() {
+        return this.vegetableType;
+    }
+
+    /**
+     * Gets the number of grown vegetables.
+     *
+     * @return the number of grown vegetables
+     */
+    public int getAmount() {
+        return this.amount;
+    }
+
+    /**
+     * Checks whether the land has reached its capacity.
+     *
+     * @return true if the land has reached its capacity, otherwise false
+     */
+    public boolean isLandFull() {
+        return this.isLandFull;
+    }
+}
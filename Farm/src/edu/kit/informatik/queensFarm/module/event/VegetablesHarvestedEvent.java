@@ -0,0 +1,58 @@
+package edu.kit.informatik.queensFarm.module.event;
+
+import edu.kit.informatik.queensFarm.module.game.Vector2D;
+import edu.kit.informatik.queensFarm.module.game.VegetableType;
+
+/**
+ * This class describes the event of vegetables that a player has harvested and stored in the barn.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class VegetablesHarvestedEvent extends FarmEvent {
+    private final Vector2D coordinate;
+    private final VegetableType vegetableType;
+    private final int amount;
+
+    /**
+     * Constructs the event.
+     *
+     * @param playerId the id of the player that has harvested the vegetables
+     * @param coordinate the coordinates of the harvested land
+     * @param vegetableType the type of the harvested vegetables
+     * @param amount the number of harvested vegetables
+     */
+    public VegetablesHarvestedEvent(int playerId, Vector2D coordinate, VegetableType vegetableType, int amount) {
+        super(playerId);
+        this.coordinate = coordinate;
+        this.vegetableType = vegetableType;
+        this.amount = amount;
+    }
+
+    /**
+     * Gets the coordinates of the harvested land.
+     *
+     * @return the coordinates of the harvested land
+     */
+    public Vector2D getCoordinate() {
+        return this.coordinate;
+    }
+
+    /**
+     * Gets the type of the harvested vegetables.
+     *
+     * @return the type of the harvested vegetables
+     */
+    public VegetableType getVegetableType() {
+        return this.vegetableType;
+    }
+
+    /**
+     * Gets the number of harvested vegetables.
+     *
+     * @return the number of harvested vegetables
+     */
+    public int getAmount() {
+        return this.amount;
+    }
+}
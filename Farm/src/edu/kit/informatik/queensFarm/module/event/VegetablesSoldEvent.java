@@ -0,0 +1,53 @@
+package edu.kit.informatik.queensFarm.module.event;
+
+import edu.kit.informatik.queensFarm.module.game.VegetableSet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class describes the event of vegetables that a player has sold at the market.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class VegetablesSoldEvent extends FarmEvent {
+    private final List<VegetableSet> vegetables;
+    private final int gold;
+
+    /**
+     * Constructs the event. The vegetables are copied, because the sets of the game may change afterwards.
+     *
+     * @param playerId the id of the player that has sold the vegetables
+     * @param vegetables the sold vegetables, which may be empty
+     * @param gold the gold earned from the sale
+     */
+    public VegetablesSoldEvent(int playerId, List<VegetableSet> vegetables, int gold) {
+        super(playerId);
+        List<VegetableSet> copies = new ArrayList<>(vegetables.size());
+        for (VegetableSet set : vegetables) {
+            copies.add(new VegetableSet(set.getType(), set.getAmount()));
+        }
+        this.vegetables = Collections.unmodifiableList(copies);
+        this.gold = gold;
+    }
+
+    /**
+     * Gets the sold vegetables. The sets must not be changed.
+     *
+     * @return the unmodifiable list of the sold vegetables
+     */
+    public List<VegetableSet> getVegetables() {
+        return this.vegetables;
+    }
+
+    /**
+     * Gets the gold earned from the sale.
+     *
+     * @return the gold earned from the sale
+     */
+    public int getGold() {
+        return this.gold;
+    }
+}
@@ -0,0 +1,31 @@
+package edu.kit.informatik.queensFarm.module.event;
+
+/**
+ * This class describes the event of the vegetables in a barn that have spoiled.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class VegetablesSpoiledEvent extends FarmEvent {
+    private final int amount;
+
+    /**
+     * Constructs the event.
+     *
+     * @param playerId the id of the player that owns the barn
+     * @param amount the number of spoiled vegetables
+     */
+    public VegetablesSpoiledEvent(int playerId, int amount) {
+        super(playerId);
+        this.amount = amount;
+    }
+
+    /**
+     * Gets the number of spoiled vegetables.
+     *
+     * @return the number of spoiled vegetables
+     */
+    public int getAmount() {
+        return this.amount;
+    }
+}
@@ -1,16 +1,19 @@
 package edu.kit.informatik.queensFarm.module.game;
 
 import edu.kit.informatik.queensFarm.module.FarmException;
+import edu.kit.informatik.queensFarm.module.event.FarmEventSink;
+import edu.kit.informatik.queensFarm.module.event.VegetablesGrownEvent;
 import edu.kit.informatik.queensFarm.module.game.land.ArableLand;
 import edu.kit.informatik.queensFarm.module.game.land.ArableLandType;
+import edu.kit.informatik.queensFarm.module.jfr.GrowthEvent;
+import edu.kit.informatik.queensFarm.module.output.OutputSink;
 import edu.kit.informatik.queensFarm.resource.ErrorMessage;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.StringJoiner;
 
 /**
@@ -29,29 +32,120 @@ public class Board {
     private static final String SEPARATOR_SPACE = " ";
     private static final char NULL_CHARACTER = '\0';
     private static final String SEPARATOR_VERTICAL_BAR = "|";
+    /**
+     * Space string to add at the beginning or end of the row representation when needed.
+     */
+    private static final String BLANK_STARTER_OR_ENDING = new String(new char[LENGTH_OF_BLANK_STRINGS])
+            .replace(NULL_CHARACTER, SEPARATOR_CHAR_SPACE);
+    private static final String BLANK_STRINGS = new String(new char[LENGTH_OF_CONTENT_STRINGS])
+            .replace(NULL_CHARACTER, SEPARATOR_CHAR_SPACE);
     private static final String MESSAGE_VEGETABLES_GROWN = "%d vegetables have grown since your last turn.";
     private static final String MESSAGE_SINGLE_VEGETABLE_GROWN = "1 vegetable has grown since your last turn.";
     private static final String MESSAGE_SUCCESSFUL_LAND_PURCHASE = "You have bought a %s for %d gold.";
-    private final Map<Vector2D, ArableLand> landMap;
+    private static final ArableLandType[] LAND_TYPES = ArableLandType.values();
+    private static final int INITIAL_SMALLEST_X = -1;
+    private static final int INITIAL_WIDTH = 3;
+    private static final int INITIAL_HEIGHT = 2;
+    private final OutputSink output;
+    private final TurnScheduler scheduler;
+    /**
+     * The lands of the board in a dense grid, row by row from y = 0 upwards. Tiles without land are null.
+     * The grid grows when a land outside of it is bought.
+     */
+    private ArableLand[] grid;
+    private int gridSmallestX;
+    private int gridWidth;
+    private int gridHeight;
+    private int numOfLands;
+    private int smallestX;
+    private int greatestX;
+    private int greatestY;
+    /**
+     * The rendered rows of the board, three per row of tiles from the greatest y downwards, or null if the board has
+     * not been rendered within its current bounds. Only the rows of tiles with a changed land are rendered again.
+     * They are filled while the board is printed, so a board shared by forks on several threads must not be printed.
+     */
+    private String[] renderedRows;
+    private String renderedBoard;
+    private List<String> renderedBarnDetails;
+    private int renderedSmallestX;
+    private int renderedGreatestX;
 
     /**
      * Constructs a board with the default given lands.
+     *
+     * @param output the sink that messages are written to
+     * @param scheduler the turn clock of the player that owns the board
+     */
+    public Board(OutputSink output, TurnScheduler scheduler) {
+        this.output = output;
+        this.scheduler = scheduler;
+        clear();
+        putLand(0, 1, new ArableLand(ArableLandType.FIELD));
+        putLand(-1, 0, new ArableLand(ArableLandType.GARDEN));
+        putLand(1, 0, new ArableLand(ArableLandType.GARDEN));
+    }
+
+    /**
+     * Constructs a copy of the given board, whose lands are copied onto the given turn clock.
+     *
+     * @param original the board to copy
+     * @param output the sink that messages of the copy are written to
+     * @param scheduler the turn clock of the player that owns the copy
      */
-    public Board() {
-        this.landMap = new HashMap<>();
-        this.landMap.put(new Vector2D(0, 1), new ArableLand(ArableLandType.FIELD));
-        this.landMap.put(new Vector2D(-1, 0), new ArableLand(ArableLandType.GARDEN));
-        this.landMap.put(new Vector2D(1, 0), new ArableLand(ArableLandType.GARDEN));
+    private Board(Board original, OutputSink output, TurnScheduler scheduler) {
+        this.output = output;
+        this.scheduler = scheduler;
+        this.grid = new ArableLand[original.grid.length];
+        for (int i = 0; i < this.grid.length; i++) {
+            if (original.grid[i] != null) {
+                this.grid[i] = original.grid[i].copy(scheduler);
+            }
+        }
+        this.gridSmallestX = original.gridSmallestX;
+        this.gridWidth = original.gridWidth;
+        this.gridHeight = original.gridHeight;
+        this.numOfLands = original.numOfLands;
+        this.smallestX = original.smallestX;
+        this.greatestX = original.greatestX;
+        this.greatestY = original.greatestY;
     }
 
     /**
-     * Checks the vegetables grown in this round
+     * Copies the board with all its lands. The copy changes independently of this board.
+     *
+     * @param copyOutput the sink that messages of the copy are written to
+     * @param copyScheduler the turn clock of the player that owns the copy
+     * @return the copy of the board
+     */
+    public Board copy(OutputSink copyOutput, TurnScheduler copyScheduler) {
+        return new Board(this, copyOutput, copyScheduler);
+    }
+
+    /**
+     * Checks the vegetables grown in this round. Only the lands whose timers are due in this round are visited.
+     * The growth of each land is recorded as a flight recorder event and published to the subscribers of the game.
+     * @param dueLands the lands whose timers are due in this round
+     * @param gameId the id of the game, which the events are recorded with
+     * @param playerId the id of the player that owns the board
+     * @param events the receiver of the events of the game
      * @return  the number of vegetables grown in this round
      */
-    public String checkBoard() {
+    public String checkBoard(List<ArableLand> dueLands, long gameId, int playerId, FarmEventSink events) {
         int sumOfVegetables = 0;
-        for (ArableLand land : this.landMap.values()) {
-            sumOfVegetables += land.getGrowth();
+        for (ArableLand land : dueLands) {
+            GrowthEvent event = new GrowthEvent(gameId, playerId);
+            event.begin();
+            int grownVegetables = land.grow();
+            sumOfVegetables += grownVegetables;
+            if (event.isRecorded()) {
+                event.setGrowth(land.getVegetableType().getName(), grownVegetables, land.isLandFull());
+                event.commit();
+            }
+            if (events.isActive()) {
+                events.publish(new VegetablesGrownEvent(playerId, getCoordinate(land), land.getVegetableType(),
+                        grownVegetables, land.isLandFull()));
+            }
         }
         if (sumOfVegetables == 0) {
             return null;
@@ -70,28 +164,50 @@ public class Board {
      * @throws FarmException if the player does not own this land
      */
     public ArableLand getLandByCoordinate(Vector2D coordinate) throws FarmException {
-        if (!this.landMap.containsKey(coordinate)) {
+        ArableLand land = getLand(coordinate.getX(), coordinate.getY());
+        if (land == null) {
             throw new FarmException(ErrorMessage.LAND_NOT_OWNED.toString());
         }
-        return this.landMap.get(coordinate);
+        return land;
+    }
+
+    /**
+     * Plants a vegetable on the land with the given coordinates.
+     *
+     * @param coordinate coordinate of the land
+     * @param type type of the vegetable to plant
+     * @throws FarmException if the player does not own the land, or the vegetable cannot be planted on it
+     */
+    public void plantVegetable(Vector2D coordinate, VegetableType type) throws FarmException {
+        getLandByCoordinate(coordinate).addVegetable(type);
     }
 
     /**
-     * Checks whether the given location is valid for new land.
+     * Harvests vegetables from the land with the given coordinates.
+     *
+     * @param coordinate coordinate of the land
+     * @param amountToRemove amount to harvest
+     * @return the harvested vegetables
+     * @throws FarmException if the player does not own the land, or the vegetables cannot be harvested
+     */
+    public VegetableSet harvestVegetable(Vector2D coordinate, int amountToRemove) throws FarmException {
+        return getLandByCoordinate(coordinate).removeVegetable(amountToRemove);
+    }
+
+    /**
+     * Checks whether the given location is valid for new land. A new land must lie next to an owned land on the
+     * left or on the right, or directly above an owned land.
      *
      * @param coordinate the given location
      * @return true if the given location is valid for new land, otherwise false
      */
     public boolean isLocationValid(Vector2D coordinate) {
-        if (this.landMap.containsKey(coordinate) || coordinate.equals(new Vector2D(0, 0))) {
+        int x = coordinate.getX();
+        int y = coordinate.getY();
+        if (y < 0 || getLand(x, y) != null || (x == 0 && y == 0)) {
             return false;
         }
-        for (Vector2D vector2D : this.landMap.keySet()) {
-            if (vector2D.isValidLocation(coordinate)) {
-                return true;
-            }
-        }
-        return false;
+        return getLand(x - 1, y) != null || getLand(x + 1, y) != null || getLand(x, y - 1) != null;
     }
 
     /**
@@ -116,52 +232,236 @@ public class Board {
         if (!isLocationValid(coordinate)) {
             throw new FarmException(ErrorMessage.ILLEGAL_COORDINATE.toString());
         }
-        this.landMap.put(coordinate, land);
-        System.out.println(String.format(MESSAGE_SUCCESSFUL_LAND_PURCHASE, land.getLandTypeString(),
+        putLand(coordinate.getX(), coordinate.getY(), land);
+        this.output.println(String.format(MESSAGE_SUCCESSFUL_LAND_PURCHASE, land.getLandTypeString(),
                 calculateLandPrice(coordinate)));
     }
 
+    /**
+     * Writes the coordinates, the type and the state of each land on the board.
+     *
+     * @param output the snapshot to write to
+     * @throws IOException if the snapshot cannot be written
+     */
+    public void writeState(DataOutput output) throws IOException {
+        output.writeInt(this.numOfLands);
+        for (int i = 0; i < this.grid.length; i++) {
+            ArableLand land = this.grid[i];
+            if (land != null) {
+                output.writeInt(this.gridSmallestX + i % this.gridWidth);
+                output.writeInt(i / this.gridWidth);
+                output.writeByte(land.getLandType().ordinal());
+                land.writeState(output);
+            }
+        }
+    }
+
+    /**
+     * Replaces all lands on the board with the lands written by {@link #writeState(DataOutput)}.
+     *
+     * @param input the snapshot to read from
+     * @throws IOException if the snapshot cannot be read
+     */
+    public void readState(DataInput input) throws IOException {
+        clear();
+        int numOfLandsToRead = input.readInt();
+        for (int i = 0; i < numOfLandsToRead; i++) {
+            int x = input.readInt();
+            int y = input.readInt();
+            ArableLand land = new ArableLand(LAND_TYPES[input.readUnsignedByte()]);
+            putLand(x, y, land);
+            land.readState(input);
+        }
+    }
+
     /**
      * Gets the status of board in string format.
-     * Breaks the information into three rows and stores them in an array.
+     * Breaks the information into three rows per row of tiles. Only the rows of tiles whose lands have changed since
+     * the last call are rendered again, and the row of the barn if the barn details have changed. The whole board is
+     * rendered again only if its bounds have changed.
      *
      * @param barnDetails details of barn
      * @return status of board in string format
      */
     public String shownBoard(List<String> barnDetails) {
-        List<Vector2D> coordinates = new ArrayList<>();
-        for (Vector2D coordinate : this.landMap.keySet()) {
-            coordinates.add(coordinate);
-        }
-        Collections.sort(coordinates, Comparator.comparingInt(Vector2D::getX));
-        int smallestXCoordinate = coordinates.get(0).getX();
-
-        Collections.sort(coordinates, Comparator.comparingInt(Vector2D::getX).reversed());
-        int greatestXCoordinate = coordinates.get(0).getX();
-
-        Collections.sort(coordinates, Comparator.comparingInt(Vector2D::getY).reversed());
-        int greatestYCoordinate = coordinates.get(0).getY();
-
-        //This is the number of rows in the array where strings will be stored.
-        int numOfRows = 3 * (greatestYCoordinate + 1);
-        String[][] printDetails = new String[numOfRows][greatestXCoordinate - smallestXCoordinate + 1];
-
-        for (int j = greatestYCoordinate; j > -1; j--) {
-            for (int i = smallestXCoordinate; i < greatestXCoordinate + 1; i++) {
-                Vector2D coordinateToSearch = new Vector2D(i, j);
-                int rowOrder = 3 * (greatestYCoordinate - j);
-                if (this.landMap.containsKey(coordinateToSearch)) {
-                    //Break the information from one land into three rows.
-                    for (int k = 0; k < 3; k++) {
-                        int value = i - smallestXCoordinate;
-                        printDetails[rowOrder][i - smallestXCoordinate] = this.landMap.get(coordinateToSearch)
-                                .printLandInBoard().get(k);
-                        rowOrder++;
-                    }
+        boolean hasChanged = false;
+        if (this.renderedRows == null || this.renderedSmallestX != this.smallestX
+                || this.renderedGreatestX != this.greatestX || this.renderedRows.length != 3 * (this.greatestY + 1)) {
+            this.renderedRows = new String[3 * (this.greatestY + 1)];
+            this.renderedSmallestX = this.smallestX;
+            this.renderedGreatestX = this.greatestX;
+            for (int y = 0; y <= this.greatestY; y++) {
+                renderTileRow(y, barnDetails);
+            }
+            hasChanged = true;
+        } else {
+            for (int y = 0; y <= this.greatestY; y++) {
+                if ((y == 0 && !barnDetails.equals(this.renderedBarnDetails)) || hasTileRowChanged(y)) {
+                    renderTileRow(y, barnDetails);
+                    hasChanged = true;
                 }
             }
         }
-        return printArray(printDetails, barnDetails, smallestXCoordinate);
+        this.renderedBarnDetails = barnDetails;
+        if (hasChanged) {
+            this.renderedBoard = String.join(System.lineSeparator(), this.renderedRows);
+        }
+        return this.renderedBoard;
+    }
+
+    /**
+     * Checks whether a land in the given row of tiles has changed since it was rendered.
+     *
+     * @param y coordinate y of the row of tiles
+     * @return true if the row has to be rendered again, otherwise false
+     */
+    private boolean hasTileRowChanged(int y) {
+        for (int x = this.smallestX; x <= this.greatestX; x++) {
+            ArableLand land = getLand(x, y);
+            if (land != null && land.hasChangedSinceRendered()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Renders the three rows of the given row of tiles with the cached lines of each land. The barn details are
+     * shown in the row y = 0.
+     *
+     * @param y coordinate y of the row of tiles
+     * @param barnDetails details of barn
+     */
+    private void renderTileRow(int y, List<String> barnDetails) {
+        String[][] printDetails = new String[3][this.greatestX - this.smallestX + 1];
+        for (int x = this.smallestX; x <= this.greatestX; x++) {
+            ArableLand land = getLand(x, y);
+            if (land != null) {
+                //Break the information from one land into three rows.
+                List<String> landDetails = land.printLandInBoard();
+                for (int k = 0; k < 3; k++) {
+                    printDetails[k][x - this.smallestX] = landDetails.get(k);
+                }
+            }
+        }
+        if (y == 0) {
+            addBarnDetails(printDetails, barnDetails, this.smallestX);
+        }
+        int rowOrder = 3 * (this.greatestY - y);
+        for (int k = 0; k < 3; k++) {
+            this.renderedRows[rowOrder + k] = renderRow(printDetails[k]);
+        }
+    }
+
+    /**
+     * Gets the land on the given tile.
+     *
+     * @param x coordinate x of the tile
+     * @param y coordinate y of the tile
+     * @return the land on the tile, or null if the tile has no land
+     */
+    public ArableLand getLand(int x, int y) {
+        long column = (long) x - this.gridSmallestX;
+        if (column < 0 || column >= this.gridWidth || y < 0 || y >= this.gridHeight) {
+            return null;
+        }
+        return this.grid[y * this.gridWidth + (int) column];
+    }
+
+    /**
+     * Gets the coordinates of a land on the board.
+     *
+     * @param land the land to search
+     * @return the coordinates of the land, or null if the land is not on the board
+     */
+    public Vector2D getCoordinate(ArableLand land) {
+        Vector2D coordinate = land.getCoordinate();
+        if (coordinate == null || getLand(coordinate.getX(), coordinate.getY()) != land) {
+            return null;
+        }
+        return coordinate;
+    }
+
+    /**
+     * Gets the coordinates of all lands on the board, row by row from y = 0 upwards.
+     *
+     * @return the coordinates of all lands
+     */
+    public List<Vector2D> getLandCoordinates() {
+        List<Vector2D> coordinates = new ArrayList<>(this.numOfLands);
+        for (int i = 0; i < this.grid.length; i++) {
+            if (this.grid[i] != null) {
+                coordinates.add(new Vector2D(this.gridSmallestX + i % this.gridWidth, i / this.gridWidth));
+            }
+        }
+        return coordinates;
+    }
+
+    /**
+     * Puts a land on the given tile and grows the grid if the tile lies outside of it.
+     *
+     * @param x coordinate x of the tile
+     * @param y coordinate y of the tile
+     * @param land the land to put
+     */
+    private void putLand(int x, int y, ArableLand land) {
+        ensureTile(x, y);
+        this.grid[y * this.gridWidth + x - this.gridSmallestX] = land;
+        land.placeOnBoard(this.scheduler, new Vector2D(x, y));
+        this.numOfLands++;
+        this.smallestX = Math.min(this.smallestX, x);
+        this.greatestX = Math.max(this.greatestX, x);
+        this.greatestY = Math.max(this.greatestY, y);
+    }
+
+    /**
+     * Grows the grid, so it contains the given tile. The grid grows by half of its size in the direction of the
+     * tile, so buying lands one by one copies the grid only a logarithmic number of times.
+     *
+     * @param x coordinate x of the tile
+     * @param y coordinate y of the tile
+     */
+    private void ensureTile(int x, int y) {
+        int newSmallestX = this.gridSmallestX;
+        int newGreatestX = this.gridSmallestX + this.gridWidth - 1;
+        int newHeight = this.gridHeight;
+        if (x < newSmallestX) {
+            newSmallestX = x - this.gridWidth / 2;
+        } else if (x > newGreatestX) {
+            newGreatestX = x + this.gridWidth / 2;
+        }
+        if (y >= newHeight) {
+            newHeight = y + 1 + this.gridHeight / 2;
+        }
+        int newWidth = newGreatestX - newSmallestX + 1;
+        if (newWidth == this.gridWidth && newHeight == this.gridHeight) {
+            return;
+        }
+        ArableLand[] newGrid = new ArableLand[newWidth * newHeight];
+        for (int row = 0; row < this.gridHeight; row++) {
+            System.arraycopy(this.grid, row * this.gridWidth, newGrid,
+                    row * newWidth + this.gridSmallestX - newSmallestX, this.gridWidth);
+        }
+        this.grid = newGrid;
+        this.gridSmallestX = newSmallestX;
+        this.gridWidth = newWidth;
+        this.gridHeight = newHeight;
+    }
+
+    /**
+     * Removes all lands from the board.
+     */
+    private void clear() {
+        this.grid = new ArableLand[INITIAL_WIDTH * INITIAL_HEIGHT];
+        this.gridSmallestX = INITIAL_SMALLEST_X;
+        this.gridWidth = INITIAL_WIDTH;
+        this.gridHeight = INITIAL_HEIGHT;
+        this.numOfLands = 0;
+        this.smallestX = 0;
+        this.greatestX = 0;
+        this.greatestY = 0;
+        this.renderedRows = null;
+        this.scheduler.clear();
     }
 
     /**
@@ -173,68 +473,81 @@ public class Board {
      * @return the string of array in board format
      */
     public String printArray(String[][] arrayToPrint, List<String> barnDetails, int xCoordinate) {
+        addBarnDetails(arrayToPrint, barnDetails, xCoordinate);
+        StringJoiner completeString = new StringJoiner(System.lineSeparator());
+        for (String[] row : arrayToPrint) {
+            completeString.add(renderRow(row));
+        }
+        return completeString.toString();
+    }
+
+    /**
+     * Puts the barn details into the last rows of the array, in the column of x = 0.
+     *
+     * @param arrayToPrint array to print
+     * @param barnDetails details of barn
+     * @param xCoordinate coordinate x of the first column
+     */
+    private static void addBarnDetails(String[][] arrayToPrint, List<String> barnDetails, int xCoordinate) {
         for (int k = 0; k < barnDetails.size(); k++) {
             arrayToPrint[arrayToPrint.length - barnDetails.size() + k][-xCoordinate] = barnDetails.get(k);
         }
+    }
 
-        StringJoiner completeString = new StringJoiner(System.lineSeparator());
-        //Space string to add at the beginning or end of the row representation when needed.
-        String blankStarterOrEnding = new String(new char[LENGTH_OF_BLANK_STRINGS])
-                .replace(NULL_CHARACTER, SEPARATOR_CHAR_SPACE);
-
-        String blankStrings = new String(new char[LENGTH_OF_CONTENT_STRINGS])
-                .replace(NULL_CHARACTER, SEPARATOR_CHAR_SPACE);
-
-        for (int i = 0; i < arrayToPrint.length; i++) {
-            StringBuilder rowRepresentation = new StringBuilder();
-            StringJoiner spaceConnector = new StringJoiner(SEPARATOR_SPACE);
-            //String joiner for non-blank string with vertical bar as separator.
-            StringJoiner validString = new StringJoiner(SEPARATOR_VERTICAL_BAR);
-
-            for (int j = 0; j < arrayToPrint[i].length; j++) {
-                String currentString = arrayToPrint[i][j];
-                // If the string begins with blank string, we need to add 6 spaces.
-                if (j == 0 && currentString == null) {
-                    //because it is special 6 spaces.
-                    spaceConnector.add(blankStarterOrEnding);
-                    continue;
-                }
-                // When the last string is blank, if previously we have non-blank strings, then add 6 space as ending.
-                // If previous string is also blank, then fill in the spaceConnector and add it to the output string.
-                if (j == arrayToPrint[i].length - 1 && currentString == null) {
-                    if (validString.length() != 0) {
-                        rowRepresentation.append(String.format(REGEX_OUTER_BAR, validString.toString()));
-                        rowRepresentation.append(blankStarterOrEnding);
-                    } else {
-                        spaceConnector.add(blankStarterOrEnding);
-                        rowRepresentation.append(spaceConnector.toString());
-                    }
-                    continue;
-                }
-
-                if (currentString == null) {
-                    if (validString.length() != 0) {
-                        rowRepresentation.append(String.format(REGEX_OUTER_BAR, validString.toString()));
-                        validString = new StringJoiner(SEPARATOR_VERTICAL_BAR);
-                    }
-                    spaceConnector.add(blankStrings);
+    /**
+     * Gets the string of one row of the array in board format.
+     *
+     * @param row the strings of the row, null for a tile without land
+     * @return the string of the row in board format
+     */
+    private static String renderRow(String[] row) {
+        StringBuilder rowRepresentation = new StringBuilder();
+        StringJoiner spaceConnector = new StringJoiner(SEPARATOR_SPACE);
+        //String joiner for non-blank string with vertical bar as separator.
+        StringJoiner validString = new StringJoiner(SEPARATOR_VERTICAL_BAR);
 
-                    continue;
-                }
-                //If previously have blank string, now have non-blank string, then add previous space first.
-                if (spaceConnector.length() != 0) {
+        for (int j = 0; j < row.length; j++) {
+            String currentString = row[j];
+            // If the string begins with blank string, we need to add 6 spaces.
+            if (j == 0 && currentString == null) {
+                //because it is special 6 spaces.
+                spaceConnector.add(BLANK_STARTER_OR_ENDING);
+                continue;
+            }
+            // When the last string is blank, if previously we have non-blank strings, then add 6 space as ending.
+            // If previous string is also blank, then fill in the spaceConnector and add it to the output string.
+            if (j == row.length - 1 && currentString == null) {
+                if (validString.length() != 0) {
+                    rowRepresentation.append(String.format(REGEX_OUTER_BAR, validString.toString()));
+                    rowRepresentation.append(BLANK_STARTER_OR_ENDING);
+                } else {
+                    spaceConnector.add(BLANK_STARTER_OR_ENDING);
                     rowRepresentation.append(spaceConnector.toString());
-                    spaceConnector = new StringJoiner(SEPARATOR_SPACE);
                 }
+                continue;
+            }
 
-                //Starts concatenating valid string together to form final output.
-                validString.add(currentString);
-                if (j == arrayToPrint[i].length - 1) {
+            if (currentString == null) {
+                if (validString.length() != 0) {
                     rowRepresentation.append(String.format(REGEX_OUTER_BAR, validString.toString()));
+                    validString = new StringJoiner(SEPARATOR_VERTICAL_BAR);
                 }
+                spaceConnector.add(BLANK_STRINGS);
+
+                continue;
+            }
+            //If previously have blank string, now have non-blank string, then add previous space first.
+            if (spaceConnector.length() != 0) {
+                rowRepresentation.append(spaceConnector.toString());
+                spaceConnector = new StringJoiner(SEPARATOR_SPACE);
+            }
+
+            //Starts concatenating valid string together to form final output.
+            validString.add(currentString);
+            if (j == row.length - 1) {
+                rowRepresentation.append(String.format(REGEX_OUTER_BAR, validString.toString()));
             }
-            completeString.add(rowRepresentation.toString());
         }
-        return completeString.toString();
+        return rowRepresentation.toString();
     }
 }
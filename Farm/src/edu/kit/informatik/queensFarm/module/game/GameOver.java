@@ -1,5 +1,7 @@
 package edu.kit.informatik.queensFarm.module.game;
 
+import edu.kit.informatik.queensFarm.module.output.OutputSink;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -19,15 +21,19 @@ public class GameOver {
     private static final String MESSAGE_MULTIPLE_WINNERS = " and %s have won!";
     private final List<Player> listOfPlayers;
     private final int winningCapital;
+    private final OutputSink output;
+    private List<Player> winners;
 
     /**
      * Constructs an instance.
      * @param players players to analyse
      * @param winningCapital winning capital
+     * @param output the sink that the result is written to
      */
-    public GameOver(List<Player> players, int winningCapital) {
+    public GameOver(List<Player> players, int winningCapital, OutputSink output) {
         this.listOfPlayers = players;
         this.winningCapital = winningCapital;
+        this.output = output;
     }
 
     /**
@@ -99,11 +105,12 @@ public class GameOver {
     public void print(List<Player> winners) {
         printAllPlayerResult(this.listOfPlayers);
         Collections.sort(winners);
+        this.winners = winners;
 
         if (winners.size() == 1) {
-            System.out.println(String.format(MESSAGE_SINGLE_WINNER, winners.get(0).getName()));
+            this.output.println(String.format(MESSAGE_SINGLE_WINNER, winners.get(0).getName()));
         } else if (winners.size() == 2) {
-            System.out.println(String.format(MESSAGE_TWO_WINNERS, winners.get(0).getName(), winners.get(1).getName()));
+            this.output.println(String.format(MESSAGE_TWO_WINNERS, winners.get(0).getName(), winners.get(1).getName()));
         } else {
             StringBuilder stringBuilder = new StringBuilder();
             StringJoiner stringJoiner = new StringJoiner(SEPARATOR_COMMA);
@@ -114,17 +121,25 @@ public class GameOver {
             stringBuilder.append(stringJoiner.toString());
             stringBuilder.append(String.format(MESSAGE_MULTIPLE_WINNERS, winners.get(winners.size() - 1).getName()));
 
-            System.out.println(stringBuilder.toString());
+            this.output.println(stringBuilder.toString());
         }
     }
 
+    /**
+     * Gets the winners that were printed last.
+     * @return the winners in ascending order of their ids, or null if no winner was printed
+     */
+    public List<Player> getWinners() {
+        return this.winners;
+    }
+
     /**
      * Prints the result of all players with name and amount of gold.
      * @param players players to check
      */
     public void printAllPlayerResult(List<Player> players) {
         for (Player player : players) {
-            System.out.println(String.format(PLAYER_RESULT, player.getId(), player.getName(), player.getTotalGold()));
+            this.output.println(String.format(PLAYER_RESULT, player.getId(), player.getName(), player.getTotalGold()));
         }
     }
 }
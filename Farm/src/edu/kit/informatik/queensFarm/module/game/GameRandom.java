@@ -0,0 +1,139 @@
+package edu.kit.informatik.queensFarm.module.game;
+
+import java.util.SplittableRandom;
+
+/**
+ * This class describes the random source of a game. It is not thread-safe, so each thread uses a stream of its own.
+ * Child streams are derived from the seed and an index only, so parallel workers that each take the child of their
+ * index draw the same numbers as a sequential run, no matter in which order the workers start.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class GameRandom {
+    /**
+     * The odd constant of the golden ratio, which spreads the seeds of consecutive children apart.
+     */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long LEGACY_MULTIPLIER = 0x5DEECE66DL;
+    private static final long LEGACY_ADDEND = 0xBL;
+    private static final long LEGACY_MASK = (1L << 48) - 1;
+    private static final int LEGACY_STATE_BITS = 48;
+    private static final int LEGACY_INT_BITS = 31;
+    private final long seed;
+    private final SplittableRandom stream;
+
+    /**
+     * Constructs a random source with the given seed.
+     *
+     * @param seed seed
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+        this.stream = new SplittableRandom(seed);
+    }
+
+    /**
+     * Derives the child stream of the given index. The child only depends on the seed of this source and the index,
+     * not on the numbers drawn from this source so far.
+     *
+     * @param index index of the child, for example the number of a worker or of a game
+     * @return the child stream
+     */
+    public GameRandom child(long index) {
+        return new GameRandom(new SplittableRandom(this.seed + GOLDEN_GAMMA * (index + 1)).nextLong());
+    }
+
+    /**
+     * Gets the next number between zero, inclusive, and the bound, exclusive.
+     *
+     * @param bound the upper bound, which must be positive
+     * @return the next number
+     */
+    public int nextInt(int bound) {
+        return this.stream.nextInt(bound);
+    }
+
+    /**
+     * Gets the next number of the whole range of long values.
+     *
+     * @return the next number
+     */
+    public long nextLong() {
+        return this.stream.nextLong();
+    }
+
+    /**
+     * Gets the seed of this source.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Shuffles an array in the same order as {@link java.util.Collections#shuffle(java.util.List, java.util.Random)}
+     * with a {@link java.util.Random} of the given seed shuffles a list of the same elements, so the lands of a seed
+     * keep the order they had in earlier versions. The generator is a local copy of the one of
+     * {@link java.util.Random}, which avoids its atomic updates.
+     *
+     * @param array the array to shuffle
+     * @param shuffleSeed seed of the shuffle
+     */
+    public static void shuffle(byte[] array, long shuffleSeed) {
+        LegacySequence sequence = new LegacySequence(shuffleSeed);
+        for (int size = array.length; size > 1; size--) {
+            int other = sequence.nextInt(size);
+            byte element = array[size - 1];
+            array[size - 1] = array[other];
+            array[other] = element;
+        }
+    }
+
+    /**
+     * This class describes an unsynchronized copy of the generator of {@link java.util.Random}.
+     */
+    private static final class LegacySequence {
+        private long state;
+
+        /**
+         * Constructs the sequence that a {@link java.util.Random} of the given seed draws.
+         *
+         * @param seed seed
+         */
+        private LegacySequence(long seed) {
+            this.state = (seed ^ LEGACY_MULTIPLIER) & LEGACY_MASK;
+        }
+
+        /**
+         * Gets the next number between zero, inclusive, and the bound, exclusive, like
+         * {@link java.util.Random#nextInt(int)}.
+         *
+         * @param bound the upper bound, which must be positive
+         * @return the next number
+         */
+        private int nextInt(int bound) {
+            int bits = nextBits();
+            if ((bound & -bound) == bound) {
+                return (int) (((long) bound * bits) >> LEGACY_INT_BITS);
+            }
+            int next = bits % bound;
+            while (bits - next + (bound - 1) < 0) {
+                bits = nextBits();
+                next = bits % bound;
+            }
+            return next;
+        }
+
+        /**
+         * Advances the generator by one step and gets the upper bits of its state.
+         *
+         * @return the next 31 random bits
+         */
+        private int nextBits() {
+            this.state = (this.state * LEGACY_MULTIPLIER + LEGACY_ADDEND) & LEGACY_MASK;
+            return (int) (this.state >>> (LEGACY_STATE_BITS - LEGACY_INT_BITS));
+        }
+    }
+}
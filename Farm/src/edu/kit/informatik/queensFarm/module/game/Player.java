@@ -1,10 +1,15 @@
 package edu.kit.informatik.queensFarm.module.game;
 
 import edu.kit.informatik.queensFarm.module.FarmException;
+import edu.kit.informatik.queensFarm.module.event.FarmEventSink;
 import edu.kit.informatik.queensFarm.module.game.land.ArableLand;
 import edu.kit.informatik.queensFarm.module.game.land.Barn;
+import edu.kit.informatik.queensFarm.module.output.OutputSink;
 import edu.kit.informatik.queensFarm.resource.ErrorMessage;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -15,39 +20,75 @@ import java.util.List;
  */
 public class Player implements Comparable<Player> {
     private static final String BARN_REPRESENTATION = "Barn";
-    private static int idCount = 1;
     private static final String MESSAGE_RESULT_FORMAT = "Player %d (%s): %d";
     private static final String MESSAGE_SUCCESSFUL_BUY_ITEM = "You have bought a %s for %d gold.";
     private final String name;
+    private final TurnScheduler scheduler;
     private final Board board;
     private final Barn barn;
     private final int id;
+    private final OutputSink output;
     private int totalGold;
 
     /**
-     * Constructs a player.
+     * Constructs a player. Ids are given out by the game the player takes part in, starting with 1.
      *
      * @param name name of player
+     * @param id id of player in the game
+     * @param output the sink that messages of the game are written to
      */
-    public Player(String name) {
+    public Player(String name, int id, OutputSink output) {
         this.name = name;
-        this.board = new Board();
-        this.barn = new Barn();
-        this.id = idCount++;
+        this.output = output;
+        this.scheduler = new TurnScheduler();
+        this.board = new Board(output, this.scheduler);
+        this.barn = new Barn(output, this.scheduler);
+        this.id = id;
+    }
+
+    /**
+     * Constructs a copy of the given player with its own turn clock, board and barn.
+     *
+     * @param original the player to copy
+     * @param output the sink that messages of the copy are written to
+     */
+    private Player(Player original, OutputSink output) {
+        this.name = original.name;
+        this.output = output;
+        this.scheduler = original.scheduler.copy();
+        this.board = original.board.copy(output, this.scheduler);
+        this.barn = original.barn.copy(output, this.scheduler);
+        this.id = original.id;
+        this.totalGold = original.totalGold;
+    }
+
+    /**
+     * Copies the player. The copy changes independently of this player.
+     * The copy is deep: the turn clock, the board with every land and the barn are copied, and the running timers
+     * are scheduled on the new clock. Lands and the barn cannot be shared until they change, since their timers run
+     * on the turn clock of their owner, which every turn of the owner advances.
+     *
+     * @param copyOutput the sink that messages of the copy are written to
+     * @return the copy of the player
+     */
+    public Player copy(OutputSink copyOutput) {
+        return new Player(this, copyOutput);
     }
 
     /**
      * Checks the growth vegetable and status in the barn.
+     * @param gameId the id of the game, which the growth and spoil events of the player are recorded with
+     * @param events the receiver of the events of the game
      */
-    public void checkRound() {
-        String growthDetails = this.board.checkBoard();
+    public void checkRound(long gameId, FarmEventSink events) {
+        String growthDetails = this.board.checkBoard(this.scheduler.advance(), gameId, this.id, events);
         if (growthDetails != null) {
-            System.out.println(growthDetails);
+            this.output.println(growthDetails);
         }
 
-        String barnCheck = this.barn.endRoundCheck();
+        String barnCheck = this.barn.endRoundCheck(gameId, this.id, events);
         if (barnCheck != null) {
-            System.out.println(barnCheck);
+            this.output.println(barnCheck);
         }
     }
 
@@ -78,23 +119,20 @@ public class Player implements Comparable<Player> {
     /**
      * Attempts to plant a vegetable.
      * @param coordinate coordinates of the land to plant
-     * @param nameOfVegetable name of vegetable
+     * @param typeToPlant type of vegetable
      * @return true if planting is executed, otherwise return false
      */
-    public boolean plant(Vector2D coordinate, String nameOfVegetable) {
-        List<VegetableSet> vegetableSetToRemove = List.of(new VegetableSet(
-                VegetableType.getVegetableTypeFromString(nameOfVegetable)));
-
-        if (!this.barn.checkAvailability(vegetableSetToRemove)) {
+    public boolean plant(Vector2D coordinate, VegetableType typeToPlant) {
+        if (!this.barn.checkAvailability(typeToPlant, 1)) {
             return false;
         }
         try {
-            this.board.getLandByCoordinate(coordinate).addVegetable(nameOfVegetable);
+            this.board.plantVegetable(coordinate, typeToPlant);
         } catch (FarmException e) {
-            System.out.println(e.getMessage());
+            this.output.println(e.getMessage());
             return false;
         }
-        this.barn.executeRemoval(vegetableSetToRemove);
+        this.barn.executeRemoval(typeToPlant, 1);
         return true;
     }
 
@@ -106,9 +144,9 @@ public class Player implements Comparable<Player> {
      **/
     public boolean harvest(Vector2D coordinate, int amountToRemove) {
         try {
-            this.barn.harvest(this.board.getLandByCoordinate(coordinate).removeVegetable(amountToRemove));
+            this.barn.harvest(this.board.harvestVegetable(coordinate, amountToRemove));
         } catch (FarmException e) {
-            System.out.println(e.getMessage());
+            this.output.println(e.getMessage());
             return false;
         }
         return true;
@@ -116,20 +154,20 @@ public class Player implements Comparable<Player> {
 
     /**
      * Attempts to buy a vegetable and checks if the player has sufficient gold. If successful, prints purchase message.
-     * @param nameOfVegetable name of vegetable to buy
+     * @param typeToBuy type of vegetable to buy
      * @param priceOfVegetable price of vegetable to buy
      * @return true if purchase of vegetable is executed, otherwise return false
      */
-    public boolean buyVegetable(String nameOfVegetable, int priceOfVegetable) {
+    public boolean buyVegetable(VegetableType typeToBuy, int priceOfVegetable) {
         try {
             hasSufficientMoney(priceOfVegetable);
         } catch (FarmException e) {
-            System.out.println(e.getMessage());
+            this.output.println(e.getMessage());
             return false;
         }
         this.totalGold -= priceOfVegetable;
-        this.barn.buyVegetable(VegetableType.getVegetableTypeFromString(nameOfVegetable));
-        System.out.println(String.format(MESSAGE_SUCCESSFUL_BUY_ITEM, nameOfVegetable, priceOfVegetable));
+        this.barn.buyVegetable(typeToBuy);
+        this.output.println(String.format(MESSAGE_SUCCESSFUL_BUY_ITEM, typeToBuy.getName(), priceOfVegetable));
         return true;
     }
 
@@ -145,25 +183,41 @@ public class Player implements Comparable<Player> {
         try {
             hasSufficientMoney(priceOfLand);
         } catch (FarmException e) {
-            System.out.println(e.getMessage());
+            this.output.println(e.getMessage());
             return false;
         }
         try {
             this.board.buyNewLand(coordinate, land);
         } catch (FarmException e) {
-            System.out.println(e.getMessage());
+            this.output.println(e.getMessage());
             return false;
         }
         this.totalGold -= priceOfLand;
         return true;
     }
 
+    /**
+     * Gets the board of the player.
+     * @return the board of the player
+     */
+    public Board getBoard() {
+        return this.board;
+    }
+
+    /**
+     * Gets the barn of the player.
+     * @return the barn of the player
+     */
+    public Barn getBarn() {
+        return this.barn;
+    }
+
     /**
      * Gets the status of barn in string format
      * @return the status of barn in string format
      */
     public String shownBarn() {
-        Printer barnPrinter = new Printer(this.barn.getAllVegetables());
+        Printer barnPrinter = new Printer(this.barn);
         if (this.barn.isBarnEmpty()) {
             return barnPrinter.showBarn(this.totalGold, BARN_REPRESENTATION);
         }
@@ -230,6 +284,31 @@ public class Player implements Comparable<Player> {
         return id;
     }
 
+    /**
+     * Writes the gold, the board and the barn of this player. Name and id are written by the game.
+     *
+     * @param output the snapshot to write to
+     * @throws IOException if the snapshot cannot be written
+     */
+    public void writeState(DataOutput output) throws IOException {
+        output.writeInt(this.totalGold);
+        this.board.writeState(output);
+        this.barn.writeState(output);
+    }
+
+    /**
+     * Replaces the gold, the board and the barn of this player with the state written by
+     * {@link #writeState(DataOutput)}.
+     *
+     * @param input the snapshot to read from
+     * @throws IOException if the snapshot cannot be read
+     */
+    public void readState(DataInput input) throws IOException {
+        this.totalGold = input.readInt();
+        this.board.readState(input);
+        this.barn.readState(input);
+    }
+
     @Override
     public String toString() {
         return String.format(MESSAGE_RESULT_FORMAT, this.id, this.name, this.totalGold);
@@ -1,8 +1,7 @@
 package edu.kit.informatik.queensFarm.module.game;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
+import edu.kit.informatik.queensFarm.module.game.land.Barn;
+
 import java.util.List;
 import java.util.StringJoiner;
 
@@ -19,34 +18,48 @@ public class Printer {
     private static final char NULL_CHARACTER = '\0';
     private static final char LINE_SEPARATOR = '-';
     private static final String GOLD_REPRESENTATION = "Gold: ";
-    private final List<VegetableSet> list;
+    private static final VegetableType[] VEGETABLE_TYPES = VegetableType.values();
+    /**
+     * The types of the vegetables to format.
+     */
+    private final VegetableType[] types;
+    /**
+     * The amount of each vegetable to format, in the order of the types.
+     */
+    private final int[] amounts;
+    private final int size;
 
     /**
      * Formats the message to be printed.
      * @param inputList list of vegetable that will be used as the content of message
      */
     public Printer(List<VegetableSet> inputList) {
-        this.list = cloneList(inputList);
+        this.size = inputList == null ? 0 : inputList.size();
+        this.types = new VegetableType[this.size];
+        this.amounts = new int[this.size];
+        for (int i = 0; i < this.size; i++) {
+            this.types[i] = inputList.get(i).getType();
+            this.amounts[i] = inputList.get(i).getAmount();
+        }
     }
 
     /**
-     * Copies the list of vegetable set if the list is not empty.
-     *
-     * @param inputList given list of vegetable set
-     * @return a copied list of vegetable set if the list is not empty, otherwise return null
+     * Formats the vegetables in a barn. The amounts are read from the barn, so no vegetable sets are created.
+     * @param barn the barn whose vegetables will be used as the content of message
      */
-    public List<VegetableSet> cloneList(List<VegetableSet> inputList) {
-        if (inputList == null) {
-            return null;
-        }
-        if (!inputList.isEmpty()) {
-            List<VegetableSet> newList = new ArrayList<>();
-            for (VegetableSet vegetableSet : inputList) {
-                newList.add(vegetableSet);
+    public Printer(Barn barn) {
+        this.types = new VegetableType[VEGETABLE_TYPES.length];
+        this.amounts = new int[VEGETABLE_TYPES.length];
+        int count = 0;
+        for (VegetableType type : VEGETABLE_TYPES) {
+            int amount = barn.getAmount(type);
+            if (amount != 0) {
+                this.types[count] = type;
+                this.amounts[count] = amount;
+                count++;
             }
-            return newList;
         }
-        return null;
+        this.size = count;
     }
 
     /**
@@ -77,8 +90,8 @@ public class Printer {
      */
     public int getMaximumLengthOfPluralism() {
         int maxLength = 0;
-        for (VegetableSet vegetable : this.list) {
-            int length = vegetable.getPluralForm().length();
+        for (int i = 0; i < this.size; i++) {
+            int length = this.types[i].getPluralForm().length();
             maxLength = Math.max(maxLength, length);
         }
         return maxLength;
@@ -91,8 +104,8 @@ public class Printer {
      */
     public int getLengthOfMaximumAmount() {
         int maxLength = 0;
-        for (VegetableSet vegetable : this.list) {
-            int length = String.valueOf(vegetable.getAmount()).length();
+        for (int i = 0; i < this.size; i++) {
+            int length = String.valueOf(this.amounts[i]).length();
             maxLength = Math.max(length, maxLength);
         }
         return maxLength;
@@ -105,8 +118,8 @@ public class Printer {
      */
     public int getSumOfVegetables() {
         int sum = 0;
-        for (VegetableSet vegetableSet : this.list) {
-            sum += vegetableSet.getAmount();
+        for (int i = 0; i < this.size; i++) {
+            sum += this.amounts[i];
         }
         return sum;
     }
@@ -130,13 +143,12 @@ public class Printer {
     public String printVegetableTable(int maxLength) {
         StringJoiner stringJoiner = new StringJoiner(System.lineSeparator());
 
-        for (VegetableSet vegetableSet : this.list) {
+        for (int i = 0; i < this.size; i++) {
             StringBuilder stringBuilder = new StringBuilder();
-            stringBuilder.append(vegetableSet.getPluralForm());
+            stringBuilder.append(this.types[i].getPluralForm());
             stringBuilder.append(SEPARATOR_COLON_AND_SPACE);
 
-            stringBuilder.append(convert(stringBuilder.toString(), maxLength,
-                    String.valueOf(vegetableSet.getAmount())));
+            stringBuilder.append(convert(stringBuilder.toString(), maxLength, String.valueOf(this.amounts[i])));
 
             stringJoiner.add(stringBuilder.toString());
         }
@@ -181,17 +193,14 @@ public class Printer {
     public String showBarn(int goldAmount, String barnMessage) {
         StringJoiner stringJoiner = new StringJoiner(System.lineSeparator());
         stringJoiner.add(barnMessage);
-        if (this.list == null) {
+        if (this.size == 0) {
             stringJoiner.add(showGoldOnly(goldAmount));
             return stringJoiner.toString();
         }
 
         //Adds vegetable details.
         int maxLength = getBarnLengthOfRegex(goldAmount);
-        Comparator<VegetableSet> compareByAmountThenName = Comparator
-                .comparingInt(VegetableSet::getAmount)
-                .thenComparing(VegetableSet::getName);
-        Collections.sort(this.list, compareByAmountThenName);
+        sortByAmountThenName();
         stringJoiner.add(printVegetableTable(maxLength));
 
         //Adds the separator line made of symbol "-".
@@ -211,4 +220,22 @@ public class Printer {
         return stringJoiner.toString();
     }
 
+    /**
+     * Sorts the vegetables by their amount and then by their name.
+     */
+    private void sortByAmountThenName() {
+        for (int i = 1; i < this.size; i++) {
+            VegetableType type = this.types[i];
+            int amount = this.amounts[i];
+            int j = i - 1;
+            while (j >= 0 && (this.amounts[j] > amount
+                    || (this.amounts[j] == amount && this.types[j].getName().compareTo(type.getName()) > 0))) {
+                this.types[j + 1] = this.types[j];
+                this.amounts[j + 1] = this.amounts[j];
+                j--;
+            }
+            this.types[j + 1] = type;
+            this.amounts[j + 1] = amount;
+        }
+    }
 }
\ No newline at end of file
@@ -2,45 +2,65 @@ package edu.kit.informatik.queensFarm.module.game;
 
 /**
  * This class describes a timer that can count down and restart counting down.
+ * The timer does not count down by itself. It remembers the turn of the turn clock in which it expires, so a timer
+ * costs nothing in the turns before.
  *
  * @author uyjad
  * @version 1.0
  */
 public class Timer {
+    private final TurnScheduler clock;
     private final int maximumNumberOfTurns;
-    private int remainingTurns;
+    private long dueTurn;
 
     /**
      * Constructs a timer that takes the maximum number of turns as the start of counting down.
      * Initiate the remaining turn with the starting point.
      *
+     * @param clock the turn clock the timer runs on
      * @param numberOfTurns maximum number of turns, which is where the counting down starts
      */
-    public Timer(int numberOfTurns) {
+    public Timer(TurnScheduler clock, int numberOfTurns) {
+        this(clock, numberOfTurns, numberOfTurns);
+    }
+
+    /**
+     * Constructs a timer that has already counted down to the given number of remaining turns.
+     *
+     * @param clock the turn clock the timer runs on
+     * @param numberOfTurns maximum number of turns, which is where the counting down restarts
+     * @param remainingTurns remaining turns before expiration
+     */
+    public Timer(TurnScheduler clock, int numberOfTurns, int remainingTurns) {
+        this.clock = clock;
         this.maximumNumberOfTurns = numberOfTurns;
-        this.remainingTurns = numberOfTurns;
+        this.dueTurn = clock.getCurrentTurn() + remainingTurns;
     }
 
     /**
-     * Attempts to count down.
-     * If the current turn is last turn, just return false.
-     * If still has more than one turn before expiration, execute counting down and return true.
+     * Copies the timer onto another turn clock, which shows the same turn as the clock of this timer.
      *
-     * @return true if the timer still has more than one turn before expiration. If it is the last turn, return wrong.
+     * @param otherClock the turn clock the copy runs on
+     * @return the copy of the timer
      */
-    public boolean countdown() {
-        if (this.remainingTurns == 1) {
-            return false;
-        }
-        this.remainingTurns--;
-        return true;
+    public Timer copy(TurnScheduler otherClock) {
+        return new Timer(otherClock, this.maximumNumberOfTurns, getRemainingTurns());
+    }
+
+    /**
+     * Checks whether the timer expires in the current turn.
+     *
+     * @return true if the last turn of the timer is reached, otherwise false
+     */
+    public boolean isDue() {
+        return this.clock.getCurrentTurn() >= this.dueTurn;
     }
 
     /**
      * Restarts the timer.
      */
     public void restart() {
-        this.remainingTurns = this.maximumNumberOfTurns;
+        this.dueTurn = this.clock.getCurrentTurn() + this.maximumNumberOfTurns;
     }
 
     /**
@@ -49,6 +69,15 @@ public class Timer {
      * @return remaining turns before expiration
      */
     public int getRemainingTurns() {
-        return this.remainingTurns;
+        return (int) (this.dueTurn - this.clock.getCurrentTurn());
+    }
+
+    /**
+     * Gets the turn of the turn clock in which the timer expires.
+     *
+     * @return the turn in which the timer expires
+     */
+    public long getDueTurn() {
+        return this.dueTurn;
     }
 }
@@ -0,0 +1,124 @@
+package edu.kit.informatik.queensFarm.module.game;
+
+import edu.kit.informatik.queensFarm.module.game.land.ArableLand;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class describes the turn clock of a player together with a timing wheel of the lands that grow next.
+ * The clock advances once per turn of the player after the first round. A land registers the turn in which its
+ * vegetables grow next, so each turn only touches the lands that are due instead of every land on the board.
+ * Each player has a scheduler of their own, because timers only run during the turns of their owner.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class TurnScheduler {
+    /**
+     * Number of slots of the timing wheel. It is a power of two greater than the longest growth duration, so each
+     * slot only holds lands that are due in the same turn.
+     */
+    private static final int WHEEL_SIZE = 8;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final String MESSAGE_ILLEGAL_DUE_TURN = "Turn %d cannot be scheduled in turn %d.";
+    private final List<List<ArableLand>> slots;
+    private List<ArableLand> dueLands;
+    private long currentTurn;
+    private int numOfScheduledLands;
+
+    /**
+     * Constructs a scheduler whose clock starts at turn zero.
+     */
+    public TurnScheduler() {
+        this.slots = new ArrayList<>(WHEEL_SIZE);
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            this.slots.add(new ArrayList<>());
+        }
+        this.dueLands = new ArrayList<>();
+    }
+
+    /**
+     * Copies the clock of the scheduler. The copy shows the same turn, but has no land scheduled yet: lands are
+     * scheduled again when they are copied.
+     *
+     * @return the copy of the scheduler
+     */
+    public TurnScheduler copy() {
+        TurnScheduler copy = new TurnScheduler();
+        copy.currentTurn = this.currentTurn;
+        return copy;
+    }
+
+    /**
+     * Advances the clock by one turn and takes the lands that are due in the new turn out of the wheel.
+     *
+     * @return the lands that are due, valid until the clock advances again
+     */
+    public List<ArableLand> advance() {
+        this.currentTurn++;
+        int slot = (int) (this.currentTurn & WHEEL_MASK);
+        // The list of the previous due lands is reused as the new empty slot.
+        List<ArableLand> due = this.slots.get(slot);
+        this.dueLands.clear();
+        this.slots.set(slot, this.dueLands);
+        this.dueLands = due;
+        this.numOfScheduledLands -= due.size();
+        return due;
+    }
+
+    /**
+     * Registers a land that is due in the given turn.
+     *
+     * @param land the land to register
+     * @param dueTurn the turn in which the land is due
+     */
+    public void schedule(ArableLand land, long dueTurn) {
+        long delay = dueTurn - this.currentTurn;
+        if (delay <= 0 || delay >= WHEEL_SIZE) {
+            throw new IllegalArgumentException(String.format(MESSAGE_ILLEGAL_DUE_TURN, dueTurn, this.currentTurn));
+        }
+        this.slots.get((int) (dueTurn & WHEEL_MASK)).add(land);
+        this.numOfScheduledLands++;
+    }
+
+    /**
+     * Removes a land from the wheel, if it is still waiting for the given turn.
+     *
+     * @param land the land to remove
+     * @param dueTurn the turn in which the land was due
+     */
+    public void cancel(ArableLand land, long dueTurn) {
+        if (dueTurn > this.currentTurn && this.slots.get((int) (dueTurn & WHEEL_MASK)).remove(land)) {
+            this.numOfScheduledLands--;
+        }
+    }
+
+    /**
+     * Removes all lands from the wheel.
+     */
+    public void clear() {
+        for (List<ArableLand> slot : this.slots) {
+            slot.clear();
+        }
+        this.numOfScheduledLands = 0;
+    }
+
+    /**
+     * Gets the current turn of the clock.
+     *
+     * @return the current turn
+     */
+    public long getCurrentTurn() {
+        return this.currentTurn;
+    }
+
+    /**
+     * Checks whether any land is waiting in the wheel.
+     *
+     * @return true if at least one land is scheduled, otherwise false
+     */
+    public boolean hasScheduledLands() {
+        return this.numOfScheduledLands != 0;
+    }
+}
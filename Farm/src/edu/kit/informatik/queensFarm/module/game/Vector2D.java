@@ -1,7 +1,5 @@
 package edu.kit.informatik.queensFarm.module.game;
 
-import java.util.Objects;
-
 /**
  * This class describes the location coordinates.
  *
@@ -10,6 +8,7 @@ import java.util.Objects;
  */
 
 public class Vector2D {
+    private static final int HASH_MULTIPLIER = 31;
     private final int x;
     private final int y;
 
@@ -65,7 +64,7 @@ public class Vector2D {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.x, this.y);
+        return HASH_MULTIPLIER * this.x + this.y;
     }
 
     @Override
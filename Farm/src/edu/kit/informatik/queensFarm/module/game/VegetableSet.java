@@ -8,11 +8,7 @@ package edu.kit.informatik.queensFarm.module.game;
  */
 public class VegetableSet {
     private final VegetableType type;
-    private final String pluralForm;
     private int amount;
-    private final String abbreviation;
-    private final String singularForm;
-    private final int growDuration;
 
     /**
      * Constructor of vegetable set with given vegetable type.
@@ -22,10 +18,6 @@ public class VegetableSet {
     public VegetableSet(VegetableType type) {
         this.type = type;
         this.amount = 1;
-        this.abbreviation = type.getAbbreviation();
-        this.singularForm = type.getName();
-        this.pluralForm = type.getPluralForm();
-        this.growDuration = type.getDurationOfGrowth();
     }
 
     /**
@@ -37,10 +29,6 @@ public class VegetableSet {
     public VegetableSet(VegetableType type, int amount) {
         this.type = type;
         this.amount = amount;
-        this.abbreviation = type.getAbbreviation();
-        this.singularForm = type.getName();
-        this.pluralForm = type.getPluralForm();
-        this.growDuration = type.getDurationOfGrowth();
     }
 
     /**
@@ -83,7 +71,7 @@ public class VegetableSet {
      * @return plural form of the name of the vegetable
      */
     public String getPluralForm() {
-        return this.pluralForm;
+        return this.type.getPluralForm();
     }
 
     /**
@@ -92,6 +80,6 @@ public class VegetableSet {
      * @return the name of vegetable
      */
     public String getName() {
-        return this.singularForm;
+        return this.type.getName();
     }
 }
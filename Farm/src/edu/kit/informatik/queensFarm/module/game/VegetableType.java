@@ -1,5 +1,8 @@
 package edu.kit.informatik.queensFarm.module.game;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class describes the types of vegetables.
  *
@@ -27,6 +30,14 @@ public enum VegetableType {
      */
     SALAD("salad", "S", 2, "salads");
 
+    private static final Map<String, VegetableType> TYPES_BY_NAME = new HashMap<>();
+
+    static {
+        for (VegetableType type : values()) {
+            TYPES_BY_NAME.put(type.name, type);
+        }
+    }
+
     private final String name;
     private final String abbreviation;
     private final int durationOfGrowth;
@@ -90,12 +101,7 @@ public enum VegetableType {
      * @return the vegetable type according to the given input string if the input is valid, otherwise return false
      */
     public static VegetableType getVegetableTypeFromString(String vegetableName) {
-        for (VegetableType type : VegetableType.values()) {
-            if (vegetableName.equals(type.getName())) {
-                return type;
-            }
-        }
-        return null;
+        return TYPES_BY_NAME.get(vegetableName);
     }
 
 }
@@ -2,11 +2,17 @@ package edu.kit.informatik.queensFarm.module.game.land;
 
 import edu.kit.informatik.queensFarm.module.FarmException;
 import edu.kit.informatik.queensFarm.module.game.Timer;
+import edu.kit.informatik.queensFarm.module.game.TurnScheduler;
+import edu.kit.informatik.queensFarm.module.game.Vector2D;
 import edu.kit.informatik.queensFarm.module.game.VegetableSet;
 import edu.kit.informatik.queensFarm.module.game.VegetableType;
 import edu.kit.informatik.queensFarm.resource.ErrorMessage;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -23,13 +29,21 @@ public class ArableLand {
     private static final String REGEX_NO_PLANT = "     ";
     private static final String REGEX_SHOW_PLANT_TYPE = "  %s  ";
     private static final String REGEX_CAPACITY_STATUS = " %d/%d ";
+    private static final VegetableType[] VEGETABLE_TYPES = VegetableType.values();
     private Timer landTimer;
+    private TurnScheduler scheduler;
+    private Vector2D coordinate;
     private ArableLandType landType;
     private String landAbbreviation;
     private int capacity;
-    private List<VegetableType> allowedVegetableTypes;
     private VegetableSet landStorage;
     private boolean isLandFull;
+    /**
+     * The lines of this land in "print board" format, or null if the land has changed since they were rendered.
+     * They are filled while the land is printed, so a land shared by forks on several threads must not be printed.
+     */
+    private List<String> renderedLines;
+    private long renderedTurn;
 
     /**
      * Constructs an arable land with the given land type.
@@ -39,7 +53,6 @@ public class ArableLand {
         this.landType = landType;
         this.landAbbreviation = landType.getAbbreviation();
         this.capacity = landType.getCapacity();
-        this.allowedVegetableTypes = landType.getTypeRange();
         this.isLandFull = false;
     }
 
@@ -49,6 +62,56 @@ public class ArableLand {
     public ArableLand() {
     }
 
+    /**
+     * Constructs a copy of the given land on the board whose turn clock is given. A running timer is copied onto
+     * that clock and scheduled there.
+     * @param original the land to copy
+     * @param turnScheduler the turn clock of the board the copy is placed on
+     */
+    private ArableLand(ArableLand original, TurnScheduler turnScheduler) {
+        this.landType = original.landType;
+        this.landAbbreviation = original.landAbbreviation;
+        this.capacity = original.capacity;
+        this.isLandFull = original.isLandFull;
+        this.scheduler = turnScheduler;
+        this.coordinate = original.coordinate;
+        if (!original.isLandEmpty()) {
+            this.landStorage = new VegetableSet(original.landStorage.getType(), original.landStorage.getAmount());
+        }
+        if (original.landTimer != null) {
+            this.landTimer = original.landTimer.copy(turnScheduler);
+            turnScheduler.schedule(this, this.landTimer.getDueTurn());
+        }
+    }
+
+    /**
+     * Copies the land onto the board whose turn clock is given, on the same tile. The copy changes independently of
+     * this land.
+     * @param turnScheduler the turn clock of the board the copy is placed on
+     * @return the copy of the land
+     */
+    public ArableLand copy(TurnScheduler turnScheduler) {
+        return new ArableLand(this, turnScheduler);
+    }
+
+    /**
+     * Places the land on a tile of the board of a player. From now on, its timer runs on the turn clock of the player.
+     * @param turnScheduler the scheduler of the player that owns the land
+     * @param tile the coordinates of the tile the land is placed on
+     */
+    public void placeOnBoard(TurnScheduler turnScheduler, Vector2D tile) {
+        this.scheduler = turnScheduler;
+        this.coordinate = tile;
+    }
+
+    /**
+     * Gets the coordinates of the tile the land is placed on.
+     * @return the coordinates of the land, or null if the land is not placed on a board
+     */
+    public Vector2D getCoordinate() {
+        return this.coordinate;
+    }
+
     /**
      * Checks whether the land has zero vegetables.
      * @return true if the land is empty, otherwise false
@@ -62,23 +125,24 @@ public class ArableLand {
      */
     public void setLandAsFull() {
         this.isLandFull = true;
+        this.renderedLines = null;
     }
 
     /**
      * Adds a vegetable.
-     * @param vegetableName vegetable name
+     * @param type vegetable type
      * @throws FarmException if given vegetable type is not allowed, or the land is not empty
      */
-    public void addVegetable(String vegetableName) throws FarmException {
+    public void addVegetable(VegetableType type) throws FarmException {
         if (!isLandEmpty()) {
             throw new FarmException(ErrorMessage.LAND_IS_OCCUPIED.toString());
         }
-        VegetableType type = VegetableType.getVegetableTypeFromString(vegetableName);
         if (!isTypeAllowed(type)) {
             throw new FarmException(ErrorMessage.ILLEGAL_VEGETABLE_TYPE.toString());
         }
         this.landStorage = new VegetableSet(type);
         startTimer(type.getDurationOfGrowth());
+        this.renderedLines = null;
     }
 
     /**
@@ -118,6 +182,7 @@ public class ArableLand {
         if (isLandFull) {
             this.isLandFull = false;
         }
+        this.renderedLines = null;
         return copySet;
     }
 
@@ -126,38 +191,33 @@ public class ArableLand {
      * @param duration the countdown's starting point
      */
     public void startTimer(int duration) {
-        this.landTimer = new Timer(duration);
+        if (this.landTimer != null) {
+            removeTimer();
+        }
+        this.landTimer = new Timer(this.scheduler, duration);
+        this.scheduler.schedule(this, this.landTimer.getDueTurn());
+        this.renderedLines = null;
     }
 
     /**
      * Removes the timer.
      */
     public void removeTimer() {
+        if (this.landTimer != null) {
+            this.scheduler.cancel(this, this.landTimer.getDueTurn());
+        }
         this.landTimer = null;
+        this.renderedLines = null;
     }
 
     /**
-     * Executes the countdown and gets the number of the grown vegetables.
+     * Lets the vegetables grow, because the timer of the land is due, and gets the number of the grown vegetables.
      * @return the number of the grown vegetables
      */
-    public int getGrowth() {
-        if (!executeCountdown()) {
-            int previousAmount = getVegetableAmount();
-            growVegetable();
-            return getVegetableAmount() - previousAmount;
-        }
-        return 0;
-    }
-
-    /**
-     * Executes countdown. If there is no timer, do nothing. Otherwise, count down the timer.
-     * @return true if there is no timer, or it is not the last turn, otherwise false
-     */
-    public boolean executeCountdown() {
-        if (this.landTimer != null) {
-            return this.landTimer.countdown();
-        }
-        return true;
+    public int grow() {
+        int previousAmount = getVegetableAmount();
+        growVegetable();
+        return getVegetableAmount() - previousAmount;
     }
 
     /**
@@ -173,8 +233,10 @@ public class ArableLand {
             removeTimer();
         } else {
             this.landTimer.restart();
+            this.scheduler.schedule(this, this.landTimer.getDueTurn());
             this.landStorage.doubleAmount();
         }
+        this.renderedLines = null;
     }
 
     /**
@@ -185,11 +247,84 @@ public class ArableLand {
         return this.landType.getName();
     }
 
+    /**
+     * Gets the land type.
+     * @return the land type
+     */
+    public ArableLandType getLandType() {
+        return this.landType;
+    }
+
+    /**
+     * Writes the vegetables, the timer and the full flag of this land. The land type is written by the owner of
+     * the land, because it is needed to construct the land again.
+     * @param output the snapshot to write to
+     * @throws IOException if the snapshot cannot be written
+     */
+    public void writeState(DataOutput output) throws IOException {
+        if (isLandEmpty()) {
+            output.writeByte(0);
+        } else {
+            output.writeByte(this.landStorage.getType().ordinal() + 1);
+            output.writeInt(this.landStorage.getAmount());
+        }
+        output.writeByte(this.landTimer == null ? 0 : this.landTimer.getRemainingTurns());
+        output.writeBoolean(this.isLandFull);
+    }
+
+    /**
+     * Reads the vegetables, the timer and the full flag of this land, as written by {@link #writeState(DataOutput)}.
+     * @param input the snapshot to read from
+     * @throws IOException if the snapshot cannot be read
+     */
+    public void readState(DataInput input) throws IOException {
+        int typeCode = input.readUnsignedByte();
+        if (typeCode == 0) {
+            this.landStorage = null;
+        } else {
+            this.landStorage = new VegetableSet(VEGETABLE_TYPES[typeCode - 1], input.readInt());
+        }
+        int remainingTurns = input.readUnsignedByte();
+        if (remainingTurns == 0) {
+            this.landTimer = null;
+        } else {
+            this.landTimer = new Timer(this.scheduler, this.landStorage.getType().getDurationOfGrowth(),
+                    remainingTurns);
+            this.scheduler.schedule(this, this.landTimer.getDueTurn());
+        }
+        this.isLandFull = input.readBoolean();
+        this.renderedLines = null;
+    }
+
     /**
      * Gets the list of string of land details in "print board" format.
+     * The lines are rendered again only if the land has changed since the last call, or if its timer has counted
+     * down since then.
      * @return the list of string of land details in "print board" format
      */
     public List<String> printLandInBoard() {
+        if (hasChangedSinceRendered()) {
+            this.renderedLines = renderLandInBoard();
+            this.renderedTurn = this.scheduler.getCurrentTurn();
+        }
+        return this.renderedLines;
+    }
+
+    /**
+     * Checks whether the lines of this land in "print board" format have to be rendered again, because the land has
+     * changed or its timer has counted down since they were rendered.
+     * @return true if the land has to be rendered again, otherwise false
+     */
+    public boolean hasChangedSinceRendered() {
+        return this.renderedLines == null
+                || (this.landTimer != null && this.renderedTurn != this.scheduler.getCurrentTurn());
+    }
+
+    /**
+     * Renders the lines of this land in "print board" format.
+     * @return the unmodifiable list of the three lines of this land
+     */
+    private List<String> renderLandInBoard() {
         List<String> totalList = new ArrayList<>();
         String countdownStatus;
         if (this.landTimer == null) {
@@ -214,7 +349,7 @@ public class ArableLand {
 
         totalList.add(String.format(REGEX_CAPACITY_STATUS, getVegetableAmount(), this.capacity));
 
-        return totalList;
+        return Collections.unmodifiableList(totalList);
     }
 
 
@@ -225,7 +360,34 @@ public class ArableLand {
      * @return true if the vegetable type is allowed in this land, otherwise false.
      */
     public boolean isTypeAllowed(VegetableType typeToCheck) {
-        return this.allowedVegetableTypes.contains(typeToCheck);
+        return this.landType.isTypeAllowed(typeToCheck);
+    }
+
+    /**
+     * Gets the type of the vegetables on the land.
+     * @return the vegetable type, or null if the land is empty
+     */
+    public VegetableType getVegetableType() {
+        if (isLandEmpty()) {
+            return null;
+        }
+        return this.landStorage.getType();
+    }
+
+    /**
+     * Gets the capacity of the land.
+     * @return the maximum amount of vegetables on the land
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Checks whether the capacity of the land is reached, so its vegetables do not grow anymore.
+     * @return true if the land is full, otherwise false
+     */
+    public boolean isLandFull() {
+        return this.isLandFull;
     }
 
     /**
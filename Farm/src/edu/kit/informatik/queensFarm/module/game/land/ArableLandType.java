@@ -4,7 +4,9 @@ import edu.kit.informatik.queensFarm.module.FarmException;
 import edu.kit.informatik.queensFarm.module.game.VegetableType;
 import edu.kit.informatik.queensFarm.resource.ErrorMessage;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * This class describes the types of lands.
@@ -41,7 +43,19 @@ public enum ArableLandType {
     LARGE_FOREST("Large Forest", "LFo", 8, List.of(VegetableType.CARROT,
             VegetableType.MUSHROOM));
 
+    private static final Map<String, ArableLandType> TYPES_BY_NAME = new HashMap<>();
+
+    static {
+        for (ArableLandType type : values()) {
+            TYPES_BY_NAME.put(type.name, type);
+        }
+    }
+
     private final List<VegetableType> typeRange;
+    /**
+     * The allowed vegetable types as bitmask, one bit per ordinal of the vegetable type.
+     */
+    private final int allowedTypeMask;
     private final String name;
     private final String abbreviation;
     private final int capacity;
@@ -59,6 +73,11 @@ public enum ArableLandType {
         this.abbreviation = abbreviation;
         this.capacity = capacity;
         this.typeRange = typeRange;
+        int typeMask = 0;
+        for (VegetableType type : typeRange) {
+            typeMask |= 1 << type.ordinal();
+        }
+        this.allowedTypeMask = typeMask;
     }
 
     /**
@@ -97,6 +116,16 @@ public enum ArableLandType {
         return typeRange;
     }
 
+    /**
+     * Checks whether the vegetable type may be planted on lands of this type.
+     *
+     * @param type the vegetable type to check
+     * @return true if the vegetable type is allowed, otherwise false
+     */
+    public boolean isTypeAllowed(VegetableType type) {
+        return (this.allowedTypeMask & (1 << type.ordinal())) != 0;
+    }
+
     /**
      * Gets the arable land type from the valid string name.
      *
@@ -105,10 +134,9 @@ public enum ArableLandType {
      * @return the arable land type if the input string name is valid, otherwise return null
      */
     public static ArableLandType getLandTypeFromString(String typeName) throws FarmException {
-        for (ArableLandType type : ArableLandType.values()) {
-            if (typeName.equals(type.getName())) {
-                return type;
-            }
+        ArableLandType type = TYPES_BY_NAME.get(typeName);
+        if (type != null) {
+            return type;
         }
         throw new FarmException(ErrorMessage.ILLEGAL_LANDTYPE_NAME.toString());
     }
@@ -1,14 +1,22 @@
 package edu.kit.informatik.queensFarm.module.game.land;
 
+import edu.kit.informatik.queensFarm.module.event.FarmEventSink;
+import edu.kit.informatik.queensFarm.module.event.VegetablesSpoiledEvent;
 import edu.kit.informatik.queensFarm.module.game.Timer;
+import edu.kit.informatik.queensFarm.module.game.TurnScheduler;
 import edu.kit.informatik.queensFarm.module.game.VegetableSet;
 import edu.kit.informatik.queensFarm.module.game.VegetableType;
+import edu.kit.informatik.queensFarm.module.jfr.SpoilEvent;
+import edu.kit.informatik.queensFarm.module.output.OutputSink;
 import edu.kit.informatik.queensFarm.resource.ErrorMessage;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.StringJoiner;
 
 /**
@@ -30,26 +38,61 @@ public class Barn {
      */
     private static final String BOTTOM_OR_TOP_LINE = "     ";
     private static final int STARTING_POINT_OF_COUNTDOWN = 6;
+    private static final VegetableType[] VEGETABLE_TYPES = VegetableType.values();
+    private final TurnScheduler scheduler;
     private Timer barnTimer;
-    private final Map<VegetableType, VegetableSet> barnStorage;
+    /**
+     * The amount of each vegetable type in the barn, indexed by the ordinal of the vegetable type.
+     */
+    private final int[] barnStorage;
+    private final OutputSink output;
 
     /**
      * Constructs a barn. Set six turns as the starting point of its timer. Also store the default given vegetables.
+     *
+     * @param output the sink that messages are written to
+     * @param scheduler the turn clock of the player that owns the barn
      */
-    public Barn() {
-        this.barnTimer = new Timer(STARTING_POINT_OF_COUNTDOWN);
-        this.barnStorage = new HashMap<>();
+    public Barn(OutputSink output, TurnScheduler scheduler) {
+        this.output = output;
+        this.scheduler = scheduler;
+        this.barnTimer = new Timer(scheduler, STARTING_POINT_OF_COUNTDOWN);
+        this.barnStorage = new int[VEGETABLE_TYPES.length];
         setUpBarn();
     }
 
+    /**
+     * Constructs a copy of the given barn, whose timer runs on the given turn clock.
+     *
+     * @param original the barn to copy
+     * @param output the sink that messages of the copy are written to
+     * @param scheduler the turn clock of the player that owns the copy
+     */
+    private Barn(Barn original, OutputSink output, TurnScheduler scheduler) {
+        this.output = output;
+        this.scheduler = scheduler;
+        this.barnStorage = original.barnStorage.clone();
+        if (original.barnTimer != null) {
+            this.barnTimer = original.barnTimer.copy(scheduler);
+        }
+    }
+
+    /**
+     * Copies the barn. The copy changes independently of this barn.
+     *
+     * @param copyOutput the sink that messages of the copy are written to
+     * @param copyScheduler the turn clock of the player that owns the copy
+     * @return the copy of the barn
+     */
+    public Barn copy(OutputSink copyOutput, TurnScheduler copyScheduler) {
+        return new Barn(this, copyOutput, copyScheduler);
+    }
+
     /**
      * Sets up the barn with one unit of each vegetable type.
      */
     public void setUpBarn() {
-        for (VegetableType type : VegetableType.values()) {
-            VegetableSet newVegetableSet = new VegetableSet(type);
-            this.barnStorage.put(type, newVegetableSet);
-        }
+        Arrays.fill(this.barnStorage, 1);
     }
 
     /**
@@ -59,38 +102,63 @@ public class Barn {
      */
     public boolean checkAvailability(List<VegetableSet> list) {
         for (VegetableSet set : list) {
-            VegetableType typeToCheck = set.getType();
-            if (!this.barnStorage.containsKey(typeToCheck)) {
-                System.out.println(ErrorMessage.LACK_OF_VEGETABLE.toString());
-                return false;
-            }
-            int currentAmount = this.barnStorage.get(typeToCheck).getAmount();
-            int remainingAmount = currentAmount - set.getAmount();
-            if (remainingAmount < 0) {
-                System.out.println(ErrorMessage.INSUFFICIENT_VEGETABLES.toString());
+            if (!checkAvailability(set.getType(), set.getAmount())) {
                 return false;
             }
         }
         return true;
     }
 
+    /**
+     * Check whether the barn has the given amount of a vegetable type.
+     * @param type vegetable type to be checked
+     * @param amount amount requested
+     * @return true if the barn has the vegetables requested, otherwise return false
+     */
+    public boolean checkAvailability(VegetableType type, int amount) {
+        int currentAmount = this.barnStorage[type.ordinal()];
+        if (currentAmount == 0) {
+            this.output.println(ErrorMessage.LACK_OF_VEGETABLE.toString());
+            return false;
+        }
+        if (currentAmount - amount < 0) {
+            this.output.println(ErrorMessage.INSUFFICIENT_VEGETABLES.toString());
+            return false;
+        }
+        return true;
+    }
+
     /**
      * Removes vegetables
      * @param list list of vegetables to remove
      */
     public void executeRemoval(List<VegetableSet> list) {
         for (VegetableSet set : list) {
-            VegetableType type = set.getType();
-            int remainingAmount = this.barnStorage.get(type).getAmount() - set.getAmount();
-            if (remainingAmount == 0) {
-                this.barnStorage.remove(type);
-            } else {
-                this.barnStorage.put(type, new VegetableSet(type, remainingAmount));
-            }
+            this.barnStorage[set.getType().ordinal()] -= set.getAmount();
         }
-        if (this.barnStorage.isEmpty()) {
-            removeTimer();
+        removeTimerIfEmpty();
+    }
+
+    /**
+     * Removes the given amount of a vegetable type. The barn must have checked the availability before.
+     * @param type vegetable type to remove
+     * @param amount amount to remove
+     */
+    public void executeRemoval(VegetableType type, int amount) {
+        this.barnStorage[type.ordinal()] -= amount;
+        removeTimerIfEmpty();
+    }
+
+    /**
+     * Removes the timer if there are no vegetables left in the barn.
+     */
+    private void removeTimerIfEmpty() {
+        for (int amount : this.barnStorage) {
+            if (amount != 0) {
+                return;
+            }
         }
+        removeTimer();
     }
 
     /**
@@ -111,18 +179,19 @@ public class Barn {
      * @param setToAdd vegetable set to add
      */
     public void addVegetable(VegetableSet setToAdd) {
+        addVegetable(setToAdd.getType(), setToAdd.getAmount());
+    }
+
+    /**
+     * Adds the given amount of a vegetable type to the barn.
+     * @param type vegetable type to add
+     * @param amountToAdd amount to add
+     */
+    public void addVegetable(VegetableType type, int amountToAdd) {
         if (isBarnEmpty()) {
             startTimer();
         }
-        int amountToAdd = setToAdd.getAmount();
-        VegetableType type = setToAdd.getType();
-
-        if (this.barnStorage.containsKey(type)) {
-            int currentAmount = this.barnStorage.get(type).getAmount();
-            this.barnStorage.put(type, new VegetableSet(type, currentAmount + amountToAdd));
-        } else {
-            this.barnStorage.put(type, new VegetableSet(type, amountToAdd));
-        }
+        this.barnStorage[type.ordinal()] += amountToAdd;
     }
 
     /**
@@ -133,9 +202,9 @@ public class Barn {
         addVegetable(setToAdd);
         int amountToAdd = setToAdd.getAmount();
         if (amountToAdd == 1) {
-            System.out.println(String.format(MESSAGE_SINGLE_HARVEST, setToAdd.getName()));
+            this.output.println(String.format(MESSAGE_SINGLE_HARVEST, setToAdd.getName()));
         } else {
-            System.out.println(String.format(MESSAGE_MULTIPLE_HARVEST, amountToAdd, setToAdd.getPluralForm()));
+            this.output.println(String.format(MESSAGE_MULTIPLE_HARVEST, amountToAdd, setToAdd.getPluralForm()));
         }
     }
 
@@ -144,22 +213,34 @@ public class Barn {
      * @param type type of vegetable to buy
      */
     public void buyVegetable(VegetableType type) {
-        addVegetable(new VegetableSet(type));
+        addVegetable(type, 1);
     }
 
     /**
-     * Gets all vegetables in the barn.
-     * @return all vegetables in the barn. If barn is empty, return null
+     * Gets all vegetables in the barn. The sets are created on demand and do not change with the barn.
+     * @return unmodifiable list of all vegetables in the barn. If barn is empty, return null
      */
     public List<VegetableSet> getAllVegetables() {
         if (this.barnTimer == null) {
             return null;
         }
         List<VegetableSet> allVegetables = new ArrayList<>();
-        for (VegetableSet vegetableSet : this.barnStorage.values()) {
-            allVegetables.add(vegetableSet);
+        for (VegetableType type : VEGETABLE_TYPES) {
+            int amount = this.barnStorage[type.ordinal()];
+            if (amount != 0) {
+                allVegetables.add(new VegetableSet(type, amount));
+            }
         }
-        return allVegetables;
+        return Collections.unmodifiableList(allVegetables);
+    }
+
+    /**
+     * Gets the amount of a vegetable type in the barn.
+     * @param type the vegetable type
+     * @return the amount of the vegetable type in the barn
+     */
+    public int getAmount(VegetableType type) {
+        return this.barnStorage[type.ordinal()];
     }
 
 
@@ -188,17 +269,32 @@ public class Barn {
     }
 
     /**
-     * Checks the status of barn by counting down.
-     * If the last turn is finished, remove all and return message about spoiled vegetables.
+     * Checks the status of barn after the turn clock has advanced.
+     * If the last turn is finished, remove all and return message about spoiled vegetables. Spoiling is recorded as
+     * a flight recorder event and published to the subscribers of the game.
+     * @param gameId the id of the game, which the event is recorded with
+     * @param playerId the id of the player that owns the barn
+     * @param events the receiver of the events of the game
      * @return message about spoiled vegetables if last turn is finished, otherwise null
      */
-    public String endRoundCheck() {
-        if (this.barnTimer != null) {
-            // if last round is finished, remove all.
-            if (!this.barnTimer.countdown()) {
-                clearBarn();
-                return MESSAGE_VEGETABLES_ARE_SPOILED;
+    public String endRoundCheck(long gameId, int playerId, FarmEventSink events) {
+        // if last round is finished, remove all.
+        if (this.barnTimer != null && this.barnTimer.isDue()) {
+            SpoilEvent event = new SpoilEvent(gameId, playerId);
+            event.begin();
+            int spoiledVegetables = 0;
+            for (int amount : this.barnStorage) {
+                spoiledVegetables += amount;
             }
+            clearBarn();
+            if (event.isRecorded()) {
+                event.setSpoiledVegetables(spoiledVegetables);
+                event.commit();
+            }
+            if (events.isActive()) {
+                events.publish(new VegetablesSpoiledEvent(playerId, spoiledVegetables));
+            }
+            return MESSAGE_VEGETABLES_ARE_SPOILED;
         }
         return null;
     }
@@ -207,7 +303,7 @@ public class Barn {
      * Clears the barn.
      */
     public void clearBarn() {
-        this.barnStorage.clear();
+        Arrays.fill(this.barnStorage, 0);
         removeTimer();
     }
 
@@ -215,7 +311,7 @@ public class Barn {
      * Starts the timer.
      */
     public void startTimer() {
-        this.barnTimer = new Timer(STARTING_POINT_OF_COUNTDOWN);
+        this.barnTimer = new Timer(this.scheduler, STARTING_POINT_OF_COUNTDOWN);
     }
 
     /**
@@ -225,6 +321,35 @@ public class Barn {
         this.barnTimer = null;
     }
 
+    /**
+     * Writes the amount of each vegetable type and the remaining turns of the timer.
+     * @param output the snapshot to write to
+     * @throws IOException if the snapshot cannot be written
+     */
+    public void writeState(DataOutput output) throws IOException {
+        for (int amount : this.barnStorage) {
+            output.writeInt(amount);
+        }
+        output.writeByte(this.barnTimer == null ? 0 : this.barnTimer.getRemainingTurns());
+    }
+
+    /**
+     * Replaces the content of the barn with the state written by {@link #writeState(DataOutput)}.
+     * @param input the snapshot to read from
+     * @throws IOException if the snapshot cannot be read
+     */
+    public void readState(DataInput input) throws IOException {
+        for (int i = 0; i < this.barnStorage.length; i++) {
+            this.barnStorage[i] = input.readInt();
+        }
+        int remainingTurns = input.readUnsignedByte();
+        if (remainingTurns == 0) {
+            removeTimer();
+        } else {
+            this.barnTimer = new Timer(this.scheduler, STARTING_POINT_OF_COUNTDOWN, remainingTurns);
+        }
+    }
+
     /**
      * Gets the status information of barn in the format requested by command "shown board".
      * @return the status information of barn in the format requested by command "shown board"
@@ -0,0 +1,124 @@
+package edu.kit.informatik.queensFarm.module.game.land;
+
+import edu.kit.informatik.queensFarm.module.game.GameRandom;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * This class describes the deck of the lands for sale. It only keeps the type of each land, one byte per land, and a
+ * cursor to the next land, so drawing a land takes constant time. The land itself is created by its buyer.
+ * The types are not changed after the deck was shuffled, so copies of the deck share them.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class LandDeck {
+    private static final ArableLandType[] LAND_TYPES = ArableLandType.values();
+    private final byte[] landTypes;
+    private int numOfLandsDrawn;
+
+    /**
+     * Constructs a deck with the given number of lands of each type, ordered by type.
+     *
+     * @param numOfLandsPerType the number of lands of each type, in the order of the land types
+     */
+    public LandDeck(int[] numOfLandsPerType) {
+        int numOfLands = 0;
+        for (int numOfLandsOfType : numOfLandsPerType) {
+            numOfLands += numOfLandsOfType;
+        }
+        this.landTypes = new byte[numOfLands];
+        int start = 0;
+        for (int i = 0; i < numOfLandsPerType.length; i++) {
+            Arrays.fill(this.landTypes, start, start + numOfLandsPerType[i], (byte) i);
+            start += numOfLandsPerType[i];
+        }
+    }
+
+    /**
+     * Constructs a deck that continues at the given land.
+     *
+     * @param landTypes the ordinals of the land types, which are shared
+     * @param numOfLandsDrawn number of lands already drawn
+     */
+    private LandDeck(byte[] landTypes, int numOfLandsDrawn) {
+        this.landTypes = landTypes;
+        this.numOfLandsDrawn = numOfLandsDrawn;
+    }
+
+    /**
+     * Copies the deck. The copy draws independently of this deck.
+     *
+     * @return the copy of the deck
+     */
+    public LandDeck copy() {
+        return new LandDeck(this.landTypes, this.numOfLandsDrawn);
+    }
+
+    /**
+     * Shuffles the lands with the given seed, as described by {@link GameRandom#shuffle(byte[], long)}.
+     * The deck must not have been copied or drawn from yet.
+     *
+     * @param seed seed
+     */
+    public void shuffle(long seed) {
+        GameRandom.shuffle(this.landTypes, seed);
+    }
+
+    /**
+     * Gets the type of the next land without drawing it.
+     *
+     * @return the type of the next land, or null if all lands are drawn
+     */
+    public ArableLandType peek() {
+        if (this.numOfLandsDrawn == this.landTypes.length) {
+            return null;
+        }
+        return LAND_TYPES[this.landTypes[this.numOfLandsDrawn]];
+    }
+
+    /**
+     * Draws the next land, which must exist.
+     *
+     * @return the type of the drawn land
+     */
+    public ArableLandType draw() {
+        return LAND_TYPES[this.landTypes[this.numOfLandsDrawn++]];
+    }
+
+    /**
+     * Gets the number of lands that are not drawn yet.
+     *
+     * @return the number of remaining lands
+     */
+    public int getNumOfRemainingLands() {
+        return this.landTypes.length - this.numOfLandsDrawn;
+    }
+
+    /**
+     * Writes the types of the remaining lands in the order they are drawn.
+     *
+     * @param output the snapshot to write to
+     * @throws IOException if the snapshot cannot be written
+     */
+    public void writeState(DataOutput output) throws IOException {
+        output.writeInt(getNumOfRemainingLands());
+        output.write(this.landTypes, this.numOfLandsDrawn, getNumOfRemainingLands());
+    }
+
+    /**
+     * Reads a deck of the remaining lands written by {@link #writeState(DataOutput)}.
+     *
+     * @param input the snapshot to read from
+     * @return the deck of the remaining lands
+     * @throws IOException if the snapshot cannot be read
+     */
+    public static LandDeck readState(DataInput input) throws IOException {
+        byte[] landTypes = new byte[input.readInt()];
+        input.readFully(landTypes);
+        return new LandDeck(landTypes, 0);
+    }
+}
@@ -1,13 +1,7 @@
 package edu.kit.informatik.queensFarm.module.game.land;
 
-import edu.kit.informatik.queensFarm.module.FarmException;
-
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-
 /**
- * This class describes a land manager that can create new list of free lands.
+ * This class describes a land manager that knows how many lands of each type are for sale in a game.
  *
  * @author uyjad
  * @version 1.0
@@ -27,37 +21,15 @@ public class LandManager {
     }
 
     /**
-     * Initiates the list of available lands.
-     * @return get list of available lands based on the string list of names of land types
-     */
-    public List<ArableLand> initiateAvailableLands() {
-        List<ArableLand> totalLandList = new ArrayList<>();
-        ArableLand newLand = new ArableLand();
-        for (String nameOfLandType : getStringsOfAvailableLands()) {
-            try {
-                newLand = new ArableLand(ArableLandType.getLandTypeFromString(nameOfLandType));
-            } catch (FarmException e) {
-                System.out.println(e.getMessage());
-            }
-            totalLandList.add(newLand);
-        }
-        return totalLandList;
-    }
-
-    /**
-     * Gets a list of all available lands' strings.
+     * Creates the deck of all available lands, ordered by type.
      *
-     * @return a list of all available lands' strings
+     * @return the deck of all available lands
      */
-    public List<String> getStringsOfAvailableLands() {
-        List<String> allAvailableLands = new ArrayList<>();
-
-        int index = 0;
-        for (ArableLandType typeToAdd : ArableLandType.values()) {
-            int numberOfLandsPerType = this.numOfPlayers * NUMBER_OF_DIFFERENT_LANDTYPE[index];
-            allAvailableLands.addAll(Collections.nCopies(numberOfLandsPerType, typeToAdd.getName()));
-            index++;
+    public LandDeck createLandDeck() {
+        int[] numOfLandsPerType = new int[NUMBER_OF_DIFFERENT_LANDTYPE.length];
+        for (int i = 0; i < numOfLandsPerType.length; i++) {
+            numOfLandsPerType[i] = this.numOfPlayers * NUMBER_OF_DIFFERENT_LANDTYPE[i];
         }
-        return allAvailableLands;
+        return new LandDeck(numOfLandsPerType);
     }
 }
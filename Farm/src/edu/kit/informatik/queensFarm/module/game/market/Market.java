@@ -1,14 +1,19 @@
 package edu.kit.informatik.queensFarm.module.game.market;
 
-import edu.kit.informatik.queensFarm.module.FarmException;
+import edu.kit.informatik.queensFarm.module.event.FarmEventSink;
+import edu.kit.informatik.queensFarm.module.event.PriceIndexChangedEvent;
 import edu.kit.informatik.queensFarm.module.game.Printer;
 import edu.kit.informatik.queensFarm.module.game.VegetableSet;
 import edu.kit.informatik.queensFarm.module.game.VegetableType;
+import edu.kit.informatik.queensFarm.module.jfr.PriceShiftEvent;
+import edu.kit.informatik.queensFarm.module.output.OutputSink;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 /**
  * This class represents a market where trades happen and price would be adjusted.
@@ -19,67 +24,143 @@ import java.util.Map;
 public class Market {
     private static final String MESSAGE_MULTIPLE_SALE = "You have sold %d vegetables for %d gold.";
     private static final String MESSAGE_SINGLE_SALE = "You have sold 1 vegetable for %d gold.";
-    private Map<VegetableType, Integer> salesRecord;
+    private static final VegetableType[] VEGETABLE_TYPES = VegetableType.values();
+    /**
+     * The amount sold of each vegetable type since the last update of the prices, indexed by the ordinal of the
+     * vegetable type. Only the types that are recorded count.
+     */
+    private final int[] salesRecord;
+    private final boolean[] isSaleRecorded;
+    private int numOfRecordedTypes;
+    private final int[] priceIndexes;
+    /**
+     * The current price of each vegetable type, indexed by the ordinal of the vegetable type.
+     */
+    private final int[] currentPrices;
+    private final OutputSink output;
+
+    /**
+     * Constructs a market. Each market has its own price indicators, which start at the initial price index.
+     *
+     * @param output the sink that messages are written to
+     */
+    public Market(OutputSink output) {
+        this.output = output;
+        this.salesRecord = new int[VEGETABLE_TYPES.length];
+        this.isSaleRecorded = new boolean[VEGETABLE_TYPES.length];
+        this.priceIndexes = new int[PriceDisplay.values().length];
+        this.currentPrices = new int[VEGETABLE_TYPES.length];
+        for (PriceDisplay display : PriceDisplay.values()) {
+            this.priceIndexes[display.ordinal()] = display.getInitialPriceIndex();
+        }
+        updateCurrentPrices();
+    }
 
     /**
-     * Constructs a market.
+     * Constructs a copy of the given market.
+     *
+     * @param original the market to copy
+     * @param output the sink that messages of the copy are written to
      */
-    public Market() {
-        this.salesRecord = new HashMap<>();
+    private Market(Market original, OutputSink output) {
+        this.output = output;
+        this.salesRecord = original.salesRecord.clone();
+        this.isSaleRecorded = original.isSaleRecorded.clone();
+        this.numOfRecordedTypes = original.numOfRecordedTypes;
+        this.priceIndexes = original.priceIndexes.clone();
+        this.currentPrices = original.currentPrices.clone();
     }
 
     /**
-     * Gets the current price of a certain vegetable.
+     * Copies the market. The copy changes independently of this market.
      *
-     * @param nameOfVegetable name of vegetable
-     * @return the current price of a certain vegetable
+     * @param copyOutput the sink that messages of the copy are written to
+     * @return the copy of the market
      */
-    public int getCurrentPrice(String nameOfVegetable) {
-        int currentPrice = 0;
-        try {
-            currentPrice = PriceDisplay.getPriceFromString(nameOfVegetable);
-        } catch (FarmException e) {
-            System.out.println(e.getMessage());
+    public Market copy(OutputSink copyOutput) {
+        return new Market(this, copyOutput);
+    }
+
+    /**
+     * Gets the current price of a vegetable type.
+     *
+     * @param type vegetable type
+     * @return the current price of the vegetable type
+     */
+    public int getPrice(VegetableType type) {
+        return this.currentPrices[type.ordinal()];
+    }
+
+    /**
+     * Looks up the current price of each vegetable type in the price table. Called whenever a price index changes.
+     */
+    private void updateCurrentPrices() {
+        for (VegetableType type : VEGETABLE_TYPES) {
+            PriceDisplay display = PriceDisplay.getPriceDisplay(type);
+            this.currentPrices[type.ordinal()] = PriceDisplay.getPrice(type, this.priceIndexes[display.ordinal()]);
         }
-        return currentPrice;
     }
 
     /**
-     * If there was sales, then update the price indicator.
+     * If there was sales, then update the price indicator. Each shift of a price indicator is recorded as a flight
+     * recorder event and published to the subscribers of the game.
+     *
+     * @param gameId the id of the game, which the events are recorded with
+     * @param playerId the id of the player whose turn ends
+     * @param events the receiver of the events of the game
      */
-    public void updatePriceIndex() {
-        if (this.salesRecord.isEmpty()) {
+    public void updatePriceIndex(long gameId, int playerId, FarmEventSink events) {
+        if (this.numOfRecordedTypes == 0) {
             return;
         }
         int changeOfIndex;
         for (PriceDisplay display : PriceDisplay.values()) {
-            changeOfIndex = calculateChangeOfIndex(display.getItemNames());
+            PriceShiftEvent event = new PriceShiftEvent(gameId, playerId);
+            event.begin();
+            changeOfIndex = calculateChangeOfIndex(display.getItems());
             if (changeOfIndex != 0) {
-                display.changePriceIndex(changeOfIndex);
+                int priceIndex = this.priceIndexes[display.ordinal()];
+                int newPriceIndex = display.changePriceIndex(priceIndex, changeOfIndex);
+                this.priceIndexes[display.ordinal()] = newPriceIndex;
+                if (newPriceIndex != priceIndex && event.isRecorded()) {
+                    event.setShift(display.name(), priceIndex, newPriceIndex);
+                    event.commit();
+                }
+                if (newPriceIndex != priceIndex && events.isActive()) {
+                    events.publish(new PriceIndexChangedEvent(playerId, display, priceIndex, newPriceIndex));
+                }
             }
         }
-        this.salesRecord.clear();
+        updateCurrentPrices();
+        clearSalesRecord();
+    }
+
+    /**
+     * Forgets all recorded sales.
+     */
+    private void clearSalesRecord() {
+        Arrays.fill(this.salesRecord, 0);
+        Arrays.fill(this.isSaleRecorded, false);
+        this.numOfRecordedTypes = 0;
     }
 
     /**
      * Calculates the change of index (the change of position of price indicator).
      * If integer is positive, the current price tag will be marked higher, negative means going down.
      *
-     * @param itemNames name of the pair of vegetables
+     * @param items the pair of vegetable types
      * @return the change of index (the change of position of the price indicator)
      */
-    public int calculateChangeOfIndex(List<String> itemNames) {
+    public int calculateChangeOfIndex(List<VegetableType> items) {
         int count = 0;
         int changeOfIndex = 0;
-        for (String name : itemNames) {
-            VegetableType typeToCheck = VegetableType.getVegetableTypeFromString(name);
-            if (this.salesRecord.containsKey(typeToCheck)) {
-                //First vegetable type of the fixed pair is checked, then the second vegetable type is checked.
-                if (count == 0) {
-                    changeOfIndex = this.salesRecord.get(typeToCheck);
-                } else {
-                    changeOfIndex -= this.salesRecord.get(typeToCheck);
-                }
+        for (VegetableType typeToCheck : items) {
+            //First vegetable type of the fixed pair is checked, then the second vegetable type is checked.
+            //Types that are not recorded have an amount of zero.
+            if (count == 0) {
+                changeOfIndex = this.salesRecord[typeToCheck.ordinal()];
+            } else {
+                changeOfIndex -= this.salesRecord[typeToCheck.ordinal()];
             }
             count++;
         }
@@ -92,16 +173,21 @@ public class Market {
      * @param salesList the list of sales
      */
     public void recordSales(List<VegetableSet> salesList) {
-        if (!this.salesRecord.isEmpty()) {
+        if (this.numOfRecordedTypes != 0) {
             for (VegetableSet vegetableSet : salesList) {
-                VegetableType typeToSearch = vegetableSet.getType();
-                if (this.salesRecord.containsKey(typeToSearch)) {
-                    this.salesRecord.put(typeToSearch, this.salesRecord.get(typeToSearch) + vegetableSet.getAmount());
+                int ordinal = vegetableSet.getType().ordinal();
+                if (this.isSaleRecorded[ordinal]) {
+                    this.salesRecord[ordinal] += vegetableSet.getAmount();
                 }
             }
         } else {
             for (VegetableSet vegetableSet : salesList) {
-                this.salesRecord.put(vegetableSet.getType(), vegetableSet.getAmount());
+                int ordinal = vegetableSet.getType().ordinal();
+                if (!this.isSaleRecorded[ordinal]) {
+                    this.isSaleRecorded[ordinal] = true;
+                    this.numOfRecordedTypes++;
+                }
+                this.salesRecord[ordinal] = vegetableSet.getAmount();
             }
         }
     }
@@ -118,29 +204,69 @@ public class Market {
         for (VegetableSet vegetableSet : salesList) {
             int numberOfVegetableInSet = vegetableSet.getAmount();
             sumOfVegetables += numberOfVegetableInSet;
-            sumOfGold += numberOfVegetableInSet * getCurrentPrice(vegetableSet.getName());
+            sumOfGold += numberOfVegetableInSet * getPrice(vegetableSet.getType());
         }
         if (sumOfVegetables < 2) {
-            System.out.println(String.format(MESSAGE_SINGLE_SALE, sumOfGold));
+            this.output.println(String.format(MESSAGE_SINGLE_SALE, sumOfGold));
         } else {
-            System.out.println(String.format(MESSAGE_MULTIPLE_SALE, sumOfVegetables, sumOfGold));
+            this.output.println(String.format(MESSAGE_MULTIPLE_SALE, sumOfVegetables, sumOfGold));
         }
         return sumOfGold;
     }
 
+    /**
+     * Writes the price indexes and the sales recorded since the last update of the prices.
+     *
+     * @param output the snapshot to write to
+     * @throws IOException if the snapshot cannot be written
+     */
+    public void writeState(DataOutput output) throws IOException {
+        for (int priceIndex : this.priceIndexes) {
+            output.writeByte(priceIndex);
+        }
+        output.writeByte(this.numOfRecordedTypes);
+        for (VegetableType type : VEGETABLE_TYPES) {
+            if (this.isSaleRecorded[type.ordinal()]) {
+                output.writeByte(type.ordinal());
+                output.writeInt(this.salesRecord[type.ordinal()]);
+            }
+        }
+    }
+
+    /**
+     * Replaces the price indexes and the recorded sales with the state written by {@link #writeState(DataOutput)}.
+     *
+     * @param input the snapshot to read from
+     * @throws IOException if the snapshot cannot be read
+     */
+    public void readState(DataInput input) throws IOException {
+        for (int i = 0; i < this.priceIndexes.length; i++) {
+            this.priceIndexes[i] = input.readUnsignedByte();
+        }
+        updateCurrentPrices();
+        clearSalesRecord();
+        int numOfRecords = input.readUnsignedByte();
+        for (int i = 0; i < numOfRecords; i++) {
+            int ordinal = input.readUnsignedByte();
+            this.salesRecord[ordinal] = input.readInt();
+            this.isSaleRecorded[ordinal] = true;
+        }
+        this.numOfRecordedTypes = numOfRecords;
+    }
+
     /**
      * Prints the status of the market, in other words, vegetables' current prices.
      */
     public void printMarket() {
         List<VegetableSet> vegetableSetList = new ArrayList<>();
         for (VegetableType type : VegetableType.values()) {
-            int priceOfVegetable = getCurrentPrice(type.getName());
+            int priceOfVegetable = getPrice(type);
             VegetableSet newSet = new VegetableSet(type, priceOfVegetable);
             vegetableSetList.add(newSet);
         }
 
         Printer markePrinter = new Printer(vegetableSetList);
-        System.out.println(markePrinter.printMarket());
+        this.output.println(markePrinter.printMarket());
     }
 
 }
@@ -1,9 +1,7 @@
 package edu.kit.informatik.queensFarm.module.game.market;
 
-import edu.kit.informatik.queensFarm.module.FarmException;
-import edu.kit.informatik.queensFarm.resource.ErrorMessage;
+import edu.kit.informatik.queensFarm.module.game.VegetableType;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -16,126 +14,148 @@ public enum PriceDisplay {
     /**
      * All possible pair prices of mushroom and carrot.
      */
-    MUSHROOM_AND_CARROT_PAIR_PRICE(List.of(
-            List.of(12, 3),
-            List.of(15, 2),
-            List.of(16, 2),
-            List.of(17, 2),
-            List.of(20, 1)), 2, List.of("mushroom", "carrot")),
+    MUSHROOM_AND_CARROT_PAIR_PRICE(new int[][] {
+            {12, 3},
+            {15, 2},
+            {16, 2},
+            {17, 2},
+            {20, 1}}, 2, List.of(VegetableType.MUSHROOM, VegetableType.CARROT)),
 
     /**
      * All possible pair prices of tomato and salad.
      */
-    TOMATO_AND_SALAD_PAIR_PRICE(List.of(
-            List.of(3, 6),
-            List.of(5, 5),
-            List.of(6, 4),
-            List.of(7, 3),
-            List.of(9, 2)), 2, List.of("tomato", "salad"));
-
-    private static final int FIRST_ITEM_POSITION = 0;
-    private static final int SECOND_ITEM_POSITION = 1;
+    TOMATO_AND_SALAD_PAIR_PRICE(new int[][] {
+            {3, 6},
+            {5, 5},
+            {6, 4},
+            {7, 3},
+            {9, 2}}, 2, List.of(VegetableType.TOMATO, VegetableType.SALAD));
+
     private static final int MINIMUM_OF_INDEX = 0;
     private static final int MAXIMUM_OF_INDEX = 4;
 
+    /**
+     * The price of each vegetable at each price index, indexed by the ordinal of the vegetable type first.
+     */
+    private static final int[][] PRICE_TABLE = createPriceTable();
+
+    /**
+     * The price display of each vegetable, indexed by the ordinal of the vegetable type.
+     */
+    private static final PriceDisplay[] DISPLAY_OF_VEGETABLE = createDisplayOfVegetable();
+
     // This size of this price tag is 5.
-    // Each element is a "Pair" object, which contains the name of vegetables and the according prices.
-    private final Pair[] priceTag;
+    // Each row contains the prices of the items at one price index, in the order of the items.
+    private final int[][] priceTag;
 
-    // The price index indicates the location of the symbol "*" or "◇" in the price tag.
-    private int priceIndex;
-    private final List<String> itemNames;
+    // The initial price index indicates the location of the symbol "*" or "◇" in the price tag
+    // at the start of a game.
+    // The current price index belongs to the market of each game.
+    private final int initialPriceIndex;
+    private final List<VegetableType> items;
 
     /**
      * Constructs a price display.
      *
-     * @param pairPriceSet all possible pair prices of two vegetables
-     * @param priceIndex the current price index
-     * @param itemNames names of the items in this price display
+     * @param priceTag all possible pair prices of two vegetables
+     * @param initialPriceIndex the price index at the start of a game
+     * @param items the vegetable types in this price display
      */
-    PriceDisplay(List<List<Integer>> pairPriceSet, int priceIndex, List<String> itemNames) {
-        this.priceIndex = priceIndex;
-        this.itemNames = itemNames;
-        this.priceTag = initiatePriceTag(pairPriceSet, itemNames);
+    PriceDisplay(int[][] priceTag, int initialPriceIndex, List<VegetableType> items) {
+        this.priceTag = priceTag;
+        this.initialPriceIndex = initialPriceIndex;
+        this.items = items;
     }
 
     /**
-     * Gets the names of the items in this price display.
+     * Gets the price index at the start of a game.
      *
-     * @return names of the items in this price display
+     * @return the price index at the start of a game
      */
-    public List<String> getItemNames() {
-        return itemNames;
+    public int getInitialPriceIndex() {
+        return initialPriceIndex;
     }
 
     /**
-     * Initiates the price tag.
-     * For example, for the pair of mushroom and carrot, in the for loop, the first entry of the Map "pair price set"
-     * will be split into price of different items. Then we create a Pair object and store the two prices into it.
-     * After the for loop, turn the list into the array.
+     * Gets the vegetable types in this price display. The price of the first one goes down when more of it is sold
+     * than of the second one.
      *
-     * @param pairPriceSet all possible pair prices for a pair of vegetables
-     * @param itemNames names of the items to store together with the price
-     * @return an array of price tags for a pair of vegetables
+     * @return the vegetable types in this price display
      */
-    public Pair[] initiatePriceTag(List<List<Integer>> pairPriceSet, List<String> itemNames) {
-        List<Pair> totalPairsOfPrices = new ArrayList<>();
-        for (List<Integer> list : pairPriceSet) {
-            int priceOfFirstItem = list.get(FIRST_ITEM_POSITION);
-            int priceOfSecondItem = list.get(SECOND_ITEM_POSITION);
-
-            Pair pairOfPrices = new Pair();
-            pairOfPrices.addPriceTag(itemNames.get(FIRST_ITEM_POSITION), priceOfFirstItem);
-            pairOfPrices.addPriceTag(itemNames.get(SECOND_ITEM_POSITION), priceOfSecondItem);
-
-            totalPairsOfPrices.add(pairOfPrices);
-        }
-        return totalPairsOfPrices.toArray(new Pair[0]);
+    public List<VegetableType> getItems() {
+        return items;
     }
 
     /**
-     * Update the position of price indicator.
+     * Calculates the new position of price indicator.
      *
+     * @param priceIndex current position of price indicator
      * @param changeOfIndex change of position of price indicator
+     * @return the new position of price indicator
      */
-    public void changePriceIndex(int changeOfIndex) {
-        int newIndex = this.priceIndex - changeOfIndex;
+    public int changePriceIndex(int priceIndex, int changeOfIndex) {
+        int newIndex = priceIndex - changeOfIndex;
 
         if (newIndex > MAXIMUM_OF_INDEX) {
-            this.priceIndex = MAXIMUM_OF_INDEX;
+            return MAXIMUM_OF_INDEX;
         } else if (newIndex < MINIMUM_OF_INDEX) {
-            this.priceIndex = MINIMUM_OF_INDEX;
-        } else {
-            this.priceIndex = newIndex;
+            return MINIMUM_OF_INDEX;
         }
+        return newIndex;
     }
 
     /**
-     * Gets the price tag from string vegetable name.
+     * Gets the price of a vegetable at the given price index of its price display.
      *
-     * @param vegetableName name of vegetable
+     * @param type vegetable type
+     * @param priceIndex current position of the price indicator of the price display of the vegetable
      * @return price tag of the vegetable
-     * @throws FarmException if the vegetable name given is not valid
      */
-    public static int getPriceFromString(String vegetableName) throws FarmException {
-        PriceDisplay display = getPriceDisplayFromString(vegetableName);
-        return display.priceTag[display.priceIndex].getPrice(vegetableName);
+    public static int getPrice(VegetableType type, int priceIndex) {
+        return PRICE_TABLE[type.ordinal()][priceIndex];
     }
 
     /**
-     * Gets the price display from the string vegetable name.
+     * Gets the price display that the given vegetable belongs to.
      *
-     * @param vegetableName name of vegetable
-     * @return price display which the input vegetable belongs
-     * @throws FarmException if the vegetable name given is not valid
+     * @param type vegetable type
+     * @return price display which the vegetable belongs to
      */
-    public static PriceDisplay getPriceDisplayFromString(String vegetableName) throws FarmException {
-        for (PriceDisplay display : PriceDisplay.values()) {
-            if (display.itemNames.contains(vegetableName)) {
-                return display;
+    public static PriceDisplay getPriceDisplay(VegetableType type) {
+        return DISPLAY_OF_VEGETABLE[type.ordinal()];
+    }
+
+    /**
+     * Creates the table of the prices of each vegetable at each price index from the price tags of all displays.
+     *
+     * @return the price table indexed by the ordinal of the vegetable type and the price index
+     */
+    private static int[][] createPriceTable() {
+        int[][] priceTable = new int[VegetableType.values().length][];
+        for (PriceDisplay display : values()) {
+            for (int item = 0; item < display.items.size(); item++) {
+                int[] prices = new int[display.priceTag.length];
+                for (int priceIndex = 0; priceIndex < prices.length; priceIndex++) {
+                    prices[priceIndex] = display.priceTag[priceIndex][item];
+                }
+                priceTable[display.items.get(item).ordinal()] = prices;
             }
         }
-        throw new FarmException(ErrorMessage.ILLEGAL_VEGETABLE_NAME.toString());
+        return priceTable;
     }
 
+    /**
+     * Creates the lookup table from vegetable type to price display.
+     *
+     * @return the price display of each vegetable, indexed by the ordinal of the vegetable type
+     */
+    private static PriceDisplay[] createDisplayOfVegetable() {
+        PriceDisplay[] displayOfVegetable = new PriceDisplay[VegetableType.values().length];
+        for (PriceDisplay display : values()) {
+            for (VegetableType type : display.items) {
+                displayOfVegetable[type.ordinal()] = display;
+            }
+        }
+        return displayOfVegetable;
+    }
 }
@@ -0,0 +1,96 @@
+package edu.kit.informatik.queensFarm.module.input;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * This class describes a reusable line of UTF-8 encoded bytes that can be read as characters.
+ * Lines that only contain ASCII characters are read directly from the bytes without decoding them.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class ByteLine implements CharSequence {
+    private static final int INITIAL_CAPACITY = 128;
+    private static final int ASCII_MASK = 0x80;
+    private byte[] bytes;
+    private int length;
+    private boolean isAscii;
+    private String decodedLine;
+
+    /**
+     * Constructs an empty line.
+     */
+    public ByteLine() {
+        this.bytes = new byte[INITIAL_CAPACITY];
+        clear();
+    }
+
+    /**
+     * Removes all bytes, so the line can be reused for the next line.
+     */
+    public void clear() {
+        this.length = 0;
+        this.isAscii = true;
+        this.decodedLine = null;
+    }
+
+    /**
+     * Appends a byte to the line.
+     *
+     * @param value byte to append
+     */
+    public void append(byte value) {
+        if (this.length == this.bytes.length) {
+            this.bytes = Arrays.copyOf(this.bytes, this.length * 2);
+        }
+        this.bytes[this.length++] = value;
+        if ((value & ASCII_MASK) != 0) {
+            this.isAscii = false;
+        }
+    }
+
+    /**
+     * Gets the line as decoded string. Lines with other than ASCII characters are only decoded once.
+     *
+     * @return the line as decoded string
+     */
+    private String decode() {
+        if (this.decodedLine == null) {
+            this.decodedLine = new String(this.bytes, 0, this.length, StandardCharsets.UTF_8);
+        }
+        return this.decodedLine;
+    }
+
+    @Override
+    public int length() {
+        return this.isAscii ? this.length : decode().length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (this.isAscii) {
+            if (index < 0 || index >= this.length) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return (char) this.bytes[index];
+        }
+        return decode().charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (this.isAscii) {
+            return new String(this.bytes, start, end - start, StandardCharsets.US_ASCII);
+        }
+        return decode().substring(start, end);
+    }
+
+    @Override
+    public String toString() {
+        if (this.isAscii) {
+            return new String(this.bytes, 0, this.length, StandardCharsets.US_ASCII);
+        }
+        return decode();
+    }
+}
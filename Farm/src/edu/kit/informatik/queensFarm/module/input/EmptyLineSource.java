@@ -0,0 +1,35 @@
+package edu.kit.informatik.queensFarm.module.input;
+
+/**
+ * This class describes a line source without any lines. It is used by sessions whose lines are pushed to them one
+ * at a time instead of being read, like the sessions of the game server.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public final class EmptyLineSource implements LineSource {
+    /**
+     * The only instance, since the source has no state.
+     */
+    public static final EmptyLineSource INSTANCE = new EmptyLineSource();
+
+    /**
+     * Private constructor to use the shared instance.
+     */
+    private EmptyLineSource() {
+    }
+
+    @Override
+    public CharSequence readLine() {
+        return null;
+    }
+
+    @Override
+    public long getLinesRead() {
+        return 0;
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,29 @@
+package edu.kit.informatik.queensFarm.module.input;
+
+import java.io.Closeable;
+
+/**
+ * This interface describes the source of the lines of user input that a session reads.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public interface LineSource extends Closeable {
+    /**
+     * Reads the next line without its line separator. The returned line may be reused by the source,
+     * so it is only valid until the next call of this method.
+     *
+     * @return the next line, or null if the end of the input is reached
+     */
+    CharSequence readLine();
+
+    /**
+     * Gets the number of lines read so far.
+     *
+     * @return the number of lines read so far
+     */
+    long getLinesRead();
+
+    @Override
+    void close();
+}
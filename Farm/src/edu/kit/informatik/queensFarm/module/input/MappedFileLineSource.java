@@ -0,0 +1,107 @@
+package edu.kit.informatik.queensFarm.module.input;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class describes a line source that reads a command file through memory mapping.
+ * The file is mapped in windows one after another, so files larger than the address range of a single mapping
+ * can be read as well. Lines end with "\n", "\r\n" or "\r" like the lines read from the console.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class MappedFileLineSource implements LineSource {
+    private static final long WINDOW_SIZE = 64L << 20;
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private final FileChannel channel;
+    private final long fileSize;
+    private final ByteLine line;
+    private MappedByteBuffer window;
+    private long windowEnd;
+    private boolean isLineFeedSkipped;
+    private long linesRead;
+
+    /**
+     * Opens the given file for reading.
+     *
+     * @param file the command file to read
+     * @throws IOException if the file cannot be opened
+     */
+    public MappedFileLineSource(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.fileSize = this.channel.size();
+        this.line = new ByteLine();
+        this.windowEnd = 0;
+    }
+
+    /**
+     * Maps the next window of the file if the current window is read completely.
+     *
+     * @return true if there are bytes left to read, otherwise false
+     */
+    private boolean hasRemainingBytes() {
+        if (this.window != null && this.window.hasRemaining()) {
+            return true;
+        }
+        if (this.windowEnd >= this.fileSize) {
+            return false;
+        }
+        long windowStart = this.windowEnd;
+        this.windowEnd = Math.min(this.fileSize, windowStart + WINDOW_SIZE);
+        try {
+            this.window = this.channel.map(FileChannel.MapMode.READ_ONLY, windowStart, this.windowEnd - windowStart);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return this.window.hasRemaining();
+    }
+
+    @Override
+    public CharSequence readLine() {
+        if (this.isLineFeedSkipped) {
+            this.isLineFeedSkipped = false;
+            if (hasRemainingBytes() && this.window.get(this.window.position()) == LINE_FEED) {
+                this.window.get();
+            }
+        }
+        this.line.clear();
+        boolean hasContent = false;
+        while (hasRemainingBytes()) {
+            hasContent = true;
+            byte value = this.window.get();
+            if (value == LINE_FEED) {
+                break;
+            }
+            if (value == CARRIAGE_RETURN) {
+                this.isLineFeedSkipped = true;
+                break;
+            }
+            this.line.append(value);
+        }
+        if (!hasContent) {
+            return null;
+        }
+        this.linesRead++;
+        return this.line;
+    }
+
+    @Override
+    public long getLinesRead() {
+        return this.linesRead;
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package edu.kit.informatik.queensFarm.module.input;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+
+/**
+ * This class describes a line source that reads from a stream, for example the console.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class ReaderLineSource implements LineSource {
+    private final BufferedReader reader;
+    private long linesRead;
+
+    /**
+     * Constructs a line source that reads from the given stream.
+     *
+     * @param inputStream the stream to read from
+     */
+    public ReaderLineSource(InputStream inputStream) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream));
+    }
+
+    @Override
+    public CharSequence readLine() {
+        try {
+            String line = this.reader.readLine();
+            if (line != null) {
+                this.linesRead++;
+            }
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public long getLinesRead() {
+        return this.linesRead;
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
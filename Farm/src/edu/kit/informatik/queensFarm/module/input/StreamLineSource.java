@@ -0,0 +1,116 @@
+package edu.kit.informatik.queensFarm.module.input;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * This class describes a line source that reads from a stream with a small buffer, for example from the connection
+ * of a client that waits for most of the time. Unlike a reader, it does not keep a buffer of decoded characters:
+ * the bytes are collected in a reusable line that is only decoded if it contains other than ASCII characters.
+ * Lines end with "\n", "\r\n" or "\r" like the lines read from the console.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class StreamLineSource implements LineSource {
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final String MESSAGE_LINE_TOO_LONG = "The line is longer than %d bytes.";
+    private final InputStream inputStream;
+    private final byte[] buffer;
+    private final int maximumLineLength;
+    private final ByteLine line;
+    private int position;
+    private int limit;
+    private boolean isLineFeedSkipped;
+    private long linesRead;
+
+    /**
+     * Constructs a line source that reads from the given stream.
+     *
+     * @param inputStream the stream to read from
+     * @param bufferSize size of the buffer in bytes
+     * @param maximumLineLength the maximum number of bytes of a line
+     */
+    public StreamLineSource(InputStream inputStream, int bufferSize, int maximumLineLength) {
+        this.inputStream = inputStream;
+        this.buffer = new byte[bufferSize];
+        this.maximumLineLength = maximumLineLength;
+        this.line = new ByteLine();
+    }
+
+    /**
+     * Reads more bytes from the stream if the buffer is read completely. Blocks until bytes are available.
+     *
+     * @return true if there are bytes left to read, otherwise false
+     */
+    private boolean hasRemainingBytes() {
+        if (this.position < this.limit) {
+            return true;
+        }
+        try {
+            int numOfBytes = this.inputStream.read(this.buffer);
+            this.position = 0;
+            this.limit = Math.max(numOfBytes, 0);
+            return numOfBytes > 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the next line. A line longer than the maximum length ends the input with an exception.
+     *
+     * @return the next line, or null if the end of the input is reached
+     * @throws UncheckedIOException if the stream cannot be read or the line is too long
+     */
+    @Override
+    public CharSequence readLine() {
+        // the line feed of "\r\n" is only skipped now, so the previous line was not blocked by waiting for it
+        if (this.isLineFeedSkipped) {
+            this.isLineFeedSkipped = false;
+            if (hasRemainingBytes() && this.buffer[this.position] == LINE_FEED) {
+                this.position++;
+            }
+        }
+        this.line.clear();
+        int lineLength = 0;
+        boolean hasContent = false;
+        while (hasRemainingBytes()) {
+            hasContent = true;
+            byte value = this.buffer[this.position++];
+            if (value == LINE_FEED) {
+                break;
+            }
+            if (value == CARRIAGE_RETURN) {
+                this.isLineFeedSkipped = true;
+                break;
+            }
+            if (lineLength == this.maximumLineLength) {
+                throw new UncheckedIOException(new IOException(String.format(MESSAGE_LINE_TOO_LONG, lineLength)));
+            }
+            this.line.append(value);
+            lineLength++;
+        }
+        if (!hasContent) {
+            return null;
+        }
+        this.linesRead++;
+        return this.line;
+    }
+
+    @Override
+    public long getLinesRead() {
+        return this.linesRead;
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.inputStream.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package edu.kit.informatik.queensFarm.module.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This class describes the event of an action of a player: planting, harvesting, buying or selling.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+@Name("edu.kit.informatik.queensFarm.Action")
+@Label("Action")
+public class ActionEvent extends GameEvent {
+    @Label("Action")
+    private String action;
+
+    @Label("Accepted")
+    private boolean isAccepted;
+
+    /**
+     * Constructs an action event.
+     *
+     * @param gameId the id of the game
+     * @param playerId the id of the acting player
+     */
+    public ActionEvent(long gameId, int playerId) {
+        super(gameId, playerId);
+    }
+
+    /**
+     * Sets the outcome of the action.
+     *
+     * @param action the name of the action
+     * @param isAccepted whether the game has executed the action
+     */
+    public void setOutcome(String action, boolean isAccepted) {
+        this.action = action;
+        this.isAccepted = isAccepted;
+    }
+}
@@ -0,0 +1,54 @@
+package edu.kit.informatik.queensFarm.module.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * This class describes a JDK Flight Recorder event of a game. It carries the id of the game and the id of the player
+ * the event belongs to, and its duration is the time between {@link #begin()} and {@link #commit()}.
+ * Events of games without id, like the forks a bot searches, are never committed.
+ * When no recording is running, an event is not committed either, and the JIT compiler removes almost all of its
+ * cost.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+@Category("Queens Farm")
+@StackTrace(false)
+public abstract class GameEvent extends Event {
+    /**
+     * The game id of games whose events are not recorded.
+     */
+    public static final long UNRECORDED_GAME_ID = 0;
+
+    // The ids are protected, because the flight recorder only records the private fields of the event class itself.
+
+    @Label("Game Id")
+    protected long gameId;
+
+    @Label("Player Id")
+    protected int playerId;
+
+    /**
+     * Constructs a game event.
+     *
+     * @param gameId the id of the game
+     * @param playerId the id of the player
+     */
+    protected GameEvent(long gameId, int playerId) {
+        this.gameId = gameId;
+        this.playerId = playerId;
+    }
+
+    /**
+     * Checks whether the event should be committed: the game is recorded, a recording is running and the duration
+     * of the event exceeds the threshold of the recording.
+     *
+     * @return true if the event should be committed, otherwise false
+     */
+    public boolean isRecorded() {
+        return this.gameId != UNRECORDED_GAME_ID && shouldCommit();
+    }
+}
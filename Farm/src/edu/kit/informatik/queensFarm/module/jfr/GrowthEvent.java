@@ -0,0 +1,46 @@
+package edu.kit.informatik.queensFarm.module.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This class describes the event of the vegetables of a land that grow, because the timer of the land is due.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+@Name("edu.kit.informatik.queensFarm.Growth")
+@Label("Growth")
+public class GrowthEvent extends GameEvent {
+    @Label("Vegetable")
+    private String vegetable;
+
+    @Label("Grown Vegetables")
+    private int grownVegetables;
+
+    @Label("Land Full")
+    private boolean isLandFull;
+
+    /**
+     * Constructs a growth event.
+     *
+     * @param gameId the id of the game
+     * @param playerId the id of the player that owns the land
+     */
+    public GrowthEvent(long gameId, int playerId) {
+        super(gameId, playerId);
+    }
+
+    /**
+     * Sets the result of the growth.
+     *
+     * @param vegetable the name of the vegetable on the land
+     * @param grownVegetables the number of grown vegetables
+     * @param isLandFull whether the land has reached its capacity
+     */
+    public void setGrowth(String vegetable, int grownVegetables, boolean isLandFull) {
+        this.vegetable = vegetable;
+        this.grownVegetables = grownVegetables;
+        this.isLandFull = isLandFull;
+    }
+}
@@ -0,0 +1,46 @@
+package edu.kit.informatik.queensFarm.module.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This class describes the event of a price display whose price indicator moves at the end of a turn.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+@Name("edu.kit.informatik.queensFarm.PriceShift")
+@Label("Price Shift")
+public class PriceShiftEvent extends GameEvent {
+    @Label("Price Display")
+    private String priceDisplay;
+
+    @Label("Previous Price Index")
+    private int previousPriceIndex;
+
+    @Label("Price Index")
+    private int priceIndex;
+
+    /**
+     * Constructs a price shift event.
+     *
+     * @param gameId the id of the game
+     * @param playerId the id of the player whose turn ends
+     */
+    public PriceShiftEvent(long gameId, int playerId) {
+        super(gameId, playerId);
+    }
+
+    /**
+     * Sets the shift of the price indicator.
+     *
+     * @param priceDisplay the name of the price display
+     * @param previousPriceIndex the price index before the shift
+     * @param priceIndex the price index after the shift
+     */
+    public void setShift(String priceDisplay, int previousPriceIndex, int priceIndex) {
+        this.priceDisplay = priceDisplay;
+        this.previousPriceIndex = previousPriceIndex;
+        this.priceIndex = priceIndex;
+    }
+}
@@ -0,0 +1,36 @@
+package edu.kit.informatik.queensFarm.module.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This class describes the event of the vegetables in a barn that spoil.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+@Name("edu.kit.informatik.queensFarm.Spoil")
+@Label("Spoil")
+public class SpoilEvent extends GameEvent {
+    @Label("Spoiled Vegetables")
+    private int spoiledVegetables;
+
+    /**
+     * Constructs a spoil event.
+     *
+     * @param gameId the id of the game
+     * @param playerId the id of the player that owns the barn
+     */
+    public SpoilEvent(long gameId, int playerId) {
+        super(gameId, playerId);
+    }
+
+    /**
+     * Sets the number of spoiled vegetables.
+     *
+     * @param spoiledVegetables the number of spoiled vegetables
+     */
+    public void setSpoiledVegetables(int spoiledVegetables) {
+        this.spoiledVegetables = spoiledVegetables;
+    }
+}
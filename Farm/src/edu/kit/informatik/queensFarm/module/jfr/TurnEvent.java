@@ -0,0 +1,37 @@
+package edu.kit.informatik.queensFarm.module.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This class describes the event of a change of turn. Its duration includes the update of the prices and the growth
+ * at the start of the next turn.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+@Name("edu.kit.informatik.queensFarm.Turn")
+@Label("Turn")
+public class TurnEvent extends GameEvent {
+    @Label("Next Player Id")
+    private int nextPlayerId;
+
+    /**
+     * Constructs a turn event.
+     *
+     * @param gameId the id of the game
+     * @param playerId the id of the player whose turn ends
+     */
+    public TurnEvent(long gameId, int playerId) {
+        super(gameId, playerId);
+    }
+
+    /**
+     * Sets the player whose turn starts.
+     *
+     * @param nextPlayerId the id of the player whose turn starts
+     */
+    public void setNextPlayerId(int nextPlayerId) {
+        this.nextPlayerId = nextPlayerId;
+    }
+}
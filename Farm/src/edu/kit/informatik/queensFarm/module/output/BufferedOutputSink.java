@@ -0,0 +1,67 @@
+package edu.kit.informatik.queensFarm.module.output;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * This class describes an output sink that collects the text in a buffer and only writes it to the underlying
+ * stream when the buffer is full or when it is flushed.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class BufferedOutputSink implements OutputSink {
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+    private final Writer writer;
+
+    /**
+     * Constructs a buffered output sink with the default buffer size.
+     *
+     * @param outputStream the stream to write to
+     */
+    public BufferedOutputSink(OutputStream outputStream) {
+        this(outputStream, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructs a buffered output sink.
+     *
+     * @param outputStream the stream to write to
+     * @param bufferSize size of the buffer in characters
+     */
+    public BufferedOutputSink(OutputStream outputStream, int bufferSize) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream), bufferSize);
+    }
+
+    @Override
+    public void println(String line) {
+        try {
+            this.writer.write(line);
+            this.writer.write(System.lineSeparator());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void println() {
+        try {
+            this.writer.write(System.lineSeparator());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            this.writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
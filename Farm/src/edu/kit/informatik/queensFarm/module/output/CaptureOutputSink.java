@@ -0,0 +1,60 @@
+package edu.kit.informatik.queensFarm.module.output;
+
+/**
+ * This class describes an output sink that keeps all text in memory, for example the output of one session
+ * that is sent to its client later.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class CaptureOutputSink implements OutputSink {
+    private final StringBuilder capturedOutput;
+
+    /**
+     * Constructs an empty capture output sink.
+     */
+    public CaptureOutputSink() {
+        this.capturedOutput = new StringBuilder();
+    }
+
+    @Override
+    public void println(String line) {
+        this.capturedOutput.append(line).append(System.lineSeparator());
+    }
+
+    @Override
+    public void println() {
+        this.capturedOutput.append(System.lineSeparator());
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Gets all text captured since the last time the sink was cleared.
+     *
+     * @return all captured text
+     */
+    public String getCapturedOutput() {
+        return this.capturedOutput.toString();
+    }
+
+    /**
+     * Gets the captured text and removes it from the sink.
+     *
+     * @return all captured text
+     */
+    public String drain() {
+        String output = this.capturedOutput.toString();
+        clear();
+        return output;
+    }
+
+    /**
+     * Removes all captured text.
+     */
+    public void clear() {
+        this.capturedOutput.setLength(0);
+    }
+}
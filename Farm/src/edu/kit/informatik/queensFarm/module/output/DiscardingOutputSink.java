@@ -0,0 +1,32 @@
+package edu.kit.informatik.queensFarm.module.output;
+
+/**
+ * This class describes an output sink that drops all text. It is used when nobody reads the output of a game.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public final class DiscardingOutputSink implements OutputSink {
+    /**
+     * The only instance, since the sink has no state.
+     */
+    public static final DiscardingOutputSink INSTANCE = new DiscardingOutputSink();
+
+    /**
+     * Private constructor to use the shared instance.
+     */
+    private DiscardingOutputSink() {
+    }
+
+    @Override
+    public void println(String line) {
+    }
+
+    @Override
+    public void println() {
+    }
+
+    @Override
+    public void flush() {
+    }
+}
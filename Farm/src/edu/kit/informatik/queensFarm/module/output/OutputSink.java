@@ -0,0 +1,27 @@
+package edu.kit.informatik.queensFarm.module.output;
+
+/**
+ * This interface describes the destination of all messages that a game prints.
+ * A sink belongs to one game session and is not shared between threads.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public interface OutputSink {
+    /**
+     * Writes a line of text followed by a line separator.
+     *
+     * @param line line to write
+     */
+    void println(String line);
+
+    /**
+     * Writes an empty line.
+     */
+    void println();
+
+    /**
+     * Hands all written text over to the destination. Sinks that do not buffer do nothing.
+     */
+    void flush();
+}
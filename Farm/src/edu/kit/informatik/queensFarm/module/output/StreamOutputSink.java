@@ -0,0 +1,98 @@
+package edu.kit.informatik.queensFarm.module.output;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This class describes an output sink that encodes the text into a small buffer of bytes and writes it to the
+ * underlying stream when the buffer is full or when it is flushed. Unlike a writer, it does not keep a second
+ * buffer for encoding, so it suits streams of which many are open at the same time, like client connections.
+ * ASCII characters are copied into the buffer directly; other text is encoded as UTF-8.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class StreamOutputSink implements OutputSink {
+    private static final int ASCII_LIMIT = 0x80;
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+    private final OutputStream outputStream;
+    private final byte[] buffer;
+    private int length;
+
+    /**
+     * Constructs a stream output sink.
+     *
+     * @param outputStream the stream to write to
+     * @param bufferSize size of the buffer in bytes
+     */
+    public StreamOutputSink(OutputStream outputStream, int bufferSize) {
+        this.outputStream = outputStream;
+        this.buffer = new byte[bufferSize];
+    }
+
+    @Override
+    public void println(String line) {
+        for (int i = 0; i < line.length(); i++) {
+            char character = line.charAt(i);
+            if (character >= ASCII_LIMIT) {
+                put(line.substring(i).getBytes(StandardCharsets.UTF_8));
+                break;
+            }
+            if (this.length == this.buffer.length) {
+                writeBuffer();
+            }
+            this.buffer[this.length++] = (byte) character;
+        }
+        put(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void println() {
+        put(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void flush() {
+        writeBuffer();
+        try {
+            this.outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends bytes to the buffer and writes the buffer whenever it is full.
+     *
+     * @param bytes the bytes to append
+     */
+    private void put(byte[] bytes) {
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (this.length == this.buffer.length) {
+                writeBuffer();
+            }
+            int numOfBytes = Math.min(this.buffer.length - this.length, bytes.length - offset);
+            System.arraycopy(bytes, offset, this.buffer, this.length, numOfBytes);
+            this.length += numOfBytes;
+            offset += numOfBytes;
+        }
+    }
+
+    /**
+     * Writes the content of the buffer to the stream and empties the buffer.
+     */
+    private void writeBuffer() {
+        if (this.length == 0) {
+            return;
+        }
+        try {
+            this.outputStream.write(this.buffer, 0, this.length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.length = 0;
+    }
+}
@@ -0,0 +1,51 @@
+package edu.kit.informatik.queensFarm.module.output;
+
+/**
+ * This class describes an output sink that forwards to another sink and can be muted, for example while a game
+ * is rebuilt from its history and the old messages must not be printed again.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class SwitchableOutputSink implements OutputSink {
+    private final OutputSink target;
+    private boolean isMuted;
+
+    /**
+     * Constructs a switchable output sink that is not muted.
+     *
+     * @param target the sink to forward to
+     */
+    public SwitchableOutputSink(OutputSink target) {
+        this.target = target;
+        this.isMuted = false;
+    }
+
+    /**
+     * Mutes or unmutes the sink.
+     *
+     * @param isMuted true to drop all text, false to forward it
+     */
+    public void setMuted(boolean isMuted) {
+        this.isMuted = isMuted;
+    }
+
+    @Override
+    public void println(String line) {
+        if (!this.isMuted) {
+            this.target.println(line);
+        }
+    }
+
+    @Override
+    public void println() {
+        if (!this.isMuted) {
+            this.target.println();
+        }
+    }
+
+    @Override
+    public void flush() {
+        this.target.flush();
+    }
+}
@@ -0,0 +1,128 @@
+package edu.kit.informatik.queensFarm.module.persistence;
+
+import edu.kit.informatik.queensFarm.module.Farm;
+import edu.kit.informatik.queensFarm.module.output.OutputSink;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.CRC32;
+
+/**
+ * This class saves the complete state of a game in a compact binary snapshot and restores games from it.
+ * Every class of the game writes and reads its own state, so restoring a game takes a single pass over the
+ * snapshot and does not replay any command.
+ * A snapshot consists of a magic number, the format version, the checksum of the state and the state itself.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public final class GameSnapshot {
+    /**
+     * The magic number at the beginning of each snapshot.
+     */
+    public static final int MAGIC_NUMBER = 0x51465353;
+
+    /**
+     * The version of the snapshot format.
+     */
+    public static final byte FORMAT_VERSION = 2;
+
+    private static final String UTILITY_CLASS_INSTANTIATION = "Utility class cannot be instantiated.";
+    private static final String MESSAGE_NOT_A_SNAPSHOT = "not a game snapshot of a supported version";
+    private static final String MESSAGE_CORRUPTED_SNAPSHOT = "the game snapshot is corrupted";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final int HEADER_SIZE = Integer.BYTES + Byte.BYTES + Integer.BYTES;
+    private static final int INITIAL_BUFFER_SIZE = 1 << 10;
+
+    /**
+     * Private constructor to avoid object generation.
+     */
+    private GameSnapshot() {
+        throw new IllegalStateException(UTILITY_CLASS_INSTANTIATION);
+    }
+
+    /**
+     * Saves the state of the game in a snapshot.
+     *
+     * @param farm the game to save
+     * @return the snapshot
+     */
+    public static byte[] toBytes(Farm farm) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeInt(MAGIC_NUMBER);
+            output.writeByte(FORMAT_VERSION);
+            // Placeholder for the checksum, which is only known once the state is written.
+            output.writeInt(0);
+            farm.writeState(output);
+        } catch (IOException e) {
+            // Writing to memory never fails.
+            throw new UncheckedIOException(e);
+        }
+        byte[] snapshot = bytes.toByteArray();
+        CRC32 checksum = new CRC32();
+        checksum.update(snapshot, HEADER_SIZE, snapshot.length - HEADER_SIZE);
+        ByteBuffer.wrap(snapshot).putInt(HEADER_SIZE - Integer.BYTES, (int) checksum.getValue());
+        return snapshot;
+    }
+
+    /**
+     * Restores a game from a snapshot.
+     *
+     * @param snapshot the snapshot
+     * @param output the sink that the messages of the restored game are written to
+     * @return the restored game
+     * @throws IOException if the data is not a snapshot or is corrupted
+     */
+    public static Farm fromBytes(byte[] snapshot, OutputSink output) throws IOException {
+        ByteBuffer header = ByteBuffer.wrap(snapshot);
+        if (snapshot.length < HEADER_SIZE || header.getInt() != MAGIC_NUMBER || header.get() != FORMAT_VERSION) {
+            throw new IOException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(snapshot, HEADER_SIZE, snapshot.length - HEADER_SIZE);
+        if (header.getInt() != (int) checksum.getValue()) {
+            throw new IOException(MESSAGE_CORRUPTED_SNAPSHOT);
+        }
+        Farm farm = new Farm(output);
+        try (DataInputStream input = new DataInputStream(
+                new ByteArrayInputStream(snapshot, HEADER_SIZE, snapshot.length - HEADER_SIZE))) {
+            farm.readState(input);
+        }
+        return farm;
+    }
+
+    /**
+     * Saves the state of the game in a snapshot file. The snapshot is written to a temporary file first, which
+     * then replaces the given file, so the file always contains a complete snapshot.
+     *
+     * @param farm the game to save
+     * @param file the snapshot file
+     * @throws IOException if the file cannot be written
+     */
+    public static void save(Farm farm, Path file) throws IOException {
+        Path temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_FILE_SUFFIX);
+        Files.write(temporaryFile, toBytes(farm));
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Restores a game from a snapshot file.
+     *
+     * @param file the snapshot file
+     * @param output the sink that the messages of the restored game are written to
+     * @return the restored game
+     * @throws IOException if the file cannot be read, is not a snapshot or is corrupted
+     */
+    public static Farm load(Path file, OutputSink output) throws IOException {
+        return fromBytes(Files.readAllBytes(file), output);
+    }
+}
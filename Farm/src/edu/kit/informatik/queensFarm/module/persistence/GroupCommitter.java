@@ -0,0 +1,94 @@
+package edu.kit.informatik.queensFarm.module.persistence;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This class commits many command journals together on one background thread.
+ * Instead of forcing every single record to the storage device, all records collected during one commit interval
+ * are written and forced in one batch per journal. A crash loses at most the records of the last interval.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class GroupCommitter implements AutoCloseable {
+    private static final String THREAD_NAME = "journal-group-committer";
+    private final List<JournalWriter> journals;
+    private final long commitIntervalNanos;
+    private final Thread commitThread;
+    private volatile boolean isRunning;
+
+    /**
+     * Constructs a group committer and starts its background thread.
+     *
+     * @param commitIntervalMillis time between two commits in milliseconds
+     */
+    public GroupCommitter(long commitIntervalMillis) {
+        this.journals = new CopyOnWriteArrayList<>();
+        this.commitIntervalNanos = TimeUnit.MILLISECONDS.toNanos(commitIntervalMillis);
+        this.isRunning = true;
+        this.commitThread = new Thread(this::commitRegularly, THREAD_NAME);
+        this.commitThread.setDaemon(true);
+        this.commitThread.start();
+    }
+
+    /**
+     * Adds a journal to the journals committed by this committer.
+     *
+     * @param journal the journal to add
+     */
+    public void register(JournalWriter journal) {
+        this.journals.add(journal);
+    }
+
+    /**
+     * Removes a journal from the journals committed by this committer.
+     *
+     * @param journal the journal to remove
+     */
+    public void unregister(JournalWriter journal) {
+        this.journals.remove(journal);
+    }
+
+    /**
+     * Commits all registered journals. A journal whose commit fails keeps the failure until its game sees it.
+     */
+    public void commitAll() {
+        for (JournalWriter journal : this.journals) {
+            journal.commit();
+        }
+    }
+
+    /**
+     * Commits all registered journals once per commit interval until the committer is closed.
+     */
+    private void commitRegularly() {
+        while (this.isRunning) {
+            long nextCommit = System.nanoTime() + this.commitIntervalNanos;
+            commitAll();
+            long remainingNanos = nextCommit - System.nanoTime();
+            if (remainingNanos > 0) {
+                // Parking instead of sleeping, because interrupting a thread in the middle of a file operation
+                // would close the journal file.
+                LockSupport.parkNanos(this, remainingNanos);
+            }
+        }
+    }
+
+    /**
+     * Stops the background thread and commits all registered journals a last time.
+     */
+    @Override
+    public void close() {
+        this.isRunning = false;
+        LockSupport.unpark(this.commitThread);
+        try {
+            this.commitThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        commitAll();
+    }
+}
@@ -0,0 +1,231 @@
+package edu.kit.informatik.queensFarm.module.persistence;
+
+import edu.kit.informatik.queensFarm.module.Farm;
+import edu.kit.informatik.queensFarm.module.game.Player;
+import edu.kit.informatik.queensFarm.module.game.Vector2D;
+import edu.kit.informatik.queensFarm.module.game.VegetableType;
+import edu.kit.informatik.queensFarm.module.output.OutputSink;
+import edu.kit.informatik.queensFarm.module.output.SwitchableOutputSink;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class rebuilds a game by replaying its command journal.
+ * A record that was only partly written when the process died is ignored, together with everything behind it.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class JournalReader {
+    private static final String MESSAGE_NOT_A_JOURNAL = "%s is not a command journal of a supported version.";
+    private static final String MESSAGE_MISSING_SET_UP = "%s does not start with the set-up of a game.";
+    private static final int VARINT_PAYLOAD_MASK = 0x7F;
+    private static final int VARINT_CONTINUATION_BIT = 0x80;
+    private static final int VARINT_PAYLOAD_BITS = 7;
+    private static final int MAXIMUM_VARINT_SHIFT = 63;
+    private static final VegetableType[] VEGETABLE_TYPES = VegetableType.values();
+    private final Path file;
+    private long validLength;
+    private long position;
+
+    /**
+     * Constructs a journal reader.
+     *
+     * @param file the journal file
+     */
+    public JournalReader(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Rebuilds the game recorded in the journal. The messages of the replayed commands are not printed again.
+     *
+     * @param output the sink that the messages of the rebuilt game are written to after the replay
+     * @return the rebuilt game, or null if the journal ends before the set-up of the game was recorded
+     * @throws IOException if the file cannot be read or is not a command journal
+     */
+    public Farm restore(OutputSink output) throws IOException {
+        SwitchableOutputSink replayOutput = new SwitchableOutputSink(output);
+        replayOutput.setMuted(true);
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.file)))) {
+            if (input.readInt() != JournalWriter.MAGIC_NUMBER || input.readByte() != JournalWriter.FORMAT_VERSION) {
+                throw new IOException(String.format(MESSAGE_NOT_A_JOURNAL, this.file));
+            }
+            this.position = Integer.BYTES + Byte.BYTES;
+            this.validLength = this.position;
+
+            Farm farm = null;
+            try {
+                while (true) {
+                    int code = input.read();
+                    if (code < 0) {
+                        break;
+                    }
+                    this.position++;
+                    JournalRecordType type = JournalRecordType.getTypeFromCode(code);
+                    if (type == null || (farm == null) != (type == JournalRecordType.SET_UP)) {
+                        throw new IOException(String.format(MESSAGE_MISSING_SET_UP, this.file));
+                    }
+                    if (type == JournalRecordType.SET_UP) {
+                        farm = readSetUp(input, replayOutput);
+                    } else {
+                        replayRecord(type, input, farm);
+                    }
+                    this.validLength = this.position;
+                }
+            } catch (EOFException e) {
+                // The last record was not written completely, so it was never committed.
+            }
+            replayOutput.setMuted(false);
+            return farm;
+        }
+    }
+
+    /**
+     * Gets the number of bytes at the start of the journal that contain complete records.
+     * Only valid after the journal has been restored.
+     *
+     * @return the number of bytes that contain complete records
+     */
+    public long getValidLength() {
+        return this.validLength;
+    }
+
+    /**
+     * Reads the set-up of the game and initiates a new game with it.
+     *
+     * @param input the journal
+     * @param output the sink of the new game
+     * @return the initiated game
+     * @throws IOException if the record cannot be read
+     */
+    private Farm readSetUp(DataInputStream input, OutputSink output) throws IOException {
+        int numOfPlayers = (int) readUnsigned(input);
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < numOfPlayers; i++) {
+            byte[] encodedName = new byte[(int) readUnsigned(input)];
+            input.readFully(encodedName);
+            this.position += encodedName.length;
+            names.add(new String(encodedName, StandardCharsets.UTF_8));
+        }
+        int startCapital = (int) readSigned(input);
+        int winningCapital = (int) readSigned(input);
+        long seed = readSigned(input);
+
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < numOfPlayers; i++) {
+            players.add(new Player(names.get(i), i + 1, output));
+        }
+        Farm farm = new Farm(output);
+        farm.initiateGame(players, startCapital, winningCapital, numOfPlayers, seed);
+        return farm;
+    }
+
+    /**
+     * Reads a record and executes the recorded action on the game.
+     *
+     * @param type type of the record
+     * @param input the journal
+     * @param farm the game
+     * @throws IOException if the record cannot be read
+     */
+    private void replayRecord(JournalRecordType type, DataInputStream input, Farm farm) throws IOException {
+        switch (type) {
+            case PLANT:
+                Vector2D plantCoordinate = new Vector2D((int) readSigned(input), (int) readSigned(input));
+                farm.plant(plantCoordinate, readVegetableType(input));
+                break;
+            case HARVEST:
+                Vector2D harvestCoordinate = new Vector2D((int) readSigned(input), (int) readSigned(input));
+                farm.harvest(harvestCoordinate, (int) readSigned(input));
+                break;
+            case BUY_LAND:
+                int xCoordinate = (int) readSigned(input);
+                farm.buyLand(xCoordinate, (int) readSigned(input));
+                break;
+            case BUY_VEGETABLE:
+                farm.buyVegetable(readVegetableType(input));
+                break;
+            case SELL_MULTIPLE:
+                int[] amountsToSell = new int[VEGETABLE_TYPES.length];
+                for (int i = 0; i < amountsToSell.length; i++) {
+                    amountsToSell[i] = (int) readUnsigned(input);
+                }
+                farm.sellMultiple(amountsToSell);
+                break;
+            case SELL_ALL:
+                farm.sellAll();
+                break;
+            case SELL_NOTHING:
+                farm.sellZeroVegetable();
+                break;
+            case END_TURN:
+                farm.changeTurn();
+                break;
+            case QUIT:
+                farm.endGameByQuit();
+                break;
+            default:
+                throw new IOException(String.format(MESSAGE_MISSING_SET_UP, this.file));
+        }
+    }
+
+    /**
+     * Reads the ordinal of a vegetable type.
+     *
+     * @param input the journal
+     * @return the vegetable type
+     * @throws IOException if the ordinal cannot be read or is unknown
+     */
+    private VegetableType readVegetableType(DataInputStream input) throws IOException {
+        int ordinal = (int) readUnsigned(input);
+        if (ordinal >= VEGETABLE_TYPES.length) {
+            throw new IOException(String.format(MESSAGE_NOT_A_JOURNAL, this.file));
+        }
+        return VEGETABLE_TYPES[ordinal];
+    }
+
+    /**
+     * Reads a signed integer in zigzag encoding.
+     *
+     * @param input the journal
+     * @return the integer
+     * @throws IOException if the integer cannot be read
+     */
+    private long readSigned(InputStream input) throws IOException {
+        long value = readUnsigned(input);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Reads an unsigned variable-length integer with seven bits per byte.
+     *
+     * @param input the journal
+     * @return the integer
+     * @throws IOException if the integer cannot be read
+     */
+    private long readUnsigned(InputStream input) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift <= MAXIMUM_VARINT_SHIFT; shift += VARINT_PAYLOAD_BITS) {
+            int next = input.read();
+            if (next < 0) {
+                throw new EOFException();
+            }
+            this.position++;
+            value |= (long) (next & VARINT_PAYLOAD_MASK) << shift;
+            if ((next & VARINT_CONTINUATION_BIT) == 0) {
+                return value;
+            }
+        }
+        throw new IOException(String.format(MESSAGE_NOT_A_JOURNAL, this.file));
+    }
+}
@@ -0,0 +1,94 @@
+package edu.kit.informatik.queensFarm.module.persistence;
+
+/**
+ * This class describes the types of records in a command journal. Each record starts with the code of its type.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public enum JournalRecordType {
+    /**
+     * Set-up of the game: names of the players, start capital, winning capital and seed.
+     */
+    SET_UP(1),
+
+    /**
+     * Planting a vegetable: coordinates and vegetable type.
+     */
+    PLANT(2),
+
+    /**
+     * Harvesting: coordinates and amount.
+     */
+    HARVEST(3),
+
+    /**
+     * Buying a land: coordinates.
+     */
+    BUY_LAND(4),
+
+    /**
+     * Buying a vegetable: vegetable type.
+     */
+    BUY_VEGETABLE(5),
+
+    /**
+     * Selling vegetables: amount of each vegetable type.
+     */
+    SELL_MULTIPLE(6),
+
+    /**
+     * Selling all vegetables in the barn.
+     */
+    SELL_ALL(7),
+
+    /**
+     * Selling no vegetables.
+     */
+    SELL_NOTHING(8),
+
+    /**
+     * Ending the turn by command "end turn".
+     */
+    END_TURN(9),
+
+    /**
+     * Ending the game by command "quit".
+     */
+    QUIT(10);
+
+    private final byte code;
+
+    /**
+     * Constructs a record type.
+     *
+     * @param code the code written in front of each record of this type
+     */
+    JournalRecordType(int code) {
+        this.code = (byte) code;
+    }
+
+    /**
+     * Gets the code written in front of each record of this type.
+     *
+     * @return the code of this record type
+     */
+    public byte getCode() {
+        return code;
+    }
+
+    /**
+     * Gets the record type with the given code.
+     *
+     * @param code code of the record type
+     * @return the record type with the given code, or null if the code is unknown
+     */
+    public static JournalRecordType getTypeFromCode(int code) {
+        for (JournalRecordType type : JournalRecordType.values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
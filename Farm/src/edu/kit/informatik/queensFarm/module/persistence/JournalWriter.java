@@ -0,0 +1,323 @@
+package edu.kit.informatik.queensFarm.module.persistence;
+
+import edu.kit.informatik.queensFarm.module.game.VegetableSet;
+import edu.kit.informatik.queensFarm.module.game.VegetableType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class appends the records of one game to its command journal.
+ * Records are collected in memory and written by {@link #commit()}, which also forces them to the storage device.
+ * Commits are usually issued by a {@link GroupCommitter} for many journals at once, so the game thread never waits
+ * for the storage device.
+ * If a commit fails, its records are kept and the next commit cuts the file back to the end of the last successful
+ * commit and writes them again, so the journal never has a gap. The failure is sticky: every later record and
+ * {@link #close()} throw it to the game thread.
+ * Integers are stored as variable-length integers, signed integers in zigzag encoding.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class JournalWriter implements AutoCloseable {
+    /**
+     * The magic number at the beginning of each journal file.
+     */
+    public static final int MAGIC_NUMBER = 0x51464A4C;
+
+    /**
+     * The version of the journal format.
+     */
+    public static final byte FORMAT_VERSION = 1;
+
+    private static final int INITIAL_BUFFER_SIZE = 1 << 12;
+    private static final int HEADER_SIZE = Integer.BYTES + Byte.BYTES;
+    private static final int VARINT_PAYLOAD_MASK = 0x7F;
+    private static final int VARINT_CONTINUATION_BIT = 0x80;
+    private static final int VARINT_PAYLOAD_BITS = 7;
+    private final FileChannel channel;
+    private final GroupCommitter committer;
+    private final Object commitLock = new Object();
+    private byte[] pendingBytes;
+    private int pendingLength;
+    private byte[] committingBytes;
+    private int committingLength;
+    private long committedLength;
+    private IOException failure;
+
+    /**
+     * Opens a journal file for appending. A new or empty file gets the journal header first.
+     *
+     * @param file the journal file
+     * @param committer the committer that commits this journal regularly, or null to commit after every record
+     * @param validLength number of bytes at the start of the file that contain complete records. Everything behind
+     *                    it is the incomplete tail of a crash and is cut off. Zero for a new journal.
+     * @throws IOException if the file cannot be opened
+     */
+    public JournalWriter(Path file, GroupCommitter committer, long validLength) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        this.committer = committer;
+        this.pendingBytes = new byte[INITIAL_BUFFER_SIZE];
+        this.committingBytes = new byte[INITIAL_BUFFER_SIZE];
+        if (validLength < HEADER_SIZE) {
+            this.channel.truncate(0);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC_NUMBER).put(FORMAT_VERSION).flip();
+            this.channel.write(header);
+        } else {
+            this.channel.truncate(validLength);
+        }
+        this.committedLength = this.channel.size();
+        this.channel.position(this.committedLength);
+        if (committer != null) {
+            committer.register(this);
+        }
+    }
+
+    /**
+     * Records the set-up of the game.
+     *
+     * @param names names of the players in the order of the game
+     * @param startCapital start capital
+     * @param winningCapital winning capital
+     * @param seed seed used to shuffle the lands
+     */
+    public synchronized void writeSetUp(List<String> names, int startCapital, int winningCapital, long seed) {
+        writeType(JournalRecordType.SET_UP);
+        writeUnsigned(names.size());
+        for (String name : names) {
+            byte[] encodedName = name.getBytes(StandardCharsets.UTF_8);
+            writeUnsigned(encodedName.length);
+            for (byte value : encodedName) {
+                writeByte(value);
+            }
+        }
+        writeSigned(startCapital);
+        writeSigned(winningCapital);
+        writeSigned(seed);
+        recordWritten();
+    }
+
+    /**
+     * Records planting a vegetable.
+     *
+     * @param xCoordinate coordinate x of the land
+     * @param yCoordinate coordinate y of the land
+     * @param type type of the vegetable
+     */
+    public synchronized void writePlant(int xCoordinate, int yCoordinate, VegetableType type) {
+        writeType(JournalRecordType.PLANT);
+        writeSigned(xCoordinate);
+        writeSigned(yCoordinate);
+        writeUnsigned(type.ordinal());
+        recordWritten();
+    }
+
+    /**
+     * Records a harvest.
+     *
+     * @param xCoordinate coordinate x of the land
+     * @param yCoordinate coordinate y of the land
+     * @param amount amount harvested
+     */
+    public synchronized void writeHarvest(int xCoordinate, int yCoordinate, int amount) {
+        writeType(JournalRecordType.HARVEST);
+        writeSigned(xCoordinate);
+        writeSigned(yCoordinate);
+        writeSigned(amount);
+        recordWritten();
+    }
+
+    /**
+     * Records buying a land.
+     *
+     * @param xCoordinate coordinate x of the land
+     * @param yCoordinate coordinate y of the land
+     */
+    public synchronized void writeBuyLand(int xCoordinate, int yCoordinate) {
+        writeType(JournalRecordType.BUY_LAND);
+        writeSigned(xCoordinate);
+        writeSigned(yCoordinate);
+        recordWritten();
+    }
+
+    /**
+     * Records buying a vegetable.
+     *
+     * @param type type of the vegetable
+     */
+    public synchronized void writeBuyVegetable(VegetableType type) {
+        writeType(JournalRecordType.BUY_VEGETABLE);
+        writeUnsigned(type.ordinal());
+        recordWritten();
+    }
+
+    /**
+     * Records selling the given vegetables.
+     *
+     * @param vegetables vegetables sold
+     */
+    public synchronized void writeSellMultiple(List<VegetableSet> vegetables) {
+        writeType(JournalRecordType.SELL_MULTIPLE);
+        for (VegetableType type : VegetableType.values()) {
+            int amount = 0;
+            for (VegetableSet vegetableSet : vegetables) {
+                if (vegetableSet.getType() == type) {
+                    amount += vegetableSet.getAmount();
+                }
+            }
+            writeUnsigned(amount);
+        }
+        recordWritten();
+    }
+
+    /**
+     * Records an action without arguments.
+     *
+     * @param type type of the action
+     */
+    public synchronized void writeAction(JournalRecordType type) {
+        writeType(type);
+        recordWritten();
+    }
+
+    /**
+     * Writes all collected records to the file and forces them to the storage device.
+     * Records appended while a commit is in progress belong to the next commit. If the commit fails, the failure is
+     * stored for the game thread and the records stay collected, behind the ones of earlier failed commits.
+     */
+    public void commit() {
+        synchronized (this.commitLock) {
+            synchronized (this) {
+                if (this.pendingLength == 0 && this.committingLength == 0) {
+                    return;
+                }
+                if (this.committingLength == 0) {
+                    byte[] swap = this.committingBytes;
+                    this.committingBytes = this.pendingBytes;
+                    this.pendingBytes = swap;
+                } else {
+                    int length = this.committingLength + this.pendingLength;
+                    if (length > this.committingBytes.length) {
+                        this.committingBytes = Arrays.copyOf(this.committingBytes, Math.max(length,
+                                this.committingBytes.length * 2));
+                    }
+                    System.arraycopy(this.pendingBytes, 0, this.committingBytes, this.committingLength,
+                            this.pendingLength);
+                }
+                this.committingLength += this.pendingLength;
+                this.pendingLength = 0;
+            }
+            try {
+                if (this.channel.position() != this.committedLength) {
+                    this.channel.truncate(this.committedLength);
+                    this.channel.position(this.committedLength);
+                }
+                ByteBuffer buffer = ByteBuffer.wrap(this.committingBytes, 0, this.committingLength);
+                while (buffer.hasRemaining()) {
+                    this.channel.write(buffer);
+                }
+                this.channel.force(false);
+                this.committedLength += this.committingLength;
+                this.committingLength = 0;
+            } catch (IOException e) {
+                synchronized (this) {
+                    if (this.failure == null) {
+                        this.failure = e;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Commits the remaining records and closes the journal file.
+     *
+     * @throws UncheckedIOException if a commit has failed or the file cannot be closed
+     */
+    @Override
+    public void close() {
+        if (this.committer != null) {
+            this.committer.unregister(this);
+        }
+        commit();
+        try {
+            this.channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        synchronized (this) {
+            throwFailure();
+        }
+    }
+
+    /**
+     * Commits right away if there is no group committer.
+     */
+    private void recordWritten() {
+        if (this.committer == null) {
+            commit();
+            throwFailure();
+        }
+    }
+
+    /**
+     * Throws the failure of an earlier commit, if there was one.
+     */
+    private void throwFailure() {
+        if (this.failure != null) {
+            throw new UncheckedIOException(this.failure);
+        }
+    }
+
+    /**
+     * Writes the code of a record type. No record is started once a commit has failed.
+     *
+     * @param type the record type
+     */
+    private void writeType(JournalRecordType type) {
+        throwFailure();
+        writeByte(type.getCode());
+    }
+
+    /**
+     * Writes a signed integer in zigzag encoding.
+     *
+     * @param value the integer to write
+     */
+    private void writeSigned(long value) {
+        writeUnsigned((value << 1) ^ (value >> (Long.SIZE - 1)));
+    }
+
+    /**
+     * Writes an unsigned integer as variable-length integer with seven bits per byte.
+     *
+     * @param value the integer to write
+     */
+    private void writeUnsigned(long value) {
+        long remaining = value;
+        while ((remaining & ~VARINT_PAYLOAD_MASK) != 0) {
+            writeByte((byte) ((remaining & VARINT_PAYLOAD_MASK) | VARINT_CONTINUATION_BIT));
+            remaining >>>= VARINT_PAYLOAD_BITS;
+        }
+        writeByte((byte) remaining);
+    }
+
+    /**
+     * Appends a byte to the collected records.
+     *
+     * @param value the byte to append
+     */
+    private void writeByte(byte value) {
+        if (this.pendingLength == this.pendingBytes.length) {
+            this.pendingBytes = Arrays.copyOf(this.pendingBytes, this.pendingLength * 2);
+        }
+        this.pendingBytes[this.pendingLength++] = value;
+    }
+}
@@ -0,0 +1,24 @@
+package edu.kit.informatik.queensFarm.module.stats;
+
+/**
+ * This enum describes how a command ended.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public enum CommandOutcome {
+    /**
+     * The command was executed.
+     */
+    ACCEPTED,
+
+    /**
+     * The command was well-formed, but the game did not allow it, for example because of insufficient gold.
+     */
+    REJECTED,
+
+    /**
+     * The command could not be parsed, so an error message was printed.
+     */
+    ERROR
+}
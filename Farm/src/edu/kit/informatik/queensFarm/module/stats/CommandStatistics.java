@@ -0,0 +1,107 @@
+package edu.kit.informatik.queensFarm.module.stats;
+
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This class records the latency and the outcome of each command, with one histogram per command type.
+ * Recording is lock-free, so the statistics can be printed by any thread while commands are recorded.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class CommandStatistics {
+    private static final CommandType[] COMMAND_TYPES = CommandType.values();
+    private static final int NUMBER_OF_OUTCOMES = CommandOutcome.values().length;
+    private static final double MEDIAN = 0.5;
+    private static final double PERCENTILE_99 = 0.99;
+    private static final double PERCENTILE_999 = 0.999;
+    private static final double NANOSECONDS_PER_MICROSECOND = 1_000.0;
+    private static final double NANOSECONDS_PER_SECOND = 1_000_000_000.0;
+    private static final String TABLE_HEADER = String.format("%-14s %9s %9s %9s %10s %10s %10s", "Command",
+            "accepted", "rejected", "error", "p50 us", "p99 us", "p999 us");
+    private static final String TABLE_ROW = "%-14s %9d %9d %9d %10.1f %10.1f %10.1f";
+    private static final String MESSAGE_THROUGHPUT = "%d commands in %.1f seconds (%.1f commands per second).";
+    private final LatencyHistogram[] histograms;
+    /**
+     * The number of commands of each type with each outcome, indexed by the ordinal of the command type times the
+     * number of outcomes plus the ordinal of the outcome.
+     */
+    private final AtomicLongArray outcomeCounts;
+    private final long startTime;
+
+    /**
+     * Constructs empty statistics, whose throughput is measured from now on.
+     */
+    public CommandStatistics() {
+        this.histograms = new LatencyHistogram[COMMAND_TYPES.length];
+        for (int i = 0; i < COMMAND_TYPES.length; i++) {
+            this.histograms[i] = new LatencyHistogram();
+        }
+        this.outcomeCounts = new AtomicLongArray(COMMAND_TYPES.length * NUMBER_OF_OUTCOMES);
+        this.startTime = System.nanoTime();
+    }
+
+    /**
+     * Records a command.
+     *
+     * @param type the type of the command
+     * @param outcome how the command ended
+     * @param nanos the time the command took in nanoseconds
+     */
+    public void record(CommandType type, CommandOutcome outcome, long nanos) {
+        this.histograms[type.ordinal()].record(nanos);
+        this.outcomeCounts.incrementAndGet(type.ordinal() * NUMBER_OF_OUTCOMES + outcome.ordinal());
+    }
+
+    /**
+     * Gets the number of commands of a type with an outcome.
+     *
+     * @param type the type of the commands
+     * @param outcome the outcome of the commands
+     * @return the number of commands
+     */
+    public long getCount(CommandType type, CommandOutcome outcome) {
+        return this.outcomeCounts.get(type.ordinal() * NUMBER_OF_OUTCOMES + outcome.ordinal());
+    }
+
+    /**
+     * Formats the outcomes and the latency percentiles of each command type that was recorded, followed by the
+     * throughput since the statistics were constructed.
+     *
+     * @return the statistics in table format
+     */
+    public String showStatistics() {
+        StringJoiner table = new StringJoiner(System.lineSeparator());
+        table.add(TABLE_HEADER);
+        long numOfCommands = 0;
+        for (CommandType type : COMMAND_TYPES) {
+            long accepted = getCount(type, CommandOutcome.ACCEPTED);
+            long rejected = getCount(type, CommandOutcome.REJECTED);
+            long error = getCount(type, CommandOutcome.ERROR);
+            if (accepted + rejected + error == 0) {
+                continue;
+            }
+            numOfCommands += accepted + rejected + error;
+            long[] counts = this.histograms[type.ordinal()].snapshot();
+            table.add(String.format(TABLE_ROW, type.getName(), accepted, rejected, error,
+                    toMicroseconds(LatencyHistogram.getQuantile(counts, MEDIAN)),
+                    toMicroseconds(LatencyHistogram.getQuantile(counts, PERCENTILE_99)),
+                    toMicroseconds(LatencyHistogram.getQuantile(counts, PERCENTILE_999))));
+        }
+        double elapsedSeconds = (System.nanoTime() - this.startTime) / NANOSECONDS_PER_SECOND;
+        table.add(String.format(MESSAGE_THROUGHPUT, numOfCommands, elapsedSeconds,
+                numOfCommands / Math.max(elapsedSeconds, Double.MIN_NORMAL)));
+        return table.toString();
+    }
+
+    /**
+     * Converts nanoseconds to microseconds.
+     *
+     * @param nanos a duration in nanoseconds
+     * @return the duration in microseconds
+     */
+    private static double toMicroseconds(long nanos) {
+        return nanos / NANOSECONDS_PER_MICROSECOND;
+    }
+}
@@ -0,0 +1,69 @@
+package edu.kit.informatik.queensFarm.module.stats;
+
+/**
+ * This enum describes the types of commands whose latency is recorded.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public enum CommandType {
+    /**
+     * Command "plant x y vegetable".
+     */
+    PLANT("plant"),
+
+    /**
+     * Command "harvest x y amount".
+     */
+    HARVEST("harvest"),
+
+    /**
+     * Command "buy land x y".
+     */
+    BUY_LAND("buy land"),
+
+    /**
+     * Command "buy vegetable name".
+     */
+    BUY_VEGETABLE("buy vegetable"),
+
+    /**
+     * Commands "sell", "sell all" and "sell vegetables".
+     */
+    SELL("sell"),
+
+    /**
+     * Command "end turn".
+     */
+    END_TURN("end turn"),
+
+    /**
+     * Commands "show barn", "show board", "show market" and "show stats".
+     */
+    SHOW("show"),
+
+    /**
+     * Input that does not match any command.
+     */
+    UNKNOWN("unknown");
+
+    private final String name;
+
+    /**
+     * Constructs a command type.
+     *
+     * @param name name of the command type
+     */
+    CommandType(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the name of the command type.
+     *
+     * @return name of the command type
+     */
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,121 @@
+package edu.kit.informatik.queensFarm.module.stats;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This class describes a histogram of latencies with fixed buckets. Each power of two is split into eight buckets of
+ * equal width, so every recorded latency is known to within an eighth of its value, from one nanosecond up to
+ * about 18 minutes. Recording only increments one counter of an {@link AtomicLongArray}, so a histogram can be read
+ * by one thread while others record into it, without any lock.
+ * The buckets are only allocated when the first latency is recorded, because sessions keep a histogram per command
+ * type and most of them stay empty while a session waits for its player.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAXIMUM_EXPONENT = 39;
+    private static final long MAXIMUM_LATENCY = (1L << (MAXIMUM_EXPONENT + 1)) - 1;
+    private static final int NUMBER_OF_BUCKETS = (MAXIMUM_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+    private volatile AtomicLongArray buckets;
+
+    /**
+     * Records a latency. Negative latencies are recorded as zero, latencies above the range as the maximum.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(long nanos) {
+        AtomicLongArray currentBuckets = this.buckets;
+        if (currentBuckets == null) {
+            currentBuckets = allocateBuckets();
+        }
+        currentBuckets.incrementAndGet(getBucketIndex(Math.min(Math.max(nanos, 0), MAXIMUM_LATENCY)));
+    }
+
+    /**
+     * Allocates the buckets unless another thread has allocated them already.
+     *
+     * @return the buckets of the histogram
+     */
+    private synchronized AtomicLongArray allocateBuckets() {
+        if (this.buckets == null) {
+            this.buckets = new AtomicLongArray(NUMBER_OF_BUCKETS);
+        }
+        return this.buckets;
+    }
+
+    /**
+     * Copies the counters of all buckets. Latencies recorded while copying may or may not be included.
+     *
+     * @return the number of latencies in each bucket
+     */
+    public long[] snapshot() {
+        long[] counts = new long[NUMBER_OF_BUCKETS];
+        AtomicLongArray currentBuckets = this.buckets;
+        if (currentBuckets == null) {
+            return counts;
+        }
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            counts[i] = currentBuckets.get(i);
+        }
+        return counts;
+    }
+
+    /**
+     * Calculates a quantile of the latencies of a snapshot.
+     *
+     * @param counts the snapshot of the buckets
+     * @param quantile the quantile between 0 and 1, for example 0.99 for the 99th percentile
+     * @return the greatest latency of the bucket that contains the quantile in nanoseconds, or zero if the snapshot
+     *         is empty
+     */
+    public static long getQuantile(long[] counts, double quantile) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                return getBucketLowerBound(i + 1) - 1;
+            }
+        }
+        return MAXIMUM_LATENCY;
+    }
+
+    /**
+     * Gets the bucket of a latency. Latencies below eight nanoseconds have a bucket each, above that each power of
+     * two is split into eight buckets.
+     *
+     * @param nanos the latency in nanoseconds within the range of the histogram
+     * @return the index of the bucket
+     */
+    private static int getBucketIndex(long nanos) {
+        if (nanos < SUB_BUCKET_COUNT) {
+            return (int) nanos;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) ((nanos >>> shift) - SUB_BUCKET_COUNT);
+    }
+
+    /**
+     * Gets the smallest latency of a bucket.
+     *
+     * @param index the index of the bucket, which may be one past the last bucket
+     * @return the smallest latency of the bucket in nanoseconds
+     */
+    private static long getBucketLowerBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        return (long) (index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT) << shift;
+    }
+}
@@ -0,0 +1,174 @@
+package edu.kit.informatik.queensFarm.server;
+
+import edu.kit.informatik.queensFarm.module.Farm;
+import edu.kit.informatik.queensFarm.module.FarmUI;
+import edu.kit.informatik.queensFarm.module.input.LineSource;
+import edu.kit.informatik.queensFarm.module.input.StreamLineSource;
+import edu.kit.informatik.queensFarm.module.output.StreamOutputSink;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class describes a TCP server that runs the session of each client on a thread of its own, with the same
+ * blocking loop as the interactive session on the console. Since a session waits for its client most of the time,
+ * the sessions run on virtual threads if the runtime supports them, so a waiting session only holds its game and
+ * small buffers. On older runtimes, platform threads with a small stack are used instead.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class BlockingGameServer implements Closeable {
+    private static final int BACKLOG = 1024;
+    private static final int INPUT_BUFFER_SIZE = 512;
+    private static final int OUTPUT_BUFFER_SIZE = 2 << 10;
+    /**
+     * Maximum number of bytes of one line. A client that sends longer lines is disconnected.
+     */
+    private static final int MAXIMUM_LINE_LENGTH = 4 << 10;
+    private static final long PLATFORM_THREAD_STACK_SIZE = 256 << 10;
+    private static final String SESSION_THREAD_NAME = "session-";
+    private static final String METHOD_OF_VIRTUAL = "ofVirtual";
+    private static final String METHOD_FACTORY = "factory";
+    private static final String CLASS_THREAD_BUILDER = "java.lang.Thread$Builder";
+    private final ServerSocket serverSocket;
+    private final ThreadFactory threadFactory;
+    private final boolean isVirtual;
+    private final Set<Socket> openSockets = ConcurrentHashMap.newKeySet();
+    private final AtomicLong numOfCreatedThreads = new AtomicLong();
+
+    /**
+     * Constructs a server that listens on the given port of all local addresses.
+     *
+     * @param port the port, or 0 for a free port chosen by the system
+     * @throws IOException if the port cannot be bound
+     */
+    public BlockingGameServer(int port) throws IOException {
+        this.serverSocket = new ServerSocket();
+        try {
+            this.serverSocket.bind(new InetSocketAddress(port), BACKLOG);
+        } catch (IOException e) {
+            this.serverSocket.close();
+            throw e;
+        }
+        ThreadFactory virtualThreadFactory = createVirtualThreadFactory();
+        this.isVirtual = virtualThreadFactory != null;
+        this.threadFactory = this.isVirtual ? virtualThreadFactory : this::createPlatformThread;
+    }
+
+    /**
+     * Gets the port the server listens on.
+     *
+     * @return the port the server listens on
+     */
+    public int getPort() {
+        return this.serverSocket.getLocalPort();
+    }
+
+    /**
+     * Checks whether the sessions run on virtual threads.
+     *
+     * @return true if the sessions run on virtual threads, false if they run on platform threads
+     */
+    public boolean isVirtual() {
+        return this.isVirtual;
+    }
+
+    /**
+     * Gets the number of sessions whose client is still connected.
+     *
+     * @return the number of open sessions
+     */
+    public int getNumOfOpenSessions() {
+        return this.openSockets.size();
+    }
+
+    /**
+     * Accepts clients and starts their sessions until the server is closed.
+     *
+     * @throws IOException if the server fails
+     */
+    public void run() throws IOException {
+        while (!this.serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = this.serverSocket.accept();
+            } catch (SocketException e) {
+                if (this.serverSocket.isClosed()) {
+                    return;
+                }
+                throw e;
+            }
+            this.openSockets.add(socket);
+            this.threadFactory.newThread(() -> serve(socket)).start();
+        }
+    }
+
+    /**
+     * Closes the server and the connections of all sessions that are still open. It may be called from any thread.
+     *
+     * @throws IOException if the server cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        this.serverSocket.close();
+        for (Socket socket : this.openSockets) {
+            socket.close();
+        }
+    }
+
+    /**
+     * Runs the session of a client until the session is over or the client has disconnected.
+     *
+     * @param socket the connection of the client
+     */
+    private void serve(Socket socket) {
+        try (socket; LineSource input = new StreamLineSource(socket.getInputStream(), INPUT_BUFFER_SIZE,
+                MAXIMUM_LINE_LENGTH)) {
+            socket.setTcpNoDelay(true);
+            Farm farm = new Farm(new StreamOutputSink(socket.getOutputStream(), OUTPUT_BUFFER_SIZE));
+            new FarmUI(farm, input).interactive();
+        } catch (IOException | UncheckedIOException e) {
+            // the client has disconnected or has sent a line that is too long
+        } finally {
+            this.openSockets.remove(socket);
+        }
+    }
+
+    /**
+     * Creates a platform thread for a session. It does not keep the application alive.
+     *
+     * @param session the session to run
+     * @return the thread, which is not started yet
+     */
+    private Thread createPlatformThread(Runnable session) {
+        Thread thread = new Thread(null, session, SESSION_THREAD_NAME + this.numOfCreatedThreads.incrementAndGet(),
+                PLATFORM_THREAD_STACK_SIZE);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Creates a factory of virtual threads. The factory is looked up at runtime, so the server also runs on
+     * runtimes that have no virtual threads or only as preview.
+     *
+     * @return the factory of virtual threads, or null if the runtime does not support them
+     */
+    private static ThreadFactory createVirtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod(METHOD_OF_VIRTUAL).invoke(null);
+            return (ThreadFactory) Class.forName(CLASS_THREAD_BUILDER).getMethod(METHOD_FACTORY).invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package edu.kit.informatik.queensFarm.server;
+
+import edu.kit.informatik.queensFarm.module.Farm;
+import edu.kit.informatik.queensFarm.module.FarmUI;
+import edu.kit.informatik.queensFarm.module.input.ByteLine;
+import edu.kit.informatik.queensFarm.module.input.EmptyLineSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+
+/**
+ * This class describes the connection of one client to the game server. Each connection plays a session of its
+ * own: the received bytes are split into lines, which are handed to the session one at a time, and the output of
+ * the session is sent back once all received lines are handled.
+ * While output is waiting to be sent, no more input is read, so a client that does not read cannot make the
+ * server buffer an unlimited amount of output.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class ClientConnection {
+    /**
+     * Maximum number of bytes of one line. A client that sends longer lines is disconnected.
+     */
+    private static final int MAXIMUM_LINE_LENGTH = 4 << 10;
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final ConnectionOutputSink output;
+    private final FarmUI session;
+    private final ByteLine line;
+    private int lineLength;
+    private boolean isAfterCarriageReturn;
+    private boolean isInputEnded;
+
+    /**
+     * Constructs the connection of an accepted client and starts its session.
+     *
+     * @param channel the channel of the client, in non-blocking mode
+     * @param key the key the channel is registered with
+     */
+    public ClientConnection(SocketChannel channel, SelectionKey key) {
+        this.channel = channel;
+        this.key = key;
+        this.output = new ConnectionOutputSink();
+        this.session = new FarmUI(new Farm(this.output), EmptyLineSource.INSTANCE);
+        this.line = new ByteLine();
+        this.session.start();
+    }
+
+    /**
+     * Sends the output of the session that is not sent yet.
+     *
+     * @throws IOException if the connection fails
+     */
+    public void start() throws IOException {
+        sendOutput();
+    }
+
+    /**
+     * Reads the bytes the client has sent and handles all complete lines. At the end of the input, the last line
+     * is handled even without line break and the session is stopped.
+     *
+     * @param readBuffer the buffer to read into, which is shared by all connections
+     * @throws IOException if the connection fails
+     */
+    public void read(ByteBuffer readBuffer) throws IOException {
+        readBuffer.clear();
+        int numOfBytes = this.channel.read(readBuffer);
+        if (numOfBytes < 0) {
+            if (this.lineLength != 0) {
+                this.session.handleLine(this.line);
+            }
+            this.session.stop();
+            this.isInputEnded = true;
+        } else {
+            readBuffer.flip();
+            while (readBuffer.hasRemaining()) {
+                if (!handleByte(readBuffer.get())) {
+                    close();
+                    return;
+                }
+            }
+        }
+        sendOutput();
+    }
+
+    /**
+     * Continues to send the output of the session after the client was not able to receive all of it.
+     *
+     * @throws IOException if the connection fails
+     */
+    public void write() throws IOException {
+        sendOutput();
+    }
+
+    /**
+     * Closes the connection. The output that is not sent yet is dropped.
+     */
+    public void close() {
+        this.key.cancel();
+        try {
+            this.channel.close();
+        } catch (IOException e) {
+            // the connection is given up anyway
+        }
+    }
+
+    /**
+     * Handles one received byte. A line ends with a line feed, a carriage return or both of them.
+     *
+     * @param value the received byte
+     * @return true if the byte is handled, false if the line is too long
+     */
+    private boolean handleByte(byte value) {
+        if (value == LINE_FEED && this.isAfterCarriageReturn) {
+            this.isAfterCarriageReturn = false;
+            return true;
+        }
+        this.isAfterCarriageReturn = value == CARRIAGE_RETURN;
+        if (value == LINE_FEED || value == CARRIAGE_RETURN) {
+            this.session.handleLine(this.line);
+            this.line.clear();
+            this.lineLength = 0;
+            return true;
+        }
+        if (this.lineLength == MAXIMUM_LINE_LENGTH) {
+            return false;
+        }
+        this.line.append(value);
+        this.lineLength++;
+        return true;
+    }
+
+    /**
+     * Sends as much of the output as the client receives right now. If output remains, the connection waits until
+     * the client can receive again instead of reading. If the session is over and all output is sent, the
+     * connection is closed.
+     *
+     * @throws IOException if the connection fails
+     */
+    private void sendOutput() throws IOException {
+        this.output.flush();
+        if (!this.output.writeTo(this.channel)) {
+            this.key.interestOps(SelectionKey.OP_WRITE);
+        } else if (this.isInputEnded || this.session.isSessionOver()) {
+            close();
+        } else {
+            this.key.interestOps(SelectionKey.OP_READ);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(this.channel.socket().getRemoteSocketAddress());
+    }
+}
@@ -0,0 +1,131 @@
+package edu.kit.informatik.queensFarm.server;
+
+import edu.kit.informatik.queensFarm.module.output.OutputSink;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class describes the output sink of one connection of the game server. The text is encoded into a chain of
+ * fixed-size buffers, and all buffers are written to the connection at once with a gathering write.
+ * Written buffers are kept for reuse, so a connection that is written to regularly does not allocate any buffers.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class ConnectionOutputSink implements OutputSink {
+    private static final int CHUNK_SIZE = 8 << 10;
+    private static final int MAXIMUM_SPARE_CHUNKS = 2;
+    private static final int ASCII_LIMIT = 0x80;
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+    /**
+     * The buffers that are ready to be written, in the order of the text. They are flipped for reading.
+     */
+    private final List<ByteBuffer> readyChunks = new ArrayList<>();
+    private final List<ByteBuffer> spareChunks = new ArrayList<>();
+    private ByteBuffer[] gatheringArray = new ByteBuffer[1];
+    private ByteBuffer currentChunk;
+
+    @Override
+    public void println(String line) {
+        for (int i = 0; i < line.length(); i++) {
+            char character = line.charAt(i);
+            if (character >= ASCII_LIMIT) {
+                put(line.substring(i).getBytes(StandardCharsets.UTF_8));
+                break;
+            }
+            nextChunkWithSpace().put((byte) character);
+        }
+        put(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void println() {
+        put(LINE_SEPARATOR);
+    }
+
+    /**
+     * Marks the text written so far as ready to be written to the connection.
+     */
+    @Override
+    public void flush() {
+        if (this.currentChunk != null && this.currentChunk.position() > 0) {
+            this.currentChunk.flip();
+            this.readyChunks.add(this.currentChunk);
+            this.currentChunk = null;
+        }
+    }
+
+    /**
+     * Checks whether there is text that is ready to be written.
+     *
+     * @return true if there is text that is ready to be written, otherwise false
+     */
+    public boolean hasReadyOutput() {
+        return !this.readyChunks.isEmpty();
+    }
+
+    /**
+     * Writes as much of the ready text to the channel as it accepts without blocking.
+     *
+     * @param channel the channel of the connection
+     * @return true if all ready text is written, otherwise false
+     * @throws IOException if the connection fails
+     */
+    public boolean writeTo(GatheringByteChannel channel) throws IOException {
+        if (this.readyChunks.isEmpty()) {
+            return true;
+        }
+        if (this.gatheringArray.length < this.readyChunks.size()) {
+            this.gatheringArray = new ByteBuffer[this.readyChunks.size()];
+        }
+        ByteBuffer[] chunks = this.readyChunks.toArray(this.gatheringArray);
+        channel.write(chunks, 0, this.readyChunks.size());
+        int numOfWrittenChunks = 0;
+        while (numOfWrittenChunks < this.readyChunks.size() && !chunks[numOfWrittenChunks].hasRemaining()) {
+            ByteBuffer chunk = chunks[numOfWrittenChunks];
+            if (this.spareChunks.size() < MAXIMUM_SPARE_CHUNKS) {
+                chunk.clear();
+                this.spareChunks.add(chunk);
+            }
+            numOfWrittenChunks++;
+        }
+        this.readyChunks.subList(0, numOfWrittenChunks).clear();
+        return this.readyChunks.isEmpty();
+    }
+
+    /**
+     * Appends bytes to the text.
+     *
+     * @param bytes the bytes to append
+     */
+    private void put(byte[] bytes) {
+        int offset = 0;
+        while (offset < bytes.length) {
+            ByteBuffer chunk = nextChunkWithSpace();
+            int length = Math.min(chunk.remaining(), bytes.length - offset);
+            chunk.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    /**
+     * Gets the buffer the text is appended to. If it is full, it is marked as ready and a new one is started.
+     *
+     * @return a buffer with at least one byte of space
+     */
+    private ByteBuffer nextChunkWithSpace() {
+        if (this.currentChunk != null && !this.currentChunk.hasRemaining()) {
+            flush();
+        }
+        if (this.currentChunk == null) {
+            this.currentChunk = this.spareChunks.isEmpty() ? ByteBuffer.allocate(CHUNK_SIZE)
+                    : this.spareChunks.remove(this.spareChunks.size() - 1);
+        }
+        return this.currentChunk;
+    }
+}
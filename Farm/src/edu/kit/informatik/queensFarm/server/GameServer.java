@@ -0,0 +1,195 @@
+package edu.kit.informatik.queensFarm.server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+/**
+ * This class describes a TCP server on which many clients play the game at the same time, each in a session of its
+ * own with the same commands as the interactive session.
+ * All connections are served by a single thread with a selector, so the server needs neither a thread per client
+ * nor any locking: a game only changes while the line of its client is handled.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class GameServer implements Closeable {
+    private static final int BACKLOG = 1024;
+    private static final int READ_BUFFER_SIZE = 16 << 10;
+    private static final String MESSAGE_SESSION_FAILED = "Session of %s closed after an unexpected error: %s";
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    /**
+     * The buffer all connections read into. A connection handles all bytes it has read before the next one reads.
+     */
+    private final ByteBuffer readBuffer;
+    private volatile boolean isRunning;
+    private long numOfAcceptedConnections;
+
+    /**
+     * Constructs a server that listens on the given port of all local addresses.
+     *
+     * @param port the port, or 0 for a free port chosen by the system
+     * @throws IOException if the port cannot be bound
+     */
+    public GameServer(int port) throws IOException {
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        try {
+            this.serverChannel.configureBlocking(false);
+            this.serverChannel.bind(new InetSocketAddress(port), BACKLOG);
+            this.serverChannel.register(this.selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+        this.readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+        this.isRunning = true;
+    }
+
+    /**
+     * Gets the port the server listens on.
+     *
+     * @return the port the server listens on
+     */
+    public int getPort() {
+        return this.serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Gets the number of clients that have connected so far.
+     *
+     * @return the number of accepted connections
+     */
+    public long getNumOfAcceptedConnections() {
+        return this.numOfAcceptedConnections;
+    }
+
+    /**
+     * Serves the clients until the server is stopped.
+     *
+     * @throws IOException if the selector fails
+     */
+    public void run() throws IOException {
+        while (this.isRunning) {
+            this.selector.select(this::handleKey);
+        }
+    }
+
+    /**
+     * Stops the server. It may be called from any thread.
+     */
+    public void stop() {
+        this.isRunning = false;
+        this.selector.wakeup();
+    }
+
+    /**
+     * Closes the server and all connections that are still open.
+     *
+     * @throws IOException if the server cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.selector.isOpen()) {
+            for (SelectionKey key : this.selector.keys()) {
+                if (key.attachment() instanceof ClientConnection) {
+                    ((ClientConnection) key.attachment()).close();
+                }
+            }
+        }
+        try {
+            this.serverChannel.close();
+        } finally {
+            this.selector.close();
+        }
+    }
+
+    /**
+     * Handles a key that is ready. A connection whose client or game fails is closed without affecting the others.
+     *
+     * @param key the key that is ready
+     */
+    private void handleKey(SelectionKey key) {
+        if (key.isValid() && key.isAcceptable()) {
+            acceptConnections();
+            return;
+        }
+        ClientConnection connection = (ClientConnection) key.attachment();
+        try {
+            if (key.isValid() && key.isWritable()) {
+                connection.write();
+            } else if (key.isValid() && key.isReadable()) {
+                connection.read(this.readBuffer);
+            }
+        } catch (IOException e) {
+            connection.close();
+        } catch (RuntimeException e) {
+            closeFailedSession(connection, e);
+        }
+    }
+
+    /**
+     * Reports an unexpected error of the game of a connection and closes the connection.
+     *
+     * @param connection the connection whose game failed
+     * @param error the error
+     */
+    private static void closeFailedSession(ClientConnection connection, RuntimeException error) {
+        System.err.println(String.format(MESSAGE_SESSION_FAILED, connection, error));
+        connection.close();
+    }
+
+    /**
+     * Accepts all clients that are waiting and starts their sessions.
+     */
+    private void acceptConnections() {
+        while (true) {
+            SocketChannel channel = null;
+            try {
+                channel = this.serverChannel.accept();
+                if (channel == null) {
+                    return;
+                }
+                this.numOfAcceptedConnections++;
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                SelectionKey key = channel.register(this.selector, SelectionKey.OP_READ);
+                ClientConnection connection = new ClientConnection(channel, key);
+                key.attach(connection);
+                try {
+                    connection.start();
+                } catch (RuntimeException e) {
+                    closeFailedSession(connection, e);
+                }
+            } catch (IOException e) {
+                closeQuietly(channel);
+                if (channel == null) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Closes a channel of a client that could not be set up.
+     *
+     * @param channel the channel, or null if no client was accepted
+     */
+    private static void closeQuietly(SocketChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // the client is given up anyway
+        }
+    }
+}
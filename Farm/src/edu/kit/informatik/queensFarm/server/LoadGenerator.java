@@ -0,0 +1,156 @@
+package edu.kit.informatik.queensFarm.server;
+
+import edu.kit.informatik.queensFarm.simulation.CommandSource;
+import edu.kit.informatik.queensFarm.simulation.RandomCommandSource;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+
+/**
+ * This class describes a load generator for the game server. It connects many clients at the same time, each of
+ * which plays a one-player game with random commands, quits and reads the output until the server closes the
+ * connection. All clients are driven by a single thread with a selector, like the server itself.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class LoadGenerator {
+    private static final String NUMBER_OF_PLAYERS = "1";
+    private static final String PLAYER_NAME = "Player";
+    private static final String COMMAND_QUIT = "quit";
+    private static final int START_CAPITAL = 20;
+    private static final int WINNING_CAPITAL = 1000;
+    private static final int READ_BUFFER_SIZE = 16 << 10;
+    private final InetSocketAddress address;
+    private final int numOfClients;
+    private final int commandsPerClient;
+    private final long seed;
+    private int numOfOpenClients;
+    private long numOfBytesReceived;
+    private int numOfCompletedSessions;
+
+    /**
+     * Constructs a load generator.
+     *
+     * @param address the address of the game server
+     * @param numOfClients number of clients that connect at the same time
+     * @param commandsPerClient number of random commands each client sends before it quits
+     * @param seed seed of the first client. The following clients use the following seeds
+     */
+    public LoadGenerator(InetSocketAddress address, int numOfClients, int commandsPerClient, long seed) {
+        this.address = address;
+        this.numOfClients = numOfClients;
+        this.commandsPerClient = commandsPerClient;
+        this.seed = seed;
+    }
+
+    /**
+     * Connects all clients and drives them until the server has closed all connections. A client whose connection
+     * fails is closed and does not count as completed.
+     *
+     * @throws IOException if a client cannot be opened
+     */
+    public void run() throws IOException {
+        try (Selector selector = Selector.open()) {
+            for (int i = 0; i < this.numOfClients; i++) {
+                SocketChannel channel = SocketChannel.open();
+                channel.configureBlocking(false);
+                // a connection on the loopback interface may be established right away
+                int interestOps = channel.connect(this.address) ? SelectionKey.OP_READ | SelectionKey.OP_WRITE
+                        : SelectionKey.OP_CONNECT;
+                channel.register(selector, interestOps, createScript(this.seed + i));
+                this.numOfOpenClients++;
+            }
+            ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+            // closed clients stay in the key set until the next selection, so the open clients are counted instead
+            while (this.numOfOpenClients > 0) {
+                selector.select();
+                for (SelectionKey key : selector.selectedKeys()) {
+                    try {
+                        handleKey(key, readBuffer);
+                    } catch (IOException e) {
+                        key.channel().close();
+                        this.numOfOpenClients--;
+                    }
+                }
+                selector.selectedKeys().clear();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of bytes that all clients have received.
+     *
+     * @return the number of received bytes
+     */
+    public long getNumOfBytesReceived() {
+        return this.numOfBytesReceived;
+    }
+
+    /**
+     * Gets the number of clients whose connection the server has closed after their session.
+     *
+     * @return the number of completed sessions
+     */
+    public int getNumOfCompletedSessions() {
+        return this.numOfCompletedSessions;
+    }
+
+    /**
+     * Connects, writes or reads for a client, depending on what its channel is ready for.
+     *
+     * @param key the key of the client
+     * @param readBuffer the buffer to read into, which is shared by all clients
+     * @throws IOException if the connection fails
+     */
+    private void handleKey(SelectionKey key, ByteBuffer readBuffer) throws IOException {
+        SocketChannel channel = (SocketChannel) key.channel();
+        ByteBuffer script = (ByteBuffer) key.attachment();
+        if (key.isConnectable()) {
+            channel.finishConnect();
+            key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+            return;
+        }
+        if (key.isWritable()) {
+            channel.write(script);
+            if (!script.hasRemaining()) {
+                key.interestOps(SelectionKey.OP_READ);
+            }
+        }
+        if (key.isReadable()) {
+            readBuffer.clear();
+            int numOfBytes = channel.read(readBuffer);
+            if (numOfBytes < 0) {
+                this.numOfCompletedSessions++;
+                this.numOfOpenClients--;
+                channel.close();
+            } else {
+                this.numOfBytesReceived += numOfBytes;
+            }
+        }
+    }
+
+    /**
+     * Creates the lines a client sends: the answers of the set-up stage, the random commands and "quit".
+     *
+     * @param clientSeed the seed of the game and of the commands of the client
+     * @return the lines as bytes, ready to be written
+     */
+    private ByteBuffer createScript(long clientSeed) {
+        StringJoiner script = new StringJoiner(System.lineSeparator(), "", System.lineSeparator());
+        script.add(NUMBER_OF_PLAYERS).add(PLAYER_NAME).add(String.valueOf(START_CAPITAL))
+                .add(String.valueOf(WINNING_CAPITAL)).add(String.valueOf((int) clientSeed));
+        CommandSource commands = new RandomCommandSource(clientSeed);
+        for (int i = 0; i < this.commandsPerClient; i++) {
+            script.add(commands.nextCommand());
+        }
+        script.add(COMMAND_QUIT);
+        return ByteBuffer.wrap(script.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,74 @@
+package edu.kit.informatik.queensFarm.simulation;
+
+import java.util.List;
+
+/**
+ * This class describes the results of a batch of headless games.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class BatchResult {
+    private static final double NANOSECONDS_PER_SECOND = 1_000_000_000.0;
+    private static final String MESSAGE_SUMMARY = "Simulated %d games with %d commands in %.3f seconds "
+            + "(%.1f games per second).";
+    private final List<SimulationResult> results;
+    private final long elapsedNanos;
+
+    /**
+     * Constructs a batch result.
+     *
+     * @param results results of the games
+     * @param elapsedNanos elapsed wall time of the whole batch in nanoseconds
+     */
+    public BatchResult(List<SimulationResult> results, long elapsedNanos) {
+        this.results = List.copyOf(results);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets the results of the games.
+     *
+     * @return results of the games
+     */
+    public List<SimulationResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Gets the elapsed wall time of the whole batch.
+     *
+     * @return elapsed wall time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Calculates the number of games finished per second.
+     *
+     * @return number of games finished per second
+     */
+    public double getGamesPerSecond() {
+        return this.results.size() / Math.max(this.elapsedNanos / NANOSECONDS_PER_SECOND, Double.MIN_NORMAL);
+    }
+
+    /**
+     * Calculates the total number of commands executed in all games.
+     *
+     * @return total number of commands
+     */
+    public long getTotalCommands() {
+        long sum = 0;
+        for (SimulationResult result : this.results) {
+            sum += result.getCommandsExecuted();
+        }
+        return sum;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(MESSAGE_SUMMARY, this.results.size(), getTotalCommands(),
+                this.elapsedNanos / NANOSECONDS_PER_SECOND, getGamesPerSecond());
+    }
+}
@@ -0,0 +1,64 @@
+package edu.kit.informatik.queensFarm.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * This class runs many independent headless games in parallel on a fork-join pool.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class BatchSimulator {
+    private final int parallelism;
+
+    /**
+     * Constructs a batch simulator that uses all available processors.
+     */
+    public BatchSimulator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a batch simulator.
+     *
+     * @param parallelism number of games that run at the same time
+     */
+    public BatchSimulator(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Runs one game per config and waits until all games are finished.
+     *
+     * @param configs set-ups of the games
+     * @param sourceFactory creates the command source of a game from its config
+     * @return the results of the games in the order of the configs, together with the elapsed time
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     * @throws ExecutionException if a game fails with an unexpected exception
+     */
+    public BatchResult run(List<SimulationConfig> configs, Function<SimulationConfig, CommandSource> sourceFactory)
+            throws InterruptedException, ExecutionException {
+        List<Callable<SimulationResult>> games = new ArrayList<>();
+        for (SimulationConfig config : configs) {
+            games.add(() -> new GameSimulation(config, sourceFactory.apply(config)).run());
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+        try {
+            long startTime = System.nanoTime();
+            List<SimulationResult> results = new ArrayList<>();
+            for (Future<SimulationResult> future : pool.invokeAll(games)) {
+                results.add(future.get());
+            }
+            return new BatchResult(results, System.nanoTime() - startTime);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
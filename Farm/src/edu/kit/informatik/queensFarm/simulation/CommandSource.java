@@ -0,0 +1,17 @@
+package edu.kit.informatik.queensFarm.simulation;
+
+/**
+ * This interface describes a source of text commands that drives a headless game.
+ * The commands have the same format as the commands typed in the interactive session.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public interface CommandSource {
+    /**
+     * Gets the next command.
+     *
+     * @return the next command, or null if there are no more commands
+     */
+    String nextCommand();
+}
@@ -0,0 +1,155 @@
+package edu.kit.informatik.queensFarm.simulation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * This class keeps Elo ratings of the entrants of a tournament. A game with more than two players is scored as all
+ * pairs of its players: a winner scores 1 against a player that has not won and ties with every other winner.
+ * The rating changes of all pairs of a game are applied at the same time, so the seat order does not matter.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class EloRatings {
+    private static final double INITIAL_RATING = 1500;
+    /**
+     * Maximum rating change of a two player game. In larger games it is shared among the opponents.
+     */
+    private static final double K_FACTOR = 16;
+    private static final double RATING_SCALE = 400;
+    private static final String REGEX_REPORT_HEADER = "%4s  %-12s %7s %7s %7s %8s %10s";
+    private static final String REGEX_REPORT_LINE = "%4d  %-12s %7.1f %7d %7d %7.1f%% %10.1f";
+    private static final String[] REPORT_HEADER = {"Rank", "Strategy", "Rating", "Games", "Wins", "Win rate",
+        "Avg gold"};
+    private final List<String> names;
+    private final double[] ratings;
+    private final int[] numOfGames;
+    private final int[] numOfWins;
+    private final long[] totalGold;
+
+    /**
+     * Constructs the ratings of the given entrants, which all start with the same rating.
+     *
+     * @param names names of the entrants
+     */
+    public EloRatings(List<String> names) {
+        this.names = new ArrayList<>(names);
+        this.ratings = new double[names.size()];
+        this.numOfGames = new int[names.size()];
+        this.numOfWins = new int[names.size()];
+        this.totalGold = new long[names.size()];
+        Arrays.fill(this.ratings, INITIAL_RATING);
+    }
+
+    /**
+     * Updates the ratings and the statistics of the entrants of a game.
+     *
+     * @param game the outcome of the game
+     */
+    public void update(GameRecord game) {
+        int numOfSeats = game.getNumOfSeats();
+        double k = K_FACTOR / Math.max(1, numOfSeats - 1);
+        double[] changes = new double[numOfSeats];
+        for (int first = 0; first < numOfSeats; first++) {
+            for (int second = first + 1; second < numOfSeats; second++) {
+                double expected = expectedScore(this.ratings[game.getEntrant(first)],
+                        this.ratings[game.getEntrant(second)]);
+                double change = k * (score(game, first, second) - expected);
+                changes[first] += change;
+                changes[second] -= change;
+            }
+        }
+        for (int seat = 0; seat < numOfSeats; seat++) {
+            int entrant = game.getEntrant(seat);
+            this.ratings[entrant] += changes[seat];
+            this.numOfGames[entrant]++;
+            this.totalGold[entrant] += game.getFinalGold(seat);
+            if (game.isWinner(seat)) {
+                this.numOfWins[entrant]++;
+            }
+        }
+    }
+
+    /**
+     * Gets the expected score of a player against an opponent.
+     *
+     * @param rating rating of the player
+     * @param opponentRating rating of the opponent
+     * @return the expected score between 0 and 1
+     */
+    private static double expectedScore(double rating, double opponentRating) {
+        return 1 / (1 + Math.pow(10, (opponentRating - rating) / RATING_SCALE));
+    }
+
+    /**
+     * Gets the score of the player on the first seat against the player on the second seat.
+     *
+     * @param game the outcome of the game
+     * @param first the first seat
+     * @param second the second seat
+     * @return 1 for a win, 0 for a loss and 0.5 for a tie
+     */
+    private static double score(GameRecord game, int first, int second) {
+        if (game.isWinner(first) == game.isWinner(second)) {
+            return 0.5;
+        }
+        return game.isWinner(first) ? 1 : 0;
+    }
+
+    /**
+     * Gets the rating of an entrant.
+     *
+     * @param entrant index of the entrant
+     * @return the current rating
+     */
+    public double getRating(int entrant) {
+        return this.ratings[entrant];
+    }
+
+    /**
+     * Gets the name of an entrant.
+     *
+     * @param entrant index of the entrant
+     * @return the name of the entrant
+     */
+    public String getName(int entrant) {
+        return this.names.get(entrant);
+    }
+
+    /**
+     * Gets the entrants ordered by rating, the best first.
+     *
+     * @return the indices of the entrants
+     */
+    public List<Integer> getRanking() {
+        List<Integer> ranking = new ArrayList<>();
+        for (int i = 0; i < this.names.size(); i++) {
+            ranking.add(i);
+        }
+        ranking.sort(Comparator.comparingDouble((Integer entrant) -> this.ratings[entrant]).reversed());
+        return ranking;
+    }
+
+    /**
+     * Gets the table of all entrants ordered by rating.
+     *
+     * @return the lines of the table, starting with the header
+     */
+    public List<String> report() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(REGEX_REPORT_HEADER, (Object[]) REPORT_HEADER));
+        int rank = 1;
+        for (int entrant : getRanking()) {
+            int games = this.numOfGames[entrant];
+            double winRate = games == 0 ? 0 : 100.0 * this.numOfWins[entrant] / games;
+            double averageGold = games == 0 ? 0 : (double) this.totalGold[entrant] / games;
+            lines.add(String.format(REGEX_REPORT_LINE, rank, this.names.get(entrant), this.ratings[entrant], games,
+                    this.numOfWins[entrant], winRate, averageGold));
+            rank++;
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,94 @@
+package edu.kit.informatik.queensFarm.simulation;
+
+import java.util.List;
+
+/**
+ * This class describes the outcome of one game of a bot tournament, seat by seat.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class GameRecord {
+    private final long seed;
+    private final int[] entrants;
+    private final int[] finalGold;
+    private final boolean[] isWinner;
+    private final int numOfTurnsPlayed;
+
+    /**
+     * Constructs a game record.
+     *
+     * @param seed seed used to shuffle the lands
+     * @param entrants the index of the entrant on each seat
+     * @param finalGold gold of the player on each seat at the end of the game
+     * @param winnerIds ids of the winners, which are their seat numbers starting with 1
+     * @param numOfTurnsPlayed number of turns played
+     */
+    public GameRecord(long seed, int[] entrants, int[] finalGold, List<Integer> winnerIds, int numOfTurnsPlayed) {
+        this.seed = seed;
+        this.entrants = entrants.clone();
+        this.finalGold = finalGold.clone();
+        this.isWinner = new boolean[entrants.length];
+        for (int winnerId : winnerIds) {
+            this.isWinner[winnerId - 1] = true;
+        }
+        this.numOfTurnsPlayed = numOfTurnsPlayed;
+    }
+
+    /**
+     * Gets the seed used to shuffle the lands.
+     *
+     * @return seed of the game
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the number of seats of the game.
+     *
+     * @return number of seats
+     */
+    public int getNumOfSeats() {
+        return this.entrants.length;
+    }
+
+    /**
+     * Gets the entrant on a seat.
+     *
+     * @param seat index of the seat, starting with 0
+     * @return the index of the entrant on the seat
+     */
+    public int getEntrant(int seat) {
+        return this.entrants[seat];
+    }
+
+    /**
+     * Gets the gold of the player on a seat at the end of the game.
+     *
+     * @param seat index of the seat, starting with 0
+     * @return final gold of the player on the seat
+     */
+    public int getFinalGold(int seat) {
+        return this.finalGold[seat];
+    }
+
+    /**
+     * Checks whether the player on a seat is one of the winners.
+     *
+     * @param seat index of the seat, starting with 0
+     * @return true if the player on the seat has won, otherwise false
+     */
+    public boolean isWinner(int seat) {
+        return this.isWinner[seat];
+    }
+
+    /**
+     * Gets the number of turns played.
+     *
+     * @return number of turns played
+     */
+    public int getNumOfTurnsPlayed() {
+        return numOfTurnsPlayed;
+    }
+}
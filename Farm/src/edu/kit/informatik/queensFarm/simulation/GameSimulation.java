@@ -0,0 +1,109 @@
+package edu.kit.informatik.queensFarm.simulation;
+
+import edu.kit.informatik.queensFarm.module.Farm;
+import edu.kit.informatik.queensFarm.module.FarmException;
+import edu.kit.informatik.queensFarm.module.FarmUI;
+import edu.kit.informatik.queensFarm.module.game.GameOver;
+import edu.kit.informatik.queensFarm.module.game.Player;
+import edu.kit.informatik.queensFarm.module.output.DiscardingOutputSink;
+import edu.kit.informatik.queensFarm.module.output.OutputSink;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class runs one game without user interaction. The game is set up from a config and driven by
+ * a command source until the game is over, the commands run out or the maximum number of commands is reached.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class GameSimulation {
+    private final SimulationConfig config;
+    private final CommandSource commandSource;
+    private final OutputSink output;
+
+    /**
+     * Constructs a game simulation whose output is discarded.
+     *
+     * @param config set-up of the game
+     * @param commandSource source of the commands that drive the game
+     */
+    public GameSimulation(SimulationConfig config, CommandSource commandSource) {
+        this(config, commandSource, DiscardingOutputSink.INSTANCE);
+    }
+
+    /**
+     * Constructs a game simulation.
+     *
+     * @param config set-up of the game
+     * @param commandSource source of the commands that drive the game
+     * @param output the sink that the output of the game is written to
+     */
+    public GameSimulation(SimulationConfig config, CommandSource commandSource, OutputSink output) {
+        this.config = config;
+        this.commandSource = commandSource;
+        this.output = output;
+    }
+
+    /**
+     * Runs the game to completion. If the game is not over after the last command, it is ended like by command "quit".
+     *
+     * @return the outcome of the game
+     */
+    public SimulationResult run() {
+        Farm farm = new Farm(this.output);
+        List<Player> players = new ArrayList<>();
+        List<String> names = this.config.createPlayerNames();
+        for (int i = 0; i < names.size(); i++) {
+            players.add(new Player(names.get(i), i + 1, this.output));
+        }
+        farm.initiateGame(players, this.config.getStartCapital(), this.config.getWinningCapital(),
+                this.config.getNumOfPlayers(), this.config.getSeed());
+        farm.printTurnWithName();
+
+        FarmUI farmUI = new FarmUI(farm);
+        int commandsExecuted = 0;
+        while (!farm.isGameOver() && commandsExecuted < this.config.getMaximumCommands()) {
+            String command = this.commandSource.nextCommand();
+            if (command == null) {
+                break;
+            }
+            try {
+                farmUI.parseInput(command);
+            } catch (FarmException e) {
+                // Invalid generated commands are rejected by the game like invalid user input.
+            }
+            commandsExecuted++;
+        }
+        if (!farm.isGameOver()) {
+            farm.endGameByQuit();
+        }
+        this.output.flush();
+        return createResult(players, commandsExecuted);
+    }
+
+    /**
+     * Creates the result of the finished game.
+     *
+     * @param players players of the game
+     * @param commandsExecuted number of commands executed
+     * @return the result of the finished game
+     */
+    public SimulationResult createResult(List<Player> players, int commandsExecuted) {
+        int[] finalGold = new int[players.size()];
+        for (int i = 0; i < players.size(); i++) {
+            finalGold[i] = players.get(i).getTotalGold();
+        }
+        GameOver gameOver = new GameOver(players, this.config.getWinningCapital(), this.output);
+        List<Player> winners = gameOver.checkWinnerByWinningCapital();
+        if (winners.isEmpty()) {
+            winners = gameOver.checkWinnerByMaximumGold();
+        }
+        List<Integer> winnerIds = new ArrayList<>();
+        for (Player winner : winners) {
+            winnerIds.add(winner.getId());
+        }
+        return new SimulationResult(this.config.getSeed(), commandsExecuted, finalGold, winnerIds);
+    }
+}
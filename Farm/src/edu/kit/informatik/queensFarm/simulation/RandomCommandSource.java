@@ -0,0 +1,78 @@
+package edu.kit.informatik.queensFarm.simulation;
+
+import edu.kit.informatik.queensFarm.module.game.GameRandom;
+import edu.kit.informatik.queensFarm.module.game.VegetableType;
+
+/**
+ * This class describes a command source that generates random game commands.
+ * The same seed always generates the same sequence of commands.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class RandomCommandSource implements CommandSource {
+    private static final String COMMAND_PLANT = "plant %d %d %s";
+    private static final String COMMAND_HARVEST = "harvest %d %d %d";
+    private static final String COMMAND_BUY_LAND = "buy land %d %d";
+    private static final String COMMAND_BUY_VEGETABLE = "buy vegetable %s";
+    private static final String COMMAND_SELL_ALL = "sell all";
+    private static final String COMMAND_SELL = "sell %s";
+    private static final String COMMAND_END_TURN = "end turn";
+    private static final int NUMBER_OF_COMMAND_TYPES = 7;
+    private static final int MAXIMUM_DISTANCE_X = 3;
+    private static final int MAXIMUM_DISTANCE_Y = 3;
+    private static final int MAXIMUM_AMOUNT_TO_HARVEST = 8;
+    private static final VegetableType[] VEGETABLE_TYPES = VegetableType.values();
+    private final GameRandom random;
+
+    /**
+     * Constructs a random command source.
+     *
+     * @param seed seed of the generated command sequence
+     */
+    public RandomCommandSource(long seed) {
+        this(new GameRandom(seed));
+    }
+
+    /**
+     * Constructs a random command source that draws from the given stream, for example the child stream of a worker.
+     *
+     * @param random the random stream of the generated command sequence
+     */
+    public RandomCommandSource(GameRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public String nextCommand() {
+        switch (this.random.nextInt(NUMBER_OF_COMMAND_TYPES)) {
+            case 0:
+                return String.format(COMMAND_PLANT, nextX(), nextY(), nextVegetableName());
+            case 1:
+                return String.format(COMMAND_HARVEST, nextX(), nextY(),
+                        1 + this.random.nextInt(MAXIMUM_AMOUNT_TO_HARVEST));
+            case 2:
+                return String.format(COMMAND_BUY_LAND, nextX(), nextY());
+            case 3:
+                return String.format(COMMAND_BUY_VEGETABLE, nextVegetableName());
+            case 4:
+                return COMMAND_SELL_ALL;
+            case 5:
+                return String.format(COMMAND_SELL, nextVegetableName());
+            default:
+                return COMMAND_END_TURN;
+        }
+    }
+
+    private int nextX() {
+        return this.random.nextInt(2 * MAXIMUM_DISTANCE_X + 1) - MAXIMUM_DISTANCE_X;
+    }
+
+    private int nextY() {
+        return this.random.nextInt(MAXIMUM_DISTANCE_Y + 1);
+    }
+
+    private String nextVegetableName() {
+        return VEGETABLE_TYPES[this.random.nextInt(VEGETABLE_TYPES.length)].getName();
+    }
+}
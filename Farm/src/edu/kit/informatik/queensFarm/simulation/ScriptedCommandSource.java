@@ -0,0 +1,32 @@
+package edu.kit.informatik.queensFarm.simulation;
+
+import java.util.List;
+
+/**
+ * This class describes a command source that replays a fixed list of commands.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class ScriptedCommandSource implements CommandSource {
+    private final List<String> commands;
+    private int nextIndex;
+
+    /**
+     * Constructs a scripted command source.
+     *
+     * @param commands commands to replay in the given order
+     */
+    public ScriptedCommandSource(List<String> commands) {
+        this.commands = List.copyOf(commands);
+        this.nextIndex = 0;
+    }
+
+    @Override
+    public String nextCommand() {
+        if (this.nextIndex == this.commands.size()) {
+            return null;
+        }
+        return this.commands.get(this.nextIndex++);
+    }
+}
@@ -0,0 +1,113 @@
+package edu.kit.informatik.queensFarm.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class describes the set-up of one headless game, which replaces the answers of the interactive set-up stage.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class SimulationConfig {
+    private static final String PLAYER_NAME_PREFIX = "Player";
+    private static final char FIRST_NAME_SUFFIX = 'A';
+    private static final int NUMBER_OF_NAME_SUFFIXES = 26;
+    private final int numOfPlayers;
+    private final int startCapital;
+    private final int winningCapital;
+    private final long seed;
+    private final int maximumCommands;
+
+    /**
+     * Constructs a simulation config.
+     *
+     * @param numOfPlayers number of players
+     * @param startCapital start capital of each player
+     * @param winningCapital winning capital
+     * @param seed seed used to shuffle the lands
+     * @param maximumCommands maximum number of commands before the game is ended like by command "quit"
+     */
+    public SimulationConfig(int numOfPlayers, int startCapital, int winningCapital, long seed, int maximumCommands) {
+        this.numOfPlayers = numOfPlayers;
+        this.startCapital = startCapital;
+        this.winningCapital = winningCapital;
+        this.seed = seed;
+        this.maximumCommands = maximumCommands;
+    }
+
+    /**
+     * Creates a copy of this config with another seed.
+     *
+     * @param newSeed the seed of the copy
+     * @return a copy of this config with the given seed
+     */
+    public SimulationConfig withSeed(long newSeed) {
+        return new SimulationConfig(this.numOfPlayers, this.startCapital, this.winningCapital, newSeed,
+                this.maximumCommands);
+    }
+
+    /**
+     * Creates the names of the players. Names only consist of letters, like the names accepted by the set-up stage.
+     *
+     * @return names of the players
+     */
+    public List<String> createPlayerNames() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < this.numOfPlayers; i++) {
+            StringBuilder name = new StringBuilder(PLAYER_NAME_PREFIX);
+            int index = i;
+            do {
+                name.append((char) (FIRST_NAME_SUFFIX + index % NUMBER_OF_NAME_SUFFIXES));
+                index /= NUMBER_OF_NAME_SUFFIXES;
+            } while (index > 0);
+            names.add(name.toString());
+        }
+        return names;
+    }
+
+    /**
+     * Gets the number of players.
+     *
+     * @return number of players
+     */
+    public int getNumOfPlayers() {
+        return numOfPlayers;
+    }
+
+    /**
+     * Gets the start capital.
+     *
+     * @return start capital
+     */
+    public int getStartCapital() {
+        return startCapital;
+    }
+
+    /**
+     * Gets the winning capital.
+     *
+     * @return winning capital
+     */
+    public int getWinningCapital() {
+        return winningCapital;
+    }
+
+    /**
+     * Gets the seed.
+     *
+     * @return seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the maximum number of commands.
+     *
+     * @return maximum number of commands
+     */
+    public int getMaximumCommands() {
+        return maximumCommands;
+    }
+}
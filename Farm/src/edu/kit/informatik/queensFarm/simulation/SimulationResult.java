@@ -0,0 +1,68 @@
+package edu.kit.informatik.queensFarm.simulation;
+
+import java.util.List;
+
+/**
+ * This class describes the outcome of one headless game.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class SimulationResult {
+    private final long seed;
+    private final int commandsExecuted;
+    private final int[] finalGold;
+    private final List<Integer> winnerIds;
+
+    /**
+     * Constructs a simulation result.
+     *
+     * @param seed seed of the game
+     * @param commandsExecuted number of commands executed until the game was over
+     * @param finalGold amount of gold of each player at the end of the game, ordered by player
+     * @param winnerIds ids of the winners
+     */
+    public SimulationResult(long seed, int commandsExecuted, int[] finalGold, List<Integer> winnerIds) {
+        this.seed = seed;
+        this.commandsExecuted = commandsExecuted;
+        this.finalGold = finalGold.clone();
+        this.winnerIds = List.copyOf(winnerIds);
+    }
+
+    /**
+     * Gets the seed of the game.
+     *
+     * @return seed of the game
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the number of commands executed.
+     *
+     * @return number of commands executed
+     */
+    public int getCommandsExecuted() {
+        return commandsExecuted;
+    }
+
+    /**
+     * Gets the amount of gold of a player at the end of the game.
+     *
+     * @param playerIndex index of the player in the order of the game
+     * @return amount of gold of the player
+     */
+    public int getFinalGold(int playerIndex) {
+        return this.finalGold[playerIndex];
+    }
+
+    /**
+     * Gets the ids of the winners.
+     *
+     * @return ids of the winners
+     */
+    public List<Integer> getWinnerIds() {
+        return winnerIds;
+    }
+}
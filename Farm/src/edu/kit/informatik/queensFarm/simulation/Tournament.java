@@ -0,0 +1,140 @@
+package edu.kit.informatik.queensFarm.simulation;
+
+import edu.kit.informatik.queensFarm.module.bot.StrategyType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * This class runs a round-robin tournament of bots on a fork-join pool. Every group of entrants plays every seed in
+ * every rotation of its seats, so no entrant profits from its seat or from a lucky land deck.
+ * The games run in parallel, but their outcomes are rated in the order of the schedule, so the ratings do not
+ * depend on which game finishes first. Bots search within a time budget, so the outcomes themselves may vary.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class Tournament {
+    private final List<StrategyType> entrants;
+    private final TournamentConfig config;
+    private final int parallelism;
+    private final EloRatings ratings;
+
+    /**
+     * Constructs a tournament.
+     *
+     * @param entrants strategy types of the entrants. The same type may enter more than once
+     * @param config set-up of the tournament
+     * @param parallelism number of games that run at the same time
+     */
+    public Tournament(List<StrategyType> entrants, TournamentConfig config, int parallelism) {
+        this.entrants = new ArrayList<>(entrants);
+        this.config = config;
+        this.parallelism = parallelism;
+        this.ratings = new EloRatings(createEntrantNames(entrants));
+    }
+
+    /**
+     * Creates the names of the entrants. An entrant whose type entered before gets its number appended.
+     *
+     * @param entrants strategy types of the entrants
+     * @return the names of the entrants
+     */
+    private static List<String> createEntrantNames(List<StrategyType> entrants) {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < entrants.size(); i++) {
+            int numOfEarlierEntries = 0;
+            for (int j = 0; j < i; j++) {
+                if (entrants.get(j) == entrants.get(i)) {
+                    numOfEarlierEntries++;
+                }
+            }
+            String name = entrants.get(i).getName();
+            names.add(numOfEarlierEntries == 0 ? name : name + (numOfEarlierEntries + 1));
+        }
+        return names;
+    }
+
+    /**
+     * Creates the schedule: every group of entrants in every rotation of its seats on every seed.
+     *
+     * @return the games in the order they are rated
+     */
+    public List<TournamentGame> createSchedule() {
+        List<TournamentGame> schedule = new ArrayList<>();
+        List<int[]> groups = new ArrayList<>();
+        collectGroups(new int[this.config.getPlayersPerGame()], 0, 0, groups);
+        for (int i = 0; i < this.config.getNumOfSeeds(); i++) {
+            long seed = this.config.getFirstSeed() + i;
+            for (int[] group : groups) {
+                for (int rotation = 0; rotation < group.length; rotation++) {
+                    int[] seating = new int[group.length];
+                    for (int seat = 0; seat < group.length; seat++) {
+                        seating[seat] = group[(seat + rotation) % group.length];
+                    }
+                    schedule.add(new TournamentGame(this.entrants, seating, this.config, seed));
+                }
+            }
+        }
+        return schedule;
+    }
+
+    /**
+     * Collects all groups of entrants of the game size in lexicographic order.
+     *
+     * @param group the group being filled
+     * @param size number of entrants already in the group
+     * @param next the smallest entrant that can join the group
+     * @param groups the list the complete groups are added to
+     */
+    private void collectGroups(int[] group, int size, int next, List<int[]> groups) {
+        if (size == group.length) {
+            groups.add(group.clone());
+            return;
+        }
+        for (int entrant = next; entrant <= this.entrants.size() - (group.length - size); entrant++) {
+            group[size] = entrant;
+            collectGroups(group, size + 1, entrant + 1, groups);
+        }
+    }
+
+    /**
+     * Plays all games of the schedule and waits until they are finished. The listener is called after each game
+     * has been rated, in the order of the schedule.
+     *
+     * @param listener receives each game after the ratings have been updated
+     * @return the ratings after all games
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     * @throws ExecutionException if a game fails with an unexpected exception
+     */
+    public EloRatings run(Consumer<GameRecord> listener) throws InterruptedException, ExecutionException {
+        ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+        try {
+            List<Future<GameRecord>> futures = new ArrayList<>();
+            for (TournamentGame game : createSchedule()) {
+                futures.add(pool.submit(game));
+            }
+            for (Future<GameRecord> future : futures) {
+                GameRecord record = future.get();
+                this.ratings.update(record);
+                listener.accept(record);
+            }
+            return this.ratings;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Gets the ratings of the entrants.
+     *
+     * @return the ratings
+     */
+    public EloRatings getRatings() {
+        return this.ratings;
+    }
+}
@@ -0,0 +1,91 @@
+package edu.kit.informatik.queensFarm.simulation;
+
+/**
+ * This class describes the set-up of a bot tournament: the size and the capitals of each game and the seeds that
+ * are played. Every group of bots plays on every seed, so all groups face the same land decks.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class TournamentConfig {
+    private final int playersPerGame;
+    private final int startCapital;
+    private final int winningCapital;
+    private final long firstSeed;
+    private final int numOfSeeds;
+    private final int maximumTurns;
+
+    /**
+     * Constructs a tournament config.
+     *
+     * @param playersPerGame number of players of each game
+     * @param startCapital start capital of each player
+     * @param winningCapital winning capital
+     * @param firstSeed the first seed used to shuffle the lands. The following seeds are consecutive
+     * @param numOfSeeds number of seeds each group plays on
+     * @param maximumTurns maximum number of turns before a game is ended like by command "quit"
+     */
+    public TournamentConfig(int playersPerGame, int startCapital, int winningCapital, long firstSeed, int numOfSeeds,
+                            int maximumTurns) {
+        this.playersPerGame = playersPerGame;
+        this.startCapital = startCapital;
+        this.winningCapital = winningCapital;
+        this.firstSeed = firstSeed;
+        this.numOfSeeds = numOfSeeds;
+        this.maximumTurns = maximumTurns;
+    }
+
+    /**
+     * Gets the number of players of each game.
+     *
+     * @return number of players of each game
+     */
+    public int getPlayersPerGame() {
+        return playersPerGame;
+    }
+
+    /**
+     * Gets the start capital of each player.
+     *
+     * @return start capital of each player
+     */
+    public int getStartCapital() {
+        return startCapital;
+    }
+
+    /**
+     * Gets the winning capital.
+     *
+     * @return winning capital
+     */
+    public int getWinningCapital() {
+        return winningCapital;
+    }
+
+    /**
+     * Gets the first seed used to shuffle the lands.
+     *
+     * @return the first seed
+     */
+    public long getFirstSeed() {
+        return firstSeed;
+    }
+
+    /**
+     * Gets the number of seeds each group plays on.
+     *
+     * @return number of seeds
+     */
+    public int getNumOfSeeds() {
+        return numOfSeeds;
+    }
+
+    /**
+     * Gets the maximum number of turns of a game.
+     *
+     * @return maximum number of turns
+     */
+    public int getMaximumTurns() {
+        return maximumTurns;
+    }
+}
@@ -0,0 +1,85 @@
+package edu.kit.informatik.queensFarm.simulation;
+
+import edu.kit.informatik.queensFarm.module.Farm;
+import edu.kit.informatik.queensFarm.module.bot.BotStrategy;
+import edu.kit.informatik.queensFarm.module.bot.StrategyType;
+import edu.kit.informatik.queensFarm.module.game.GameOver;
+import edu.kit.informatik.queensFarm.module.game.Player;
+import edu.kit.informatik.queensFarm.module.output.DiscardingOutputSink;
+import edu.kit.informatik.queensFarm.module.output.OutputSink;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * This class runs one game of a bot tournament, in which every seat is taken by a bot. The game is set up like an
+ * interactive game, so the seed shuffles the lands the same way.
+ *
+ * @author uyjad
+ * @version 1.0
+ */
+public class TournamentGame implements Callable<GameRecord> {
+    private final List<StrategyType> entrants;
+    private final int[] seating;
+    private final TournamentConfig config;
+    private final long seed;
+
+    /**
+     * Constructs a tournament game.
+     *
+     * @param entrants the strategy types of all entrants of the tournament
+     * @param seating the index of the entrant on each seat
+     * @param config set-up of the tournament
+     * @param seed seed used to shuffle the lands
+     */
+    public TournamentGame(List<StrategyType> entrants, int[] seating, TournamentConfig config, long seed) {
+        this.entrants = entrants;
+        this.seating = seating.clone();
+        this.config = config;
+        this.seed = seed;
+    }
+
+    /**
+     * Plays the game until it is over or the maximum number of turns is reached. Then it is ended like by command
+     * "quit". Each game gets new bots, since bots keep state while they search.
+     *
+     * @return the outcome of the game
+     */
+    @Override
+    public GameRecord call() {
+        OutputSink output = DiscardingOutputSink.INSTANCE;
+        Farm farm = new Farm(output);
+        List<Player> players = new ArrayList<>();
+        List<BotStrategy> bots = new ArrayList<>();
+        for (int seat = 0; seat < this.seating.length; seat++) {
+            StrategyType type = this.entrants.get(this.seating[seat]);
+            players.add(new Player(type.getName(), seat + 1, output));
+            bots.add(type.createStrategy());
+        }
+        farm.seatBots(bots);
+        farm.initiateGame(players, this.config.getStartCapital(), this.config.getWinningCapital(), players.size(),
+                this.seed);
+        while (farm.isBotTurn() && farm.getNumOfTurnsPlayed() < this.config.getMaximumTurns()) {
+            farm.playBotTurn();
+        }
+        if (!farm.isGameOver()) {
+            farm.endGameByQuit();
+        }
+
+        int[] finalGold = new int[players.size()];
+        for (int seat = 0; seat < players.size(); seat++) {
+            finalGold[seat] = players.get(seat).getTotalGold();
+        }
+        GameOver gameOver = new GameOver(players, this.config.getWinningCapital(), output);
+        List<Player> winners = gameOver.checkWinnerByWinningCapital();
+        if (winners.isEmpty()) {
+            winners = gameOver.checkWinnerByMaximumGold();
+        }
+        List<Integer> winnerIds = new ArrayList<>();
+        for (Player winner : winners) {
+            winnerIds.add(winner.getId());
+        }
+        return new GameRecord(this.seed, this.seating, finalGold, winnerIds, farm.getNumOfTurnsPlayed());
+    }
+}